@@ -3,6 +3,7 @@ package com.example.backend;
 import com.example.backend.config.CookieProperties;
 import com.example.backend.config.CorsProperties;
 import com.example.backend.config.OpsAdminProperties;
+import com.example.backend.config.SseProperties;
 import jakarta.annotation.PostConstruct;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -15,7 +16,8 @@ import java.util.TimeZone;
 @EnableConfigurationProperties({
 		CookieProperties.class,
 		CorsProperties.class,
-		OpsAdminProperties.class
+		OpsAdminProperties.class,
+		SseProperties.class
 })
 @SpringBootApplication
 public class BackendApplication {
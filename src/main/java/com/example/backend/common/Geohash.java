@@ -0,0 +1,104 @@
+package com.example.backend.common;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * geohash 인코딩 + 반경 검색용 셀 계산
+ * - 게시글 위치는 MAX_PRECISION 자리로 저장, 반경 검색은 앞자리(prefix) 범위 조회
+ */
+public final class Geohash {
+
+    public static final int MAX_PRECISION = 9;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private Geohash() {}
+
+    public static String encode(double lat, double lng, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder sb = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (sb.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (lng >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                sb.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 중심에서 radiusKm 안의 점을 모두 포함하는 셀 prefix 목록 (최대 9개)
+     * - 셀 가로/세로가 반경 이상인 가장 작은 셀 크기를 골라 중심 셀 + 주변 8칸
+     */
+    public static List<String> coverCells(double lat, double lng, double radiusKm) {
+        // 반경 안에서 가장 극에 가까운 위도 기준으로 가로 폭 계산 (셀이 가장 좁아지는 곳)
+        double farLat = Math.min(89.9, Math.abs(lat) + radiusKm / KM_PER_DEGREE);
+        double cosLat = Math.cos(Math.toRadians(farLat));
+
+        int precision = 1;
+        for (int p = MAX_PRECISION; p >= 1; p--) {
+            if (cellLatDegrees(p) * KM_PER_DEGREE >= radiusKm
+                    && cellLngDegrees(p) * KM_PER_DEGREE * cosLat >= radiusKm) {
+                precision = p;
+                break;
+            }
+        }
+
+        double dLat = cellLatDegrees(precision);
+        double dLng = cellLngDegrees(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int i = -1; i <= 1; i++) {
+            double la = lat + i * dLat;
+            if (la > 90 || la < -90) continue;
+            for (int j = -1; j <= 1; j++) {
+                cells.add(encode(la, wrapLng(lng + j * dLng), precision));
+            }
+        }
+        return new ArrayList<>(cells);
+    }
+
+    private static double cellLatDegrees(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    private static double cellLngDegrees(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    private static double wrapLng(double lng) {
+        if (lng >= 180) return lng - 360;
+        if (lng < -180) return lng + 360;
+        return lng;
+    }
+}
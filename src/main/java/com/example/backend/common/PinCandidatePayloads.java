@@ -0,0 +1,68 @@
+package com.example.backend.common;
+
+import com.example.backend.controller.message.dto.PinCandidateResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * messages.pin_candidate_json 직렬화
+ * - 감지 결과만 짧게 저장하고, candidateId/reasonTags 는 읽을 때 붙인다
+ */
+public final class PinCandidatePayloads {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final List<String> REASON_TAGS = List.of("rule_based");
+
+    private PinCandidatePayloads() {}
+
+    private record Stored(
+            String type,
+            String title,
+            String placeText,
+            LocalDateTime startAt,
+            LocalDateTime remindAt
+    ) {}
+
+    public static String encode(
+            String type,
+            String title,
+            String placeText,
+            LocalDateTime startAt,
+            LocalDateTime remindAt
+    ) {
+        try {
+            return MAPPER.writeValueAsString(new Stored(type, title, placeText, startAt, remindAt));
+        } catch (Exception e) {
+            throw new IllegalStateException("pin candidate serialize failed", e);
+        }
+    }
+
+    public static List<PinCandidateResponse> decode(UUID messageId, String json) {
+        if (json == null || json.isBlank()) return List.of();
+
+        try {
+            Stored s = MAPPER.readValue(json, Stored.class);
+            return List.of(new PinCandidateResponse(
+                    "msg:" + messageId,
+                    s.type(),
+                    s.title(),
+                    s.placeText(),
+                    s.startAt(),
+                    s.remindAt(),
+                    null,
+                    REASON_TAGS
+            ));
+        } catch (Exception e) {
+            // 깨진 값은 후보 없음으로 취급
+            return List.of();
+        }
+    }
+}
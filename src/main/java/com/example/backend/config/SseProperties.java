@@ -0,0 +1,113 @@
+package com.example.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sse")
+public class SseProperties {
+
+    /**
+     * 인스턴스 식별자 (비어 있으면 기동 시 hostname + 랜덤 suffix로 생성)
+     * 노드별 pub/sub 채널(sse:push:node:{nodeId}) 이름에 사용됩니다.
+     */
+    private String nodeId = "";
+
+    /**
+     * 연결 소유 디렉토리(sse:conn:{userId}) 항목 유효 시간(초)
+     * heartbeat 주기보다 충분히 길어야 정상 노드가 누락되지 않습니다.
+     */
+    private long directoryTtlSeconds = 90;
+
+    /**
+     * 디렉토리 갱신 주기(ms) - @Scheduled(fixedDelayString)에서 직접 참조
+     */
+    private long directoryRefreshMs = 30_000;
+
+    /**
+     * replay 저장소 구현: stream(Redis Streams, 기본) | list(구 Redis List)
+     */
+    private String eventStore = "stream";
+
+    /**
+     * 연결(emitter)당 송신 큐 최대 길이
+     */
+    private int sendQueueCapacity = 256;
+
+    /**
+     * 송신 큐를 비우는 전용 스레드 수
+     */
+    private int sendThreads = 4;
+
+    /**
+     * 송신 큐가 가득 찼을 때 처리 방식
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DISCONNECT;
+
+    /**
+     * 연결당 heartbeat(ping) 주기(ms)
+     * - 이 시간 안에 실제 이벤트가 나간 연결은 ping 생략
+     */
+    private long heartbeatIntervalMs = 25_000;
+
+    /**
+     * heartbeat timing wheel tick(ms) - slot 수 = interval / tick
+     */
+    private long heartbeatTickMs = 1_000;
+
+    /**
+     * playback 상태/presence 이벤트 합치기 window(ms), 0 이면 합치지 않음
+     */
+    private long playbackCoalesceWindowMs = 300;
+
+    /**
+     * 유저당 최대 연결(탭) 수, 0 이하면 제한 없음
+     * - 초과 시 가장 오래된 연결을 끊고 새 연결을 받음
+     */
+    private int maxConnectionsPerUser = 5;
+
+    /**
+     * 노드(인스턴스)당 최대 연결 수, 0 이하면 제한 없음
+     * - 초과 시 새 연결을 503(SSE_CONNECTION_LIMIT)으로 거절
+     */
+    private int maxConnectionsPerNode = 10_000;
+
+    /**
+     * 재연결 replay 를 나눠 보내는 chunk 크기 (앞 chunk 가 송신 큐에서 빠진 뒤 다음 chunk 를 넣음)
+     */
+    private int replayChunkSize = 20;
+
+    /**
+     * replay 최대 이벤트 수 - 넘으면 replay 대신 resync-required 전송
+     */
+    private int replayMaxEvents = 100;
+
+    /**
+     * replay 최대 payload 합계(byte) - 넘으면 replay 대신 resync-required 전송
+     */
+    private long replayMaxBytes = 256 * 1024;
+
+    /**
+     * replay 전용 스레드 수 (요청 스레드에서 replay 하지 않음)
+     */
+    private int replayThreads = 2;
+
+    /**
+     * 롤링 배포 전환 중에만 true: 노드별 채널 대신 구버전 방식(sse:push 전역 브로드캐스트)으로 발행
+     * - 구버전 노드에 연결된 유저는 디렉토리(sse:conn:*)에 없어서 노드별 라우팅으로는 못 받음
+     * - 새 노드도 sse:push 를 구독하므로 전환 중에는 모두 이 채널로 받음 (노드별 채널과 같이 보내면 새 노드에 중복)
+     * - 구버전 노드가 모두 빠지면 false 로 되돌림
+     */
+    private boolean legacyBroadcast = false;
+
+    public enum OverflowPolicy {
+        /** 연결을 끊는다. 클라이언트는 Last-Event-ID 로 재연결해 replay 로 복구 */
+        DISCONNECT,
+        /** 가장 오래된 대기 이벤트를 버리고 새 이벤트를 넣는다 */
+        DROP_OLDEST,
+        /** 새 이벤트를 버린다 */
+        DROP_NEWEST
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.backend.controller.message;
 
 import com.example.backend.domain.file.UploadedFile;
+import com.example.backend.domain.message.ArchivedMessage;
+import com.example.backend.domain.message.Message;
 import com.example.backend.domain.message.MessageAttachment;
 import com.example.backend.exception.BusinessException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.repository.file.UploadedFileRepository;
+import com.example.backend.repository.message.ArchivedMessageRepository;
 import com.example.backend.repository.message.ConversationMemberRepository;
 import com.example.backend.repository.message.MessageAttachmentRepository;
 import com.example.backend.repository.message.MessageRepository;
@@ -25,6 +28,7 @@ public class MessageAttachmentController {
 
     private final MessageAttachmentRepository attachmentRepository;
     private final MessageRepository messageRepository;
+    private final ArchivedMessageRepository archivedMessageRepository;
     private final ConversationMemberRepository memberRepository;
     private final UploadedFileRepository uploadedFileRepository;
     private final LocalStorageService storageService;
@@ -39,10 +43,14 @@ public class MessageAttachmentController {
         MessageAttachment att = attachmentRepository.findById(attachmentId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND));
 
-        var msg = messageRepository.findByIdAndDeletedFalse(att.getMessageId())
+        // ✅ 보관(archive)된 메시지의 첨부도 다운로드 가능
+        UUID conversationId = messageRepository.findByIdAndDeletedFalse(att.getMessageId())
+                .map(Message::getConversationId)
+                .or(() -> archivedMessageRepository.findByIdAndDeletedFalse(att.getMessageId())
+                        .map(ArchivedMessage::getConversationId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_NOT_FOUND));
 
-        if (!memberRepository.existsByConversationIdAndUserId(msg.getConversationId(), meId)) {
+        if (!memberRepository.existsByConversationIdAndUserId(conversationId, meId)) {
             throw new BusinessException(ErrorCode.MESSAGE_FORBIDDEN);
         }
 
@@ -1,5 +1,7 @@
 package com.example.backend.controller.message.dto;
 
+import com.example.backend.common.MediaPayloads;
+
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -33,5 +35,23 @@ public record MessageListResponse(
             String originalFilename,
             String contentType,
             long size
-    ) {}
+    ) {
+        // 목록 조회 / 최근 메시지 캐시가 같은 형태로 만들도록 한 곳에서 조립 (URL 은 상대 경로)
+        public static Attachment of(UUID fileId, String originalFilename, String contentType, Long size) {
+            String downloadUrl = "/api/files/" + fileId + "/download";
+            String mediaType = MediaPayloads.normalizeMediaType(contentType, null);
+            return new Attachment(
+                    fileId,
+                    mediaType,
+                    downloadUrl,
+                    downloadUrl,
+                    MediaPayloads.previewUrl(mediaType, downloadUrl),
+                    MediaPayloads.thumbnailUrl(mediaType, fileId, null),
+                    MediaPayloads.streamingUrl(mediaType, downloadUrl),
+                    originalFilename,
+                    contentType,
+                    size == null ? 0 : size
+            );
+        }
+    }
 }
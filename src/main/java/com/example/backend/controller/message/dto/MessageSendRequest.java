@@ -5,7 +5,15 @@ import jakarta.validation.constraints.Size;
 import java.util.List;
 import java.util.UUID;
 
+/**
+ * @param clientMessageKey 클라이언트가 만든 전송 키 (선택). 같은 키로 재시도하면 새 메시지를 만들지 않고 처음 응답을 돌려준다.
+ */
 public record MessageSendRequest(
         @Size(max = 5000) String content,
-        List<UUID> attachmentIds
-) {}
\ No newline at end of file
+        List<UUID> attachmentIds,
+        @Size(max = 64) String clientMessageKey
+) {
+    public MessageSendRequest(String content, List<UUID> attachmentIds) {
+        this(content, attachmentIds, null);
+    }
+}
@@ -31,10 +31,12 @@ public class FeedController {
     public FeedResponse nearby(
             @RequestParam double lat,
             @RequestParam double lng,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "30") int size,
             Authentication authentication
     ) {
         UUID meId = UUID.fromString(authentication.getName());
-        return feedService.getNearbyFeed(meId, lat, lng, size);
+        return feedService.getNearbyFeed(meId, lat, lng, radiusKm, cursor, size);
     }
 }
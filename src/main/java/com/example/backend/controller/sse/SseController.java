@@ -1,7 +1,7 @@
 package com.example.backend.controller.sse;
 
+import com.example.backend.service.sse.SseReplayService;
 import com.example.backend.sse.SseEmitterRegistry;
-import com.example.backend.sse.SseEventStore;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,7 +28,7 @@ import java.util.UUID;
 public class SseController {
 
     private final SseEmitterRegistry registry;
-    private final SseEventStore eventStore;
+    private final SseReplayService replayService;
 
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(
@@ -47,31 +47,20 @@ public class SseController {
         response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
 
         long timeout = 30L * 60 * 1000; // 30분
-        SseEmitter emitter = registry.register(meId, timeout);
+        // ✅ replay 가 있으면 live 프레임을 잡아 둔 채 등록 → replay 뒤에 나감 (순서 역전 방지)
+        boolean replaying = lastEventId != null && !lastEventId.isBlank();
+        SseEmitter emitter = registry.register(meId, timeout, replaying);
 
-        // 1) 연결 확인 이벤트
+        // 1) 연결 확인 이벤트 (이 연결에만, replay 보다 먼저)
         Map<String, Object> payload = new HashMap<>();
         payload.put("serverTime", LocalDateTime.now().toString());
         if (lastEventId != null) {
             payload.put("lastEventId", lastEventId);
         }
-        registry.send(meId, "connected", payload, null);
+        registry.sendTo(emitter, "connected", payload);
 
-        // 2) 누락 이벤트 replay (Last-Event-ID 이후)
-        try {
-            var missed = eventStore.replayAfter(meId, lastEventId);
-            for (var e : missed) {
-                registry.send(
-                        meId,
-                        e.name(),
-                        eventStore.payloadToMap(e.json()),
-                        e.id()
-                );
-            }
-        } catch (Exception ex) {
-            // replay 실패는 구독 자체를 실패시키지 않는 편이 UX에 좋음
-            log.warn("SSE replay failed. userId={} lastEventId={}", userId, lastEventId, ex);
-        }
+        // 2) 누락 이벤트 replay (Last-Event-ID 이후) - replay 전용 스레드에서 chunk 단위로, 끝나면 잡아 둔 live 프레임을 풀어줌
+        replayService.replayAsync(meId, emitter, lastEventId);
 
         return emitter;
     }
@@ -0,0 +1,100 @@
+package com.example.backend.domain.message;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * cold 보관 메시지 (messages_archive)
+ * - MessageArchiveService 가 오래된/삭제된 메시지를 id 그대로 옮겨 둔 것 → 읽기 전용
+ * - 컬럼은 Message 와 동일 + archivedAt
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "messages_archive",
+        indexes = @Index(name = "idx_messages_archive_conv_deleted_created_id",
+                columnList = "conversation_id, deleted, created_at, id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedMessage {
+
+    @Id
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "conversation_id", nullable = false)
+    private UUID conversationId;
+
+    @Column(name = "sender_id", nullable = false)
+    private UUID senderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MessageType type;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "metadata_json", columnDefinition = "TEXT")
+    private String metadataJson;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "session_id")
+    private UUID sessionId;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    @Column(name = "edited_at")
+    private LocalDateTime editedAt;
+
+    @Column(name = "pin_candidate_json", length = 1000)
+    private String pinCandidateJson;
+
+    @Column(name = "pin_scanned", nullable = false)
+    private boolean pinScanned;
+
+    @Column(name = "client_message_key", length = 64)
+    private String clientMessageKey;
+
+    @Column(name = "deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "update_at", nullable = false)
+    private LocalDateTime updateAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public static ArchivedMessage from(Message m, LocalDateTime archivedAt) {
+        ArchivedMessage a = new ArchivedMessage();
+        a.id = m.getId();
+        a.conversationId = m.getConversationId();
+        a.senderId = m.getSenderId();
+        a.type = m.getType();
+        a.content = m.getContent();
+        a.metadataJson = m.getMetadataJson();
+        a.lockedUntil = m.getLockedUntil();
+        a.sessionId = m.getSessionId();
+        a.deletedAt = m.getDeletedAt();
+        a.editedAt = m.getEditedAt();
+        a.pinCandidateJson = m.getPinCandidateJson();
+        a.pinScanned = m.isPinScanned();
+        a.clientMessageKey = m.getClientMessageKey();
+        a.deleted = m.isDeleted();
+        a.createdAt = m.getCreatedAt();
+        a.updateAt = m.getUpdateAt();
+        a.archivedAt = archivedAt;
+        return a;
+    }
+}
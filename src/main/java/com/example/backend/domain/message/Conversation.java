@@ -51,6 +51,10 @@ public class Conversation extends BaseEntity {
     @Column(name = "last_message_preview", length = 200)
     private String lastMessagePreview;
 
+    // cold(messages_archive)로 옮겨진 메시지 중 가장 최신 시각 (null 이면 보관된 메시지 없음)
+    @Column(name = "archived_until")
+    private LocalDateTime archivedUntil;
+
     private Conversation(ConversationType type, String title, UUID ownerId, UUID coverImageFileId) {
         this.type = type;
         this.title = title;
@@ -40,6 +40,14 @@ public class ConversationMember extends BaseEntity {
     @Column(name = "last_read_at")
     private LocalDateTime lastReadAt;
 
+    // 안읽은 메시지 수 (메시지 전송 시 증가, 읽음 처리 시 0 / 드리프트는 reconcile 작업이 보정)
+    @Column(name = "unread_count", nullable = false)
+    private int unreadCount = 0;
+
+    // unreadCount 에 반영된 가장 최신 메시지 시각 (이 시각 이후까지 읽었을 때만 0 으로 초기화)
+    @Column(name = "unread_counted_at")
+    private LocalDateTime unreadCountedAt;
+
     // ✅ DM Lock (per-user per-conversation)
     @Column(name = "lock_enabled", nullable = false)
     private boolean lockEnabled = false;
@@ -68,6 +76,10 @@ public class ConversationMember extends BaseEntity {
         this.lastReadAt = at;
     }
 
+    public void resetUnread() {
+        this.unreadCount = 0;
+    }
+
     public void enableLock(String passwordHash) {
         this.lockEnabled = true;
         this.lockPasswordHash = passwordHash;
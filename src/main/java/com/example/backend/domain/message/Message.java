@@ -18,6 +18,9 @@ import static lombok.AccessLevel.PROTECTED;
         name = "messages",
         indexes = {
                 @Index(name = "idx_message_conversation_created", columnList = "conversation_id, created_at")
+        },
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_messages_sender_client_key", columnNames = {"sender_id", "client_message_key"})
         }
 )
 public class Message extends BaseEntity {
@@ -56,6 +59,18 @@ public class Message extends BaseEntity {
     @Column(name = "edited_at")
     private LocalDateTime editedAt;
 
+    // 핀 후보 감지 결과 (작성/수정 시 한 번 계산, 후보 없으면 null)
+    @Column(name = "pin_candidate_json", length = 1000)
+    private String pinCandidateJson;
+
+    // 감지 완료 여부 (false 면 backfill 전 → 조회 시 즉석 감지)
+    @Column(name = "pin_scanned", nullable = false)
+    private boolean pinScanned;
+
+    // 클라이언트 전송 키 (재시도 멱등, 보낸 사람 기준 unique)
+    @Column(name = "client_message_key", length = 64)
+    private String clientMessageKey;
+
     private Message(
             UUID conversationId,
             UUID senderId,
@@ -106,6 +121,10 @@ public class Message extends BaseEntity {
         return new Message(conversationId, senderId, MessageType.SYSTEM, content, metadataJson, null, null);
     }
 
+    public void assignClientMessageKey(String clientMessageKey) {
+        this.clientMessageKey = clientMessageKey;
+    }
+
     public void deleteForAll(LocalDateTime now) {
         this.markDeleted();
         this.deletedAt = now;
@@ -114,5 +133,13 @@ public class Message extends BaseEntity {
     public void updateContent(String newContent, LocalDateTime now) {
         this.content = newContent;
         this.editedAt = now;
+        // 내용이 바뀌었으니 저장된 핀 후보는 무효
+        this.pinCandidateJson = null;
+        this.pinScanned = false;
+    }
+
+    public void updatePinCandidate(String pinCandidateJson) {
+        this.pinCandidateJson = pinCandidateJson;
+        this.pinScanned = true;
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.example.backend.domain.message.event;
+
+import java.util.UUID;
+
+/**
+ * 대화방 멤버십/잠금 상태 변경 (초대, 내보내기, 생성, 잠금 설정/해제)
+ * - 커밋 후 접근 캐시(ConversationAccessCache) 무효화에 사용
+ */
+public record ConversationAccessChangedEvent(
+        UUID conversationId,
+        UUID userId
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.backend.domain.message.event;
+
+import java.util.UUID;
+
+/**
+ * 나만 삭제(숨김)
+ * - 커밋 후 최근 메시지 캐시(RecentMessageCache)의 사용자별 숨김 목록에 반영
+ */
+public record MessageHiddenEvent(
+        UUID messageId,
+        UUID conversationId,
+        UUID userId
+) {
+}
@@ -1,5 +1,6 @@
 package com.example.backend.domain.post;
 
+import com.example.backend.common.Geohash;
 import com.example.backend.domain.BaseEntity;
 import com.example.backend.domain.file.UploadedFile;
 import jakarta.persistence.*;
@@ -16,7 +17,9 @@ import static lombok.AccessLevel.PROTECTED;
 @Entity
 @Getter
 @NoArgsConstructor(access = PROTECTED)
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_geohash", columnList = "geohash")
+})
 public class Post extends BaseEntity {
 
     @Id
@@ -51,6 +54,10 @@ public class Post extends BaseEntity {
     @Column(name = "place_name", length = 120)
     private String placeName;
 
+    // 근처 피드 반경 검색용 (위치에서 계산, prefix 범위 조회)
+    @Column(name = "geohash", length = 12)
+    private String geohash;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("sortOrder ASC")
     private final List<PostImage> images = new ArrayList<>();
@@ -95,6 +102,7 @@ public class Post extends BaseEntity {
         if (latitude != null && longitude != null && isValidCoordinate(latitude, longitude)) {
             this.latitude = latitude;
             this.longitude = longitude;
+            assignGeohash();
         }
         if (placeName != null) {
             String value = placeName.trim();
@@ -102,6 +110,12 @@ public class Post extends BaseEntity {
         }
     }
 
+    /** 위치 → geohash (기존 게시글 backfill 에서도 사용) */
+    public void assignGeohash() {
+        if (latitude == null || longitude == null) return;
+        this.geohash = Geohash.encode(latitude, longitude, Geohash.MAX_PRECISION);
+    }
+
     private boolean isValidCoordinate(Double latitude, Double longitude) {
         return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
     }
@@ -0,0 +1,18 @@
+package com.example.backend.domain.post.event;
+
+import com.example.backend.domain.post.PostVisibility;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 작성
+ * - 커밋 후 팔로잉 타임라인(HomeTimeline) fan-out 에 사용
+ */
+public record PostCreatedEvent(
+        UUID postId,
+        UUID authorId,
+        PostVisibility visibility,
+        LocalDateTime createdAt
+) {
+}
@@ -1,15 +1,32 @@
 package com.example.backend.domain.user;
 
 public enum FollowerTier {
-    NONE,
-    SILVER,
-    GOLD,
-    PLATINUM;
+    NONE(0),
+    SILVER(100_000),
+    GOLD(500_000),
+    PLATINUM(1_000_000);
+
+    private final long minFollowers;
+
+    FollowerTier(long minFollowers) {
+        this.minFollowers = minFollowers;
+    }
+
+    public long getMinFollowers() {
+        return minFollowers;
+    }
+
+    /**
+     * 팔로워가 많아 글 작성 시 팔로워 타임라인에 밀어 넣지 않고, 읽을 때 작성자 타임라인에서 당겨오는 등급
+     */
+    public boolean isPullOnRead() {
+        return minFollowers >= GOLD.minFollowers;
+    }
 
     public static FollowerTier of(long followerCount) {
-        if (followerCount >= 1_000_000) return PLATINUM;
-        if (followerCount >= 500_000) return GOLD;
-        if (followerCount >= 100_000) return SILVER;
+        if (followerCount >= PLATINUM.minFollowers) return PLATINUM;
+        if (followerCount >= GOLD.minFollowers) return GOLD;
+        if (followerCount >= SILVER.minFollowers) return SILVER;
         return NONE;
     }
 }
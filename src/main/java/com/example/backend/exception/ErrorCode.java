@@ -33,6 +33,7 @@ public enum ErrorCode {
     MESSAGE_CONVERSATION_NOT_FOUND(HttpStatus.NOT_FOUND, "MESSAGE_CONVERSATION_NOT_FOUND", "대화방을 찾을 수 없습니다."),
     MESSAGE_FORBIDDEN(HttpStatus.FORBIDDEN, "MESSAGE_FORBIDDEN", "대화방에 접근할 수 없습니다."),
     MESSAGE_EMPTY(HttpStatus.BAD_REQUEST, "MESSAGE_EMPTY", "내용 또는 첨부파일 중 하나는 필수입니다."),
+    MESSAGE_SEND_IN_PROGRESS(HttpStatus.CONFLICT, "MESSAGE_SEND_IN_PROGRESS", "같은 메시지를 전송 중입니다. 잠시 후 다시 시도해 주세요."),
 
     // Conversation
     CONVERSATION_NOT_FOUND(HttpStatus.NOT_FOUND, "MESSAGE_CONVERSATION_NOT_FOUND", "대화방을 찾을 수 없습니다."),
@@ -56,6 +57,9 @@ public enum ErrorCode {
     COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "COMMENT_NOT_FOUND", "댓글을 찾을 수 없습니다."),
     COMMENT_NOT_OWNED(HttpStatus.FORBIDDEN, "COMMENT_NOT_OWNED", "본인 댓글만 삭제할 수 있습니다."),
 
+    // SSE
+    SSE_CONNECTION_LIMIT(HttpStatus.SERVICE_UNAVAILABLE, "SSE_CONNECTION_LIMIT", "실시간 연결이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     // Playback
     PLAYBACK_SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "PLAYBACK_SESSION_NOT_FOUND", "공동 플레이 세션을 찾을 수 없습니다."),
     PLAYBACK_SESSION_HOST_ONLY(HttpStatus.FORBIDDEN, "PLAYBACK_SESSION_HOST_ONLY", "세션 호스트만 재생 상태를 변경할 수 있습니다."),
@@ -17,6 +17,7 @@ public record AdminDashboardResponse(
         Totals totals,
         Recent recent,
         Insights insights,
+        List<CacheStat> caches,
         List<String> notes
 ) {
     public record Overview(
@@ -77,6 +78,15 @@ public record AdminDashboardResponse(
     ) {
     }
 
+    public record CacheStat(
+            String name,
+            long hits,
+            long misses,
+            int hitRatio,
+            int size
+    ) {
+    }
+
     public record NotificationTypeCount(
             NotificationType type,
             long count,
@@ -12,6 +12,11 @@ public record RealtimeHealthResponse(
         LocalDateTime lastSseFailureAt,
         String lastSseFailureMessage,
         long sseFailureCount,
+        long sseQueuedEvents,
+        long sseDroppedEventCount,
+        long sseOverflowDisconnectCount,
+        long sseRejectedConnectionCount,
+        long sseEvictedConnectionCount,
         LocalDateTime lastNotificationCreatedAt,
         LocalDateTime lastMessageNotificationCreatedAt,
         LocalDateTime lastPinRemindNotificationCreatedAt,
@@ -15,6 +15,8 @@ import com.example.backend.repository.notification.NotificationRepository;
 import com.example.backend.repository.pin.ConversationPinRepository;
 import com.example.backend.repository.post.PostRepository;
 import com.example.backend.repository.user.UserRepository;
+import com.example.backend.service.message.ConversationAccessCache;
+import com.example.backend.service.message.RecentMessageCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
@@ -42,6 +44,8 @@ public class AdminDashboardService {
     private final MessageRepository messageRepository;
     private final ConversationPinRepository conversationPinRepository;
     private final NotificationRepository notificationRepository;
+    private final ConversationAccessCache conversationAccessCache;
+    private final RecentMessageCache recentMessageCache;
 
     @Value("${spring.application.name:reallife-backend}")
     private String appName;
@@ -167,6 +171,7 @@ public class AdminDashboardService {
                         opsFocusTitle,
                         opsFocusReason
                 ),
+                buildCacheStats(),
                 notes
         );
     }
@@ -205,6 +210,30 @@ public class AdminDashboardService {
                 .toList();
     }
 
+    private List<AdminDashboardResponse.CacheStat> buildCacheStats() {
+        return List.of(
+                cacheStat(
+                        "conversationAccess",
+                        conversationAccessCache.getHitCount(),
+                        conversationAccessCache.getMissCount(),
+                        conversationAccessCache.size()
+                ),
+                // size = 캐싱 중인 대화방 창 수
+                cacheStat(
+                        "recentMessages",
+                        recentMessageCache.getHitCount(),
+                        recentMessageCache.getMissCount(),
+                        recentMessageCache.size()
+                )
+        );
+    }
+
+    private AdminDashboardResponse.CacheStat cacheStat(String name, long hits, long misses, int size) {
+        long total = hits + misses;
+        int hitRatio = total == 0 ? 0 : (int) Math.round((hits * 100.0) / total);
+        return new AdminDashboardResponse.CacheStat(name, hits, misses, hitRatio, size);
+    }
+
     private String unreadPressure(long unreadNotifications) {
         if (unreadNotifications >= 50) return "HIGH";
         if (unreadNotifications >= 10) return "MEDIUM";
@@ -28,6 +28,8 @@ public class RealtimeHealthService {
         LocalDateTime lastFailureAt = sseHealthTracker.getLastFailureAt();
         String lastFailureMessage = sseHealthTracker.getLastFailureMessage();
         long failureCount = sseHealthTracker.getFailureCount();
+        long rejectedCount = sseHealthTracker.getRejectedConnectionCount();
+        long evictedCount = sseHealthTracker.getEvictedConnectionCount();
         LocalDateTime lastNotificationAt = notificationHealthTracker.getLastCreatedAt();
         LocalDateTime lastMessageNotificationAt =
                 notificationHealthTracker.getLastCreatedAt(NotificationType.MESSAGE_RECEIVED);
@@ -59,6 +61,14 @@ public class RealtimeHealthService {
             }
         }
 
+        if (rejectedCount > 0) {
+            notes.add("노드 연결 상한으로 거절된 SSE 연결 수: " + rejectedCount);
+        }
+
+        if (evictedCount > 0) {
+            notes.add("유저 연결 상한으로 정리된 SSE 연결 수: " + evictedCount);
+        }
+
         if (lastFailureAt != null) {
             status = HealthStatus.DOWN;
             notes.add("마지막 SSE 처리 중 오류가 발생했습니다.");
@@ -76,6 +86,11 @@ public class RealtimeHealthService {
                 lastFailureAt,
                 lastFailureMessage,
                 failureCount,
+                sseHealthTracker.getQueuedEvents(),
+                sseHealthTracker.getDroppedEventCount(),
+                sseHealthTracker.getOverflowDisconnectCount(),
+                rejectedCount,
+                evictedCount,
                 lastNotificationAt,
                 lastMessageNotificationAt,
                 lastPinRemindNotificationAt,
@@ -17,6 +17,14 @@ public class SseHealthTracker {
     private final AtomicReference<LocalDateTime> lastFailureAt = new AtomicReference<>(null);
     private final AtomicReference<String> lastFailureMessage = new AtomicReference<>(null);
     private final AtomicLong failureCount = new AtomicLong(0);
+    private final AtomicLong queuedEvents = new AtomicLong(0);
+    private final AtomicLong droppedEventCount = new AtomicLong(0);
+    private final AtomicLong overflowDisconnectCount = new AtomicLong(0);
+    private final AtomicLong rejectedConnectionCount = new AtomicLong(0);
+    private final AtomicLong evictedConnectionCount = new AtomicLong(0);
+    private final AtomicLong envelopeCount = new AtomicLong(0);
+    private final AtomicLong envelopeBytesTotal = new AtomicLong(0);
+    private final AtomicLong envelopeDecodeNanosTotal = new AtomicLong(0);
 
     public void onConnected() {
         activeConnections.incrementAndGet();
@@ -43,6 +51,42 @@ public class SseHealthTracker {
         failureCount.incrementAndGet();
     }
 
+    // ✅ 송신 큐 (SseEmitterRegistry 연결별 bounded queue 합계)
+    public void onQueued() {
+        queuedEvents.incrementAndGet();
+    }
+
+    public void onDequeued(int count) {
+        long updated = queuedEvents.addAndGet(-count);
+        if (updated < 0) {
+            queuedEvents.set(0);
+        }
+    }
+
+    public void onDropped(int count) {
+        droppedEventCount.addAndGet(count);
+    }
+
+    public void onOverflowDisconnected() {
+        overflowDisconnectCount.incrementAndGet();
+    }
+
+    // ✅ 연결 admission (노드 상한 거절 / 유저 상한 초과로 밀려난 연결)
+    public void onConnectionRejected() {
+        rejectedConnectionCount.incrementAndGet();
+    }
+
+    public void onConnectionEvicted() {
+        evictedConnectionCount.incrementAndGet();
+    }
+
+    // ✅ 노드 간 pub/sub envelope 크기 / 디코딩 비용
+    public void onEnvelopeDecoded(int bytes, long decodeNanos) {
+        envelopeCount.incrementAndGet();
+        envelopeBytesTotal.addAndGet(bytes);
+        envelopeDecodeNanosTotal.addAndGet(decodeNanos);
+    }
+
     public int getActiveConnections() {
         return activeConnections.get();
     }
@@ -71,6 +115,40 @@ public class SseHealthTracker {
         return failureCount.get();
     }
 
+    public long getQueuedEvents() {
+        return queuedEvents.get();
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    public long getOverflowDisconnectCount() {
+        return overflowDisconnectCount.get();
+    }
+
+    public long getRejectedConnectionCount() {
+        return rejectedConnectionCount.get();
+    }
+
+    public long getEvictedConnectionCount() {
+        return evictedConnectionCount.get();
+    }
+
+    public long getEnvelopeCount() {
+        return envelopeCount.get();
+    }
+
+    public long getAvgEnvelopeBytes() {
+        long count = envelopeCount.get();
+        return count == 0 ? 0 : envelopeBytesTotal.get() / count;
+    }
+
+    public long getAvgEnvelopeDecodeNanos() {
+        long count = envelopeCount.get();
+        return count == 0 ? 0 : envelopeDecodeNanosTotal.get() / count;
+    }
+
     public void reset() {
         activeConnections.set(0);
         lastRegisteredAt.set(null);
@@ -79,6 +157,14 @@ public class SseHealthTracker {
         lastFailureAt.set(null);
         lastFailureMessage.set(null);
         failureCount.set(0);
+        queuedEvents.set(0);
+        droppedEventCount.set(0);
+        overflowDisconnectCount.set(0);
+        rejectedConnectionCount.set(0);
+        evictedConnectionCount.set(0);
+        envelopeCount.set(0);
+        envelopeBytesTotal.set(0);
+        envelopeDecodeNanosTotal.set(0);
     }
 
     private static String toSafeMessage(Exception exception) {
@@ -2,11 +2,15 @@ package com.example.backend.repository.comment;
 
 import com.example.backend.controller.comment.dto.CommentListItem;
 import com.example.backend.domain.comment.Comment;
+import com.example.backend.repository.like.LikeCountRow;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -112,6 +116,55 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
             Pageable pageable
     );
 
+    /**
+     * 좋아요 수 증감 반영 (LikeCountAggregator flush), 0 아래로 내려가지 않음
+     */
+    @Modifying
+    @Query("""
+        update Comment c
+           set c.likeCount = case when c.likeCount + :delta < 0 then 0 else c.likeCount + :delta end
+         where c.id = :commentId
+    """)
+    int addLikeCount(@Param("commentId") UUID commentId, @Param("delta") long delta);
+
+    // 좋아요 수 reconcile 용 keyset 순회 (저장값 + 실제 좋아요 row 수)
+    @Query("""
+        select new com.example.backend.repository.like.LikeCountRow(
+            c.id,
+            c.likeCount,
+            (select count(l) from CommentLike l where l.commentId = c.id)
+        )
+        from Comment c
+        where c.deleted = false
+          and c.id > :afterId
+        order by c.id asc
+    """)
+    List<LikeCountRow> findLikeCountsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    // 좋아요 수 reconcile 재확인용
+    @Query("""
+        select new com.example.backend.repository.like.LikeCountRow(
+            c.id,
+            c.likeCount,
+            (select count(l) from CommentLike l where l.commentId = c.id)
+        )
+        from Comment c
+        where c.id in :ids
+    """)
+    List<LikeCountRow> findLikeCountsIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 좋아요 수 reconcile: 확인한 뒤로 값이 바뀌지 않았을 때만 교체 (그 사이 반영된 증감을 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query("""
+        update Comment c
+           set c.likeCount = :actual
+         where c.id = :commentId
+           and c.likeCount = :current
+    """)
+    int reconcileLikeCount(@Param("commentId") UUID commentId, @Param("current") long current, @Param("actual") long actual);
+
     long countByDeletedFalse();
     long countByDeletedFalseAndCreatedAtAfter(LocalDateTime createdAt);
 }
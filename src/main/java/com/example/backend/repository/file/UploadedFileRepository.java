@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,6 +15,9 @@ public interface UploadedFileRepository extends JpaRepository<UploadedFile, UUID
 
     Optional<UploadedFile> findByIdAndDeletedFalse(UUID id);
 
+    // ✅ 첨부 여러 개를 IN 한 번으로 조회 (순서 보장 안 됨)
+    List<UploadedFile> findAllByIdInAndDeletedFalse(Collection<UUID> ids);
+
     // ✅ 고아 파일(GC) 조회: 프로필/게시글 어디에도 참조되지 않는 파일
     @Query("""
     select f
@@ -1,6 +1,7 @@
 package com.example.backend.repository.follow;
 
 import com.example.backend.domain.follow.Follow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -32,4 +33,33 @@ public interface FollowRepository extends JpaRepository<Follow, UUID> {
             @Param("meId") UUID meId,
             @Param("targetIds") List<UUID> targetIds
     );
-}
\ No newline at end of file
+
+    // 타임라인 fan-out: followerId 순 keyset 으로 팔로워를 나눠 읽음
+    @Query("""
+        select f.followerId
+        from Follow f
+        where f.followingId = :followingId
+          and f.deleted = false
+          and f.followerId > :after
+        order by f.followerId
+    """)
+    List<UUID> findFollowerIdsAfter(
+            @Param("followingId") UUID followingId,
+            @Param("after") UUID after,
+            Pageable pageable
+    );
+
+    // 타임라인 pull-on-read: 내가 팔로우하는 사람 중 팔로워 수가 기준 이상인 작성자
+    @Query("""
+        select f.followingId
+        from Follow f, User u
+        where u.id = f.followingId
+          and f.followerId = :meId
+          and f.deleted = false
+          and u.followerCount >= :minFollowers
+    """)
+    List<UUID> findFollowingIdsWithMinFollowers(
+            @Param("meId") UUID meId,
+            @Param("minFollowers") long minFollowers
+    );
+}
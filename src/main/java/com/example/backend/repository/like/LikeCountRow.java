@@ -0,0 +1,13 @@
+package com.example.backend.repository.like;
+
+import java.util.UUID;
+
+/**
+ * 좋아요 수 reconcile 용: 저장된 like_count 와 좋아요 row 수
+ */
+public record LikeCountRow(UUID id, long stored, long actual) {
+
+    public boolean drifted() {
+        return stored != actual;
+    }
+}
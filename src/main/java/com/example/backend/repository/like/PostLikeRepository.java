@@ -1,7 +1,10 @@
 package com.example.backend.repository.like;
 
 import com.example.backend.domain.like.PostLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
@@ -16,4 +19,8 @@ public interface PostLikeRepository extends JpaRepository<PostLike, UUID> {
 
     // ✅ 피드에서 likedByMe를 한번에 계산하기 위한 배치 조회
     List<PostLike> findAllByUserIdAndPostIdIn(UUID userId, Collection<UUID> postIds);
+
+    // 사용자별 좋아요 상태 캐시(PostLikeState) 재구성용
+    @Query("select pl.postId from PostLike pl where pl.userId = :userId")
+    List<UUID> findPostIdsByUserId(@Param("userId") UUID userId, Pageable pageable);
 }
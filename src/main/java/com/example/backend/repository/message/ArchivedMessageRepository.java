@@ -0,0 +1,12 @@
+package com.example.backend.repository.message;
+
+import com.example.backend.domain.message.ArchivedMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ArchivedMessageRepository extends JpaRepository<ArchivedMessage, UUID> {
+
+    Optional<ArchivedMessage> findByIdAndDeletedFalse(UUID id);
+}
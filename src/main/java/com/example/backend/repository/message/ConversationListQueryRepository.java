@@ -16,5 +16,9 @@ public interface ConversationListQueryRepository {
             int sizePlusOne
     );
 
-    Map<UUID, Long> fetchUnreadCounts(UUID meId, List<UUID> conversationIds);
+    /**
+     * 멤버별 실제 안읽은 메시지 수 (unread_count reconcile 용, 0 인 멤버는 결과에 없음)
+     * - upTo 이하 시각의 메시지만 센다 (아직 반영 전인 최근 증가분 제외)
+     */
+    Map<UUID, Long> countUnreadByMemberIds(List<UUID> memberIds, LocalDateTime upTo);
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package com.example.backend.repository.message;
 
 import com.example.backend.domain.message.QConversation;
 import com.example.backend.domain.message.QConversationMember;
+import com.example.backend.domain.message.QArchivedMessage;
+import com.example.backend.domain.message.QMessage;
+import com.example.backend.domain.message.QMessageHidden;
 import com.example.backend.domain.user.QUser;
 import com.example.backend.repository.message.dto.ConversationListRow;
 import com.querydsl.core.Tuple;
@@ -9,6 +12,7 @@ import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.stereotype.Repository;
 
@@ -64,7 +68,8 @@ public class ConversationListQueryRepositoryImpl implements ConversationListQuer
                         Expressions.nullExpression(String.class),
                         c.lastMessagePreview,
                         c.lastMessageAt,
-                        sortAt
+                        sortAt,
+                        m.unreadCount
                 ))
                 .from(m)
                 .join(c).on(c.id.eq(m.conversationId))
@@ -82,37 +87,58 @@ public class ConversationListQueryRepositoryImpl implements ConversationListQuer
     }
 
     @Override
-    public Map<UUID, Long> fetchUnreadCounts(UUID meId, List<UUID> conversationIds) {
-        if (conversationIds == null || conversationIds.isEmpty()) return Map.of();
+    public Map<UUID, Long> countUnreadByMemberIds(List<UUID> memberIds, LocalDateTime upTo) {
+        if (memberIds == null || memberIds.isEmpty()) return Map.of();
 
-        com.example.backend.domain.message.QConversationMember m = com.example.backend.domain.message.QConversationMember.conversationMember;
-        com.example.backend.domain.message.QMessage msg = com.example.backend.domain.message.QMessage.message;
-
-        LocalDateTime epoch = LocalDateTime.of(1970, 1, 1, 0, 0);
+        QConversationMember m = QConversationMember.conversationMember;
+        QMessage msg = QMessage.message;
+        QMessageHidden h = QMessageHidden.messageHidden;
 
         List<Tuple> tuples = queryFactory
-                .select(msg.conversationId, msg.count())
-                .from(msg)
-                .join(m).on(m.conversationId.eq(msg.conversationId).and(m.userId.eq(meId)))
+                .select(m.id, msg.count())
+                .from(m)
+                .join(msg).on(msg.conversationId.eq(m.conversationId))
                 .where(
-                        msg.conversationId.in(conversationIds),
+                        m.id.in(memberIds),
                         msg.deleted.isFalse(),
-                        msg.senderId.ne(meId),
-                        msg.createdAt.gt(
-                                Expressions.dateTimeTemplate(
-                                        LocalDateTime.class,
-                                        "coalesce({0}, {1})",
-                                        m.lastReadAt,
-                                        Expressions.constant(epoch)
-                                )
-                        )
+                        msg.senderId.ne(m.userId),
+                        msg.createdAt.loe(upTo),
+                        m.lastReadAt.isNull().or(msg.createdAt.gt(m.lastReadAt)),
+                        JPAExpressions.selectOne()
+                                .from(h)
+                                .where(h.messageId.eq(msg.id), h.userId.eq(m.userId))
+                                .notExists()
                 )
-                .groupBy(msg.conversationId)
+                .groupBy(m.id)
                 .fetch();
 
         Map<UUID, Long> result = new HashMap<>();
         for (Tuple t : tuples) {
-            result.put(t.get(msg.conversationId), t.get(msg.count()));
+            result.put(t.get(m.id), t.get(msg.count()));
+        }
+
+        // ✅ cold 로 옮겨진 메시지도 아직 안 읽었으면 포함 (보관 이동으로 안읽은 수가 줄지 않게)
+        QArchivedMessage am = QArchivedMessage.archivedMessage;
+        List<Tuple> archived = queryFactory
+                .select(m.id, am.count())
+                .from(m)
+                .join(am).on(am.conversationId.eq(m.conversationId))
+                .where(
+                        m.id.in(memberIds),
+                        am.deleted.isFalse(),
+                        am.senderId.ne(m.userId),
+                        am.createdAt.loe(upTo),
+                        m.lastReadAt.isNull().or(am.createdAt.gt(m.lastReadAt)),
+                        JPAExpressions.selectOne()
+                                .from(h)
+                                .where(h.messageId.eq(am.id), h.userId.eq(m.userId))
+                                .notExists()
+                )
+                .groupBy(m.id)
+                .fetch();
+
+        for (Tuple t : archived) {
+            result.merge(t.get(m.id), t.get(am.count()), Long::sum);
         }
         return result;
     }
@@ -1,6 +1,7 @@
 package com.example.backend.repository.message;
 
 import com.example.backend.domain.message.ConversationMember;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -20,22 +21,190 @@ public interface ConversationMemberRepository extends JpaRepository<Conversation
     @Query("select m.userId from ConversationMember m where m.conversationId = :conversationId")
     List<UUID> findUserIdsByConversationId(UUID conversationId);
 
+    /**
+     * 읽음 위치 반영 (ReadReceiptCoalescer flush)
+     * - 이미 더 뒤까지 읽었으면 갱신하지 않음 (flush 순서가 뒤바뀌어도 안전)
+     * - 안읽은 수는 readAt 이 반영된 가장 최신 메시지 이후일 때만 0 (아니면 setUnreadIfCountedAt 으로 다시 셈)
+     */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
         update ConversationMember m
-           set m.lastReadAt = :readAt
+           set m.lastReadAt = :readAt,
+               m.unreadCount = case
+                   when m.unreadCountedAt is null or m.unreadCountedAt <= :readAt then 0
+                   else m.unreadCount
+               end
          where m.conversationId = :conversationId
            and m.userId = :userId
            and m.deleted = false
            and (m.lastReadAt is null or m.lastReadAt < :readAt)
     """)
-    int updateLastReadAtIfLater(
+    int markReadIfLater(
             @Param("conversationId") UUID conversationId,
             @Param("userId") UUID userId,
             @Param("readAt") LocalDateTime readAt
     );
 
+    /**
+     * 명시적 읽음 처리 위치 반영 (ReadReceiptCoalescer flush, 읽음 SSE 발행 여부 판단용)
+     * - last_read_message_id 는 명시적 읽음 처리만 갱신 → 목록 조회 자동 읽음이 last_read_at 을 먼저 옮겨도 읽음 SSE 가 빠지지 않음
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update ConversationMember m
+           set m.lastReadMessageId = :messageId
+         where m.conversationId = :conversationId
+           and m.userId = :userId
+           and m.deleted = false
+           and (m.lastReadMessageId is null or m.lastReadMessageId <> :messageId)
+    """)
+    int markBroadcastRead(
+            @Param("conversationId") UUID conversationId,
+            @Param("userId") UUID userId,
+            @Param("messageId") UUID messageId
+    );
+
+    /**
+     * 읽음 위치 이후에 반영된 메시지가 있어 0 으로 초기화하지 못한 멤버의 안읽은 수를 다시 센 값으로 교체
+     * - 그 사이 더 최신 메시지가 반영됐으면(unreadCountedAt 변경) 건너뜀
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        update ConversationMember m
+           set m.unreadCount = :count
+         where m.conversationId = :conversationId
+           and m.userId = :userId
+           and m.deleted = false
+           and m.unreadCountedAt = :countedAt
+    """)
+    int setUnreadIfCountedAt(
+            @Param("conversationId") UUID conversationId,
+            @Param("userId") UUID userId,
+            @Param("count") int count,
+            @Param("countedAt") LocalDateTime countedAt
+    );
+
     @Query("select m from ConversationMember m where m.conversationId = :conversationId and m.deleted = false")
     List<ConversationMember> findActiveMembers(@Param("conversationId") UUID conversationId);
 
+    /**
+     * 보낸 사람을 제외한 멤버의 안읽은 수 증가 (UnreadCounterUpdater flush)
+     * - 묶음의 가장 오래된 메시지(earliestAt)보다 앞까지만 읽은 멤버 → 묶음 전체를 더함
+     * - 묶음 중간까지 읽은 멤버는 incrementUnreadReadBetween 으로 메시지 시각별로 더함
+     */
+    @Modifying
+    @Query("""
+        update ConversationMember m
+           set m.unreadCount = m.unreadCount + :count,
+               m.unreadCountedAt = case
+                   when m.unreadCountedAt is null or m.unreadCountedAt < :latestAt then :latestAt
+                   else m.unreadCountedAt
+               end
+         where m.conversationId = :conversationId
+           and m.userId <> :senderId
+           and m.deleted = false
+           and (m.lastReadAt is null or m.lastReadAt < :earliestAt)
+    """)
+    int incrementUnread(
+            @Param("conversationId") UUID conversationId,
+            @Param("senderId") UUID senderId,
+            @Param("count") int count,
+            @Param("earliestAt") LocalDateTime earliestAt,
+            @Param("latestAt") LocalDateTime latestAt
+    );
+
+    /**
+     * 묶음 중 messageAt 시각 메시지들의 안읽은 수 증가 (읽음 위치가 [readFrom, messageAt) 인 멤버만)
+     * - readFrom = 묶음의 가장 오래된 메시지 시각 (그보다 앞까지 읽은 멤버는 incrementUnread 가 이미 더함)
+     */
+    @Modifying
+    @Query("""
+        update ConversationMember m
+           set m.unreadCount = m.unreadCount + :count,
+               m.unreadCountedAt = case
+                   when m.unreadCountedAt is null or m.unreadCountedAt < :messageAt then :messageAt
+                   else m.unreadCountedAt
+               end
+         where m.conversationId = :conversationId
+           and m.userId <> :senderId
+           and m.deleted = false
+           and m.lastReadAt >= :readFrom
+           and m.lastReadAt < :messageAt
+    """)
+    int incrementUnreadReadBetween(
+            @Param("conversationId") UUID conversationId,
+            @Param("senderId") UUID senderId,
+            @Param("count") int count,
+            @Param("readFrom") LocalDateTime readFrom,
+            @Param("messageAt") LocalDateTime messageAt
+    );
+
+    /**
+     * 메시지 모두 삭제 시: 아직 그 메시지를 읽지 않은 다른 멤버의 안읽은 수 감소
+     * - 이미 숨긴 멤버는 숨길 때 감소했으므로 제외
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update ConversationMember m
+           set m.unreadCount = m.unreadCount - 1
+         where m.conversationId = :conversationId
+           and m.userId <> :senderId
+           and m.deleted = false
+           and m.unreadCount > 0
+           and (m.lastReadAt is null or m.lastReadAt < :messageCreatedAt)
+           and not exists (
+               select 1 from MessageHidden h
+                where h.messageId = :messageId
+                  and h.userId = m.userId
+           )
+    """)
+    int decrementUnreadForOthers(
+            @Param("conversationId") UUID conversationId,
+            @Param("senderId") UUID senderId,
+            @Param("messageId") UUID messageId,
+            @Param("messageCreatedAt") LocalDateTime messageCreatedAt
+    );
+
+    /**
+     * 나만 삭제(숨김) 시: 그 메시지를 아직 안 읽었으면 내 안읽은 수 감소
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update ConversationMember m
+           set m.unreadCount = m.unreadCount - 1
+         where m.conversationId = :conversationId
+           and m.userId = :userId
+           and m.deleted = false
+           and m.unreadCount > 0
+           and (m.lastReadAt is null or m.lastReadAt < :messageCreatedAt)
+    """)
+    int decrementUnread(
+            @Param("conversationId") UUID conversationId,
+            @Param("userId") UUID userId,
+            @Param("messageCreatedAt") LocalDateTime messageCreatedAt
+    );
+
+    /**
+     * unread reconcile: 센 뒤로 값이 바뀌지 않았을 때만 교체 (그 사이 증가/초기화를 덮어쓰지 않음, 다음 실행에서 다시 봄)
+     * - upTo 이후 메시지가 이미 반영된 멤버는 건너뜀 (센 범위와 카운터 범위가 다름)
+     */
+    @Modifying
+    @Query("""
+        update ConversationMember m
+           set m.unreadCount = :actual
+         where m.id = :memberId
+           and m.unreadCount = :current
+           and (m.unreadCountedAt is null or m.unreadCountedAt <= :upTo)
+    """)
+    int reconcileUnread(
+            @Param("memberId") UUID memberId,
+            @Param("current") int current,
+            @Param("actual") int actual,
+            @Param("upTo") LocalDateTime upTo
+    );
+
+    // unread reconcile 용 keyset 순회
+    @Query("select m from ConversationMember m where m.deleted = false and m.id > :afterId order by m.id asc")
+    List<ConversationMember> findActiveAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
 }
\ No newline at end of file
@@ -2,12 +2,67 @@ package com.example.backend.repository.message;
 
 import com.example.backend.domain.message.Conversation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface ConversationRepository extends JpaRepository<Conversation, UUID> {
 
+    /**
+     * 대화방 요약 갱신 (ConversationSummaryUpdater flush)
+     * - 저장된 요약보다 최신이거나 같은 메시지(수정)일 때만 반영
+     */
+    @Modifying
+    @Query("""
+        update Conversation c
+           set c.lastMessageId = :messageId,
+               c.lastMessageAt = :at,
+               c.lastMessagePreview = :preview
+         where c.id = :conversationId
+           and (
+               c.lastMessageAt is null
+               or c.lastMessageAt < :at
+               or (c.lastMessageAt = :at and c.lastMessageId = :messageId)
+           )
+    """)
+    int updateLastMessageIfNewer(UUID conversationId, UUID messageId, LocalDateTime at, String preview);
+
+    /**
+     * 대화방 요약 repair (ConversationSummaryRepairService)
+     * - updateLastMessageIfNewer 와 같은 조건 + 실제로 다를 때만 반영 (반영 수 = 고친 대화방 수)
+     */
+    @Modifying
+    @Query("""
+        update Conversation c
+           set c.lastMessageId = :messageId,
+               c.lastMessageAt = :at,
+               c.lastMessagePreview = :preview
+         where c.id = :conversationId
+           and (
+               c.lastMessageAt is null
+               or c.lastMessageAt < :at
+               or (
+                   c.lastMessageAt = :at and c.lastMessageId = :messageId
+                   and (c.lastMessagePreview is null or c.lastMessagePreview <> :preview)
+               )
+           )
+    """)
+    int repairLastMessage(UUID conversationId, UUID messageId, LocalDateTime at, String preview);
+
+    /**
+     * 보관 경계 갱신 (MessageArchiveService) - 더 최신일 때만
+     */
+    @Modifying
+    @Query("""
+        update Conversation c
+           set c.archivedUntil = :at
+         where c.id = :conversationId
+           and (c.archivedUntil is null or c.archivedUntil < :at)
+    """)
+    int markArchivedUntil(UUID conversationId, LocalDateTime at);
+
     long countByDeletedFalse();
     long countByDeletedFalseAndCreatedAtAfter(LocalDateTime createdAt);
 }
\ No newline at end of file
@@ -3,9 +3,12 @@ package com.example.backend.repository.message;
 import com.example.backend.domain.message.MessageHidden;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface MessageHiddenRepository extends JpaRepository<MessageHidden, UUID> {
     boolean existsByUserIdAndMessageId(UUID userId, UUID messageId);
     void deleteByUserIdAndMessageId(UUID userId, UUID messageId);
+    List<MessageHidden> findAllByMessageIdIn(Collection<UUID> messageIds);
 }
\ No newline at end of file
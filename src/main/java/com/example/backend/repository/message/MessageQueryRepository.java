@@ -10,5 +10,8 @@ public interface MessageQueryRepository {
 
     List<MessageListResponse.Item> fetchPage(UUID conversationId, LocalDateTime cursorCreatedAt, UUID cursorMessageId, int size);
 
+    /**
+     * pinCandidates 는 저장된 감지 결과로 채운다. 아직 감지되지 않은(backfill 전) 메시지는 null.
+     */
     List<MessageListResponse.Item> fetchPage(UUID conversationId, UUID meId, LocalDateTime cursorCreatedAt, UUID cursorMessageId, int limit);
 }
\ No newline at end of file
@@ -1,15 +1,21 @@
 package com.example.backend.repository.message;
 
-import com.example.backend.common.MediaPayloads;
+import com.example.backend.common.PinCandidatePayloads;
 import com.example.backend.controller.message.dto.MessageListResponse;
 import com.example.backend.domain.file.QUploadedFile;
+import com.example.backend.domain.message.MessageType;
+import com.example.backend.domain.message.QArchivedMessage;
+import com.example.backend.domain.message.QConversation;
 import com.example.backend.domain.message.QMessage;
 import com.example.backend.domain.message.QMessageAttachment;
 import com.example.backend.domain.message.QMessageHidden;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparablePath;
+import com.querydsl.core.types.dsl.DateTimePath;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -19,9 +25,14 @@ import java.util.*;
 public class MessageQueryRepositoryImpl implements MessageQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final int archiveAfterDays;
 
-    public MessageQueryRepositoryImpl(JPAQueryFactory queryFactory) {
+    public MessageQueryRepositoryImpl(
+            JPAQueryFactory queryFactory,
+            @Value("${app.message.archive-after-days:365}") int archiveAfterDays
+    ) {
         this.queryFactory = queryFactory;
+        this.archiveAfterDays = archiveAfterDays;
     }
 
     @Override
@@ -43,43 +54,171 @@ public class MessageQueryRepositoryImpl implements MessageQueryRepository {
             int limit
     ) {
         QMessage m = QMessage.message;
+        QArchivedMessage am = QArchivedMessage.archivedMessage;
         QMessageAttachment a = QMessageAttachment.messageAttachment;
         QUploadedFile f = QUploadedFile.uploadedFile;
         QMessageHidden h = QMessageHidden.messageHidden;
 
-        BooleanExpression cursorCond = cursor(cursorCreatedAt, cursorMessageId, m);
-
-        // ✅ 숨김 필터: meId 있을 때만 적용
-        BooleanExpression notHiddenCond = notHiddenForMe(meId, h, m);
-
-        // 1) 메시지 id limit+1개
-        List<UUID> messageIds = queryFactory
-                .select(m.id)
+        // 1) hot(messages) 에서 keyset 순서 그대로 limit+1개 (엔티티 hydrate 없이 projection)
+        //    - id 조회 → where id in (...) 재조회 → HashMap 재정렬 왕복 제거
+        List<PageRow> rows = queryFactory
+                .select(m.id, m.senderId, m.type, m.content, m.metadataJson, m.sessionId,
+                        m.createdAt, m.editedAt, m.pinCandidateJson, m.pinScanned)
                 .from(m)
                 .where(
                         m.conversationId.eq(conversationId),
                         // ✅ FIX: deletedFalse() 없음
                         m.deleted.isFalse(),
-                        cursorCond,
-                        notHiddenCond
+                        cursor(cursorCreatedAt, cursorMessageId, m.createdAt, m.id),
+                        // ✅ 숨김 필터: meId 있을 때만 적용
+                        notHiddenForMe(meId, h, m.id)
                 )
                 .orderBy(m.createdAt.desc(), m.id.desc())
                 .limit(limit + 1L)
-                .fetch();
+                .fetch()
+                .stream()
+                .map(PageRow::of)
+                .toList();
 
-        if (messageIds.isEmpty()) return List.of();
+        // 2) 페이지가 보관 경계를 넘으면 cold(messages_archive) 에서 이어 읽어 keyset 순서로 합침
+        if (reachesArchive(conversationId, rows, limit)) {
+            List<PageRow> archived = queryFactory
+                    .select(am.id, am.senderId, am.type, am.content, am.metadataJson, am.sessionId,
+                            am.createdAt, am.editedAt, am.pinCandidateJson, am.pinScanned)
+                    .from(am)
+                    .where(
+                            am.conversationId.eq(conversationId),
+                            am.deleted.isFalse(),
+                            cursor(cursorCreatedAt, cursorMessageId, am.createdAt, am.id),
+                            notHiddenForMe(meId, h, am.id)
+                    )
+                    .orderBy(am.createdAt.desc(), am.id.desc())
+                    .limit(limit + 1L)
+                    .fetch()
+                    .stream()
+                    .map(PageRow::of)
+                    .toList();
 
-        // 2) 메시지 본문
-        List<com.example.backend.domain.message.Message> messages = queryFactory
-                .selectFrom(m)
-                .where(m.id.in(messageIds))
-                .fetch();
+            rows = merge(rows, archived, limit + 1);
+        }
 
-        Map<UUID, com.example.backend.domain.message.Message> msgMap = new HashMap<>();
-        for (var mm : messages) msgMap.put(mm.getId(), mm);
+        if (rows.isEmpty()) return List.of();
 
-        // 3) 첨부 목록
+        List<UUID> messageIds = new ArrayList<>(rows.size());
+        for (PageRow row : rows) messageIds.add(row.id());
+
+        // 3) 첨부 목록 (페이지 전체를 한 번에, 보관 메시지도 id 가 같아 그대로 조회됨)
         // ✅ FIX: QUploadedFile에 url 없음 -> fileId만으로 download URL 생성
+        Map<UUID, List<MessageListResponse.Attachment>> attMap = fetchAttachments(messageIds, a, f);
+
+        // 4) 결과 조립(keyset 순서 유지)
+        List<MessageListResponse.Item> result = new ArrayList<>(rows.size());
+        for (PageRow row : rows) {
+            UUID id = row.id();
+
+            result.add(new MessageListResponse.Item(
+                    id,
+                    row.senderId(),
+                    row.type() == null ? null : row.type().name(),
+                    row.content(),
+                    row.metadataJson(),
+                    row.sessionId(),
+                    row.createdAt(),
+                    row.editedAt(),
+                    attMap.getOrDefault(id, List.of()),
+                    // 저장된 핀 후보 (미감지 메시지는 null → MessageQueryService 에서 즉석 감지)
+                    Boolean.TRUE.equals(row.pinScanned())
+                            ? PinCandidatePayloads.decode(id, row.pinCandidateJson())
+                            : null
+            ));
+        }
+
+        return result;
+    }
+
+    // hot / cold 공통 조회 row (select 순서와 동일)
+    private record PageRow(
+            UUID id,
+            UUID senderId,
+            MessageType type,
+            String content,
+            String metadataJson,
+            UUID sessionId,
+            LocalDateTime createdAt,
+            LocalDateTime editedAt,
+            String pinCandidateJson,
+            Boolean pinScanned
+    ) {
+        static PageRow of(Tuple t) {
+            return new PageRow(
+                    t.get(0, UUID.class),
+                    t.get(1, UUID.class),
+                    t.get(2, MessageType.class),
+                    t.get(3, String.class),
+                    t.get(4, String.class),
+                    t.get(5, UUID.class),
+                    t.get(6, LocalDateTime.class),
+                    t.get(7, LocalDateTime.class),
+                    t.get(8, String.class),
+                    t.get(9, Boolean.class)
+            );
+        }
+    }
+
+    /**
+     * cold 테이블을 같이 봐야 하는지
+     * - 보관된(삭제 아닌) 메시지는 모두 보관 기준 시각보다 오래됨 → 페이지가 꽉 찼고 마지막 row 가 기준 시각 이후면 바로 false
+     * - 그 외에는 대화방의 보관 경계(archived_until)로 판단: 보관된 메시지가 없거나
+     *   페이지 마지막 row 가 경계보다 최신이면 cold 에 이 페이지에 들어올 row 가 없음
+     *   (작은/새 대화방의 첫 페이지·마지막 페이지도 hot 한 번 + PK 조회로 끝남)
+     */
+    private boolean reachesArchive(UUID conversationId, List<PageRow> hotRows, int limit) {
+        boolean full = hotRows.size() > limit;
+        LocalDateTime oldest = hotRows.isEmpty() ? null : hotRows.get(hotRows.size() - 1).createdAt();
+        if (full && oldest != null && !oldest.isBefore(LocalDateTime.now().minusDays(archiveAfterDays))) return false;
+
+        QConversation c = QConversation.conversation;
+        LocalDateTime archivedUntil = queryFactory
+                .select(c.archivedUntil)
+                .from(c)
+                .where(c.id.eq(conversationId))
+                .fetchOne();
+        if (archivedUntil == null) return false;
+
+        return !full || oldest == null || !oldest.isAfter(archivedUntil);
+    }
+
+    // 둘 다 (createdAt desc, id desc) 정렬 상태 → 앞에서부터 max 개만 합침
+    private List<PageRow> merge(List<PageRow> hot, List<PageRow> cold, int max) {
+        if (cold.isEmpty()) return hot;
+
+        List<PageRow> merged = new ArrayList<>(Math.min(max, hot.size() + cold.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < max && (i < hot.size() || j < cold.size())) {
+            if (j >= cold.size() || (i < hot.size() && isNewer(hot.get(i), cold.get(j)))) {
+                merged.add(hot.get(i++));
+            } else {
+                merged.add(cold.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private boolean isNewer(PageRow x, PageRow y) {
+        int c = x.createdAt().compareTo(y.createdAt());
+        if (c != 0) return c > 0;
+        // DB 의 BINARY(16) 비교(부호 없는 바이트 순)와 같은 순서
+        int hi = Long.compareUnsigned(x.id().getMostSignificantBits(), y.id().getMostSignificantBits());
+        if (hi != 0) return hi > 0;
+        return Long.compareUnsigned(x.id().getLeastSignificantBits(), y.id().getLeastSignificantBits()) > 0;
+    }
+
+    private Map<UUID, List<MessageListResponse.Attachment>> fetchAttachments(
+            List<UUID> messageIds,
+            QMessageAttachment a,
+            QUploadedFile f
+    ) {
         List<Tuple> tuples = queryFactory
                 .select(
                         a.messageId,
@@ -100,69 +239,38 @@ public class MessageQueryRepositoryImpl implements MessageQueryRepository {
         for (Tuple t : tuples) {
             UUID messageId = t.get(a.messageId);
             UUID fileId = t.get(f.id);
-            String originalFilename = t.get(f.originalFilename);
-            String contentType = t.get(f.contentType);
-            Long size = t.get(f.size);
-
-            String downloadUrl = "/api/files/" + fileId + "/download";
-            String mediaType = MediaPayloads.normalizeMediaType(contentType, null);
-            String previewUrl = MediaPayloads.previewUrl(mediaType, downloadUrl);
-            String thumbnailUrl = MediaPayloads.thumbnailUrl(mediaType, fileId, null);
-            String streamingUrl = MediaPayloads.streamingUrl(mediaType, downloadUrl);
-
             attMap.computeIfAbsent(messageId, k -> new ArrayList<>())
-                    .add(new MessageListResponse.Attachment(
+                    .add(MessageListResponse.Attachment.of(
                             fileId,
-                            mediaType,
-                            downloadUrl,
-                            downloadUrl,
-                            previewUrl,
-                            thumbnailUrl,
-                            streamingUrl,
-                            originalFilename,
-                            contentType,
-                            size == null ? 0 : size
+                            t.get(f.originalFilename),
+                            t.get(f.contentType),
+                            t.get(f.size)
                     ));
         }
 
-        // 4) 결과 조립(메시지 id 순서 유지)
-        List<MessageListResponse.Item> result = new ArrayList<>();
-        for (UUID id : messageIds) {
-            var mm = msgMap.get(id);
-            if (mm == null) continue;
-
-            result.add(new MessageListResponse.Item(
-                    mm.getId(),
-                    mm.getSenderId(),
-                    mm.getType().name(),
-                    mm.getContent(),
-                    mm.getMetadataJson(),
-                    mm.getSessionId(),
-                    mm.getCreatedAt(),
-                    mm.getEditedAt(),
-                    attMap.getOrDefault(mm.getId(), List.of()),
-                    List.of() // pinCandidates는 MessageQueryService에서 채움
-            ));
-        }
-
-        return result;
+        return attMap;
     }
 
-    private BooleanExpression cursor(LocalDateTime cursorCreatedAt, UUID cursorId, QMessage m) {
+    private BooleanExpression cursor(
+            LocalDateTime cursorCreatedAt,
+            UUID cursorId,
+            DateTimePath<LocalDateTime> createdAt,
+            ComparablePath<UUID> id
+    ) {
         if (cursorCreatedAt == null || cursorId == null) return null;
 
         // DESC 페이징: (createdAt, id) < (cursorCreatedAt, cursorId)
-        return m.createdAt.lt(cursorCreatedAt)
-                .or(m.createdAt.eq(cursorCreatedAt).and(m.id.lt(cursorId)));
+        return createdAt.lt(cursorCreatedAt)
+                .or(createdAt.eq(cursorCreatedAt).and(id.lt(cursorId)));
     }
 
-    private BooleanExpression notHiddenForMe(UUID meId, QMessageHidden h, QMessage m) {
+    private BooleanExpression notHiddenForMe(UUID meId, QMessageHidden h, ComparablePath<UUID> messageId) {
         if (meId == null) return null;
 
         return JPAExpressions.selectOne()
                 .from(h)
                 .where(
-                        h.messageId.eq(m.id),
+                        h.messageId.eq(messageId),
                         h.userId.eq(meId)
                 )
                 .notExists();
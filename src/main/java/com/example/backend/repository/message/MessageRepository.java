@@ -4,6 +4,7 @@ import com.example.backend.domain.message.Message;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -33,9 +34,79 @@ public interface MessageRepository extends JpaRepository<Message, UUID> {
     List<Message> findNextPage(UUID conversationId, LocalDateTime cursorCreatedAt, UUID cursorId, Pageable pageable);
     Optional<Message> findByIdAndDeletedFalse(UUID id);
 
+    // 재시도 멱등 확인 (uk_messages_sender_client_key)
+    Optional<Message> findBySenderIdAndClientMessageKey(UUID senderId, String clientMessageKey);
+
     Optional<Message>
     findTopByConversationIdAndDeletedFalseOrderByCreatedAtDesc(UUID conversationId);
 
+    // 읽음 위치(after) 이후 ~ 안읽은 수에 반영된 시각(upTo)까지 남은 안읽은 메시지 수 (ReadReceiptCoalescer)
+    @Query("""
+        select count(m) from Message m
+        where m.conversationId = :conversationId
+          and m.senderId <> :userId
+          and m.deleted = false
+          and m.createdAt > :after
+          and m.createdAt <= :upTo
+          and not exists (select 1 from MessageHidden h where h.messageId = m.id and h.userId = :userId)
+    """)
+    long countUnreadBetween(
+            @Param("conversationId") UUID conversationId,
+            @Param("userId") UUID userId,
+            @Param("after") LocalDateTime after,
+            @Param("upTo") LocalDateTime upTo
+    );
+
+    // 대화방 요약 repair 대상: 기간 안에 메시지가 있는 대화방별 가장 최신 메시지 (upTo 이하), (createdAt, id) keyset
+    @Query("""
+        select m from Message m
+        where m.deleted = false
+          and m.createdAt <= :upTo
+          and (m.createdAt > :afterAt or (m.createdAt = :afterAt and m.id > :afterId))
+          and not exists (
+              select 1 from Message n
+              where n.conversationId = m.conversationId
+                and n.deleted = false
+                and n.createdAt <= :upTo
+                and (n.createdAt > m.createdAt or (n.createdAt = m.createdAt and n.id > m.id))
+          )
+        order by m.createdAt asc, m.id asc
+    """)
+    List<Message> findLatestPerConversationAfter(
+            @Param("afterAt") LocalDateTime afterAt,
+            @Param("afterId") UUID afterId,
+            @Param("upTo") LocalDateTime upTo,
+            Pageable pageable
+    );
+
+    // 핀 후보 backfill 대상 (idx_messages_pin_scanned)
+    @Query("""
+        select m from Message m
+        where m.pinScanned = false
+        order by m.id asc
+    """)
+    List<Message> findPinUnscanned(Pageable pageable);
+
+    // archive 대상: 오래된 메시지 (idx_messages_created_at)
+    // - 공동 플레이 세션이 참조하는 메시지(FK)는 hot 에 남김
+    @Query("""
+        select m from Message m
+        where m.createdAt < :cutoff
+          and not exists (select 1 from PlaybackSession ps where ps.messageId = m.id)
+        order by m.createdAt asc
+    """)
+    List<Message> findArchivableOld(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // archive 대상: 전체 삭제된 지 오래된 메시지 (idx_messages_deleted_deleted_at)
+    @Query("""
+        select m from Message m
+        where m.deleted = true
+          and m.deletedAt < :cutoff
+          and not exists (select 1 from PlaybackSession ps where ps.messageId = m.id)
+        order by m.deletedAt asc
+    """)
+    List<Message> findArchivableDeleted(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
     long countByDeletedFalse();
     long countByDeletedFalseAndCreatedAtAfter(LocalDateTime createdAt);
 
@@ -14,6 +14,7 @@ public record ConversationListRow(
         String peerProfileImageUrl,
         String lastMessagePreview,
         LocalDateTime lastMessageAt,
-        LocalDateTime sortAt
+        LocalDateTime sortAt,
+        Integer unreadCount
 ) {
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.example.backend.repository.post;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,5 +20,38 @@ public interface PostQueryRepository {
             int size
     );
 
-    List<UUID> findNearbyFeedIds(UUID meId, int size);
+    /**
+     * 근처 피드: 반경(km) 안의 글을 거리순(같은 거리면 id 순) keyset 으로
+     * - cursorDistanceKm / cursorId 가 null 이면 첫 페이지
+     */
+    List<NearbyEntry> findNearbyFeed(
+            UUID meId,
+            double lat,
+            double lng,
+            double radiusKm,
+            Double cursorDistanceKm,
+            UUID cursorId,
+            int size
+    );
+
+    record NearbyEntry(UUID postId, double distanceKm) {}
+
+    /**
+     * 타임라인(Redis) 재구성용 (postId, createdAt) — 최신순
+     */
+    record TimelineEntry(UUID postId, LocalDateTime createdAt) {}
+
+    // 내 글(비공개 포함) + 팔로우한 작성자의 비공개 아닌 글
+    List<TimelineEntry> findHomeTimelineSeed(UUID meId, int size);
+
+    // 작성자의 비공개 아닌 글
+    List<TimelineEntry> findAuthorTimelineSeed(UUID authorId, int size);
+
+    // 전체 공개 글
+    List<TimelineEntry> findPublicTimelineSeed(int size);
+
+    /**
+     * 타임라인 후보 중 지금 나에게 보이는 글 (삭제/공개범위 변경/언팔로우 반영)
+     */
+    List<UUID> findVisibleFeedIds(UUID meId, Collection<UUID> postIds);
 }
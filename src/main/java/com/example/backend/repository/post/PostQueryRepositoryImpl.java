@@ -1,14 +1,21 @@
 package com.example.backend.repository.post;
 
+import com.example.backend.common.Geohash;
 import com.example.backend.domain.follow.QFollow;
 import com.example.backend.domain.post.PostVisibility;
 import com.example.backend.domain.post.QPost;
 import com.example.backend.domain.user.QUser;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -32,27 +39,134 @@ public class PostQueryRepositoryImpl implements PostQueryRepository {
     }
 
     @Override
-    public List<UUID> findNearbyFeedIds(UUID meId, int size) {
+    public List<NearbyEntry> findNearbyFeed(
+            UUID meId,
+            double lat,
+            double lng,
+            double radiusKm,
+            Double cursorDistanceKm,
+            UUID cursorId,
+            int size
+    ) {
         QPost p = QPost.post;
         QFollow f = QFollow.follow;
-        QUser u = QUser.user;
+
+        NumberExpression<Double> distance = distanceKm(lat, lng, p);
+
+        // 반경을 덮는 geohash 셀 prefix 범위만 읽음 (idx_posts_geohash)
+        BooleanBuilder cells = new BooleanBuilder();
+        for (String cell : Geohash.coverCells(lat, lng, radiusKm)) {
+            cells.or(p.geohash.startsWith(cell));
+        }
+
+        BooleanExpression cursorCond = (cursorDistanceKm == null || cursorId == null)
+                ? null
+                : distance.gt(cursorDistanceKm).or(distance.eq(cursorDistanceKm).and(p.id.gt(cursorId)));
 
         return queryFactory
-                .select(p.id)
+                .select(p.id, distance)
                 .from(p)
-                .join(u).on(u.id.eq(p.authorId))
                 .leftJoin(f).on(f.followerId.eq(meId).and(f.followingId.eq(p.authorId)))
                 .where(
+                        cells,
                         p.deleted.isFalse(),
                         visibilityCond(meId, p, f),
-                        p.latitude.isNotNull(),
-                        p.longitude.isNotNull()
+                        distance.loe(radiusKm),
+                        cursorCond
+                )
+                .orderBy(distance.asc(), p.id.asc())
+                .limit(size)
+                .fetch()
+                .stream()
+                .map(t -> new NearbyEntry(t.get(0, UUID.class), t.get(1, Double.class)))
+                .toList();
+    }
+
+    // 구면 코사인 법칙 거리(km) — 중심점 값은 미리 계산해 상수로
+    private NumberExpression<Double> distanceKm(double lat, double lng, QPost p) {
+        double sinLat = Math.sin(Math.toRadians(lat));
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double lngRad = Math.toRadians(lng);
+        return Expressions.numberTemplate(Double.class,
+                "6371.0 * acos(least(1.0, {0} * cos(radians({2})) * cos(radians({3}) - {4}) + {1} * sin(radians({2}))))",
+                cosLat, sinLat, p.latitude, p.longitude, lngRad);
+    }
+
+    @Override
+    public List<TimelineEntry> findHomeTimelineSeed(UUID meId, int size) {
+        QPost p = QPost.post;
+        QFollow f = QFollow.follow;
+
+        return queryFactory
+                .select(Projections.constructor(TimelineEntry.class, p.id, p.createdAt))
+                .from(p)
+                .where(
+                        p.deleted.isFalse(),
+                        p.authorId.eq(meId)
+                                .or(p.visibility.ne(PostVisibility.PRIVATE)
+                                        .and(p.authorId.in(JPAExpressions
+                                                .select(f.followingId)
+                                                .from(f)
+                                                .where(f.followerId.eq(meId), f.deleted.isFalse()))))
+                )
+                .orderBy(p.createdAt.desc(), p.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<TimelineEntry> findAuthorTimelineSeed(UUID authorId, int size) {
+        QPost p = QPost.post;
+
+        return queryFactory
+                .select(Projections.constructor(TimelineEntry.class, p.id, p.createdAt))
+                .from(p)
+                .where(
+                        p.authorId.eq(authorId),
+                        p.deleted.isFalse(),
+                        p.visibility.ne(PostVisibility.PRIVATE)
+                )
+                .orderBy(p.createdAt.desc(), p.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<TimelineEntry> findPublicTimelineSeed(int size) {
+        QPost p = QPost.post;
+
+        return queryFactory
+                .select(Projections.constructor(TimelineEntry.class, p.id, p.createdAt))
+                .from(p)
+                .where(
+                        p.deleted.isFalse(),
+                        p.visibility.eq(PostVisibility.ALL)
                 )
                 .orderBy(p.createdAt.desc(), p.id.desc())
                 .limit(size)
                 .fetch();
     }
 
+    @Override
+    public List<UUID> findVisibleFeedIds(UUID meId, Collection<UUID> postIds) {
+        if (postIds == null || postIds.isEmpty()) return List.of();
+
+        QPost p = QPost.post;
+        QFollow f = QFollow.follow;
+
+        // id 로 좁힌 뒤 기존 피드와 같은 공개범위 조건만 확인 (정렬은 타임라인 순서를 그대로 씀)
+        return queryFactory
+                .select(p.id)
+                .from(p)
+                .leftJoin(f).on(f.followerId.eq(meId).and(f.followingId.eq(p.authorId)))
+                .where(
+                        p.id.in(postIds),
+                        p.deleted.isFalse(),
+                        visibilityCond(meId, p, f)
+                )
+                .fetch();
+    }
+
     private List<UUID> queryFeedIds(UUID meId, LocalDateTime cursorCreatedAt, UUID cursorId, int size) {
         QPost p = QPost.post;
         QFollow f = QFollow.follow;
@@ -1,11 +1,15 @@
 package com.example.backend.repository.post;
 
 import com.example.backend.domain.post.Post;
+import com.example.backend.repository.like.LikeCountRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +21,59 @@ public interface PostRepository extends JpaRepository<Post, UUID>, PostQueryRepo
     @Query("select distinct p from Post p left join fetch p.images img where p.id in :ids and p.deleted = false")
     List<Post> findAllWithImagesByIdIn(@Param("ids") List<UUID> ids);
 
+    // geohash 도입 전에 위치가 저장된 게시글 (backfill 대상)
+    @Query("select p from Post p where p.latitude is not null and p.longitude is not null and p.geohash is null")
+    List<Post> findGeohashMissing(Pageable pageable);
+
+    /**
+     * 좋아요 수 증감 반영 (LikeCountAggregator flush), 0 아래로 내려가지 않음
+     */
+    @Modifying
+    @Query("""
+        update Post p
+           set p.likeCount = case when p.likeCount + :delta < 0 then 0 else p.likeCount + :delta end
+         where p.id = :postId
+    """)
+    int addLikeCount(@Param("postId") UUID postId, @Param("delta") long delta);
+
+    // 좋아요 수 reconcile 용 keyset 순회 (저장값 + 실제 좋아요 row 수)
+    @Query("""
+        select new com.example.backend.repository.like.LikeCountRow(
+            p.id,
+            p.likeCount,
+            (select count(l) from PostLike l where l.postId = p.id)
+        )
+        from Post p
+        where p.deleted = false
+          and p.id > :afterId
+        order by p.id asc
+    """)
+    List<LikeCountRow> findLikeCountsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    // 좋아요 수 reconcile 재확인용
+    @Query("""
+        select new com.example.backend.repository.like.LikeCountRow(
+            p.id,
+            p.likeCount,
+            (select count(l) from PostLike l where l.postId = p.id)
+        )
+        from Post p
+        where p.id in :ids
+    """)
+    List<LikeCountRow> findLikeCountsIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * 좋아요 수 reconcile: 확인한 뒤로 값이 바뀌지 않았을 때만 교체 (그 사이 반영된 증감을 덮어쓰지 않음)
+     */
+    @Modifying
+    @Query("""
+        update Post p
+           set p.likeCount = :actual
+         where p.id = :postId
+           and p.likeCount = :current
+    """)
+    int reconcileLikeCount(@Param("postId") UUID postId, @Param("current") long current, @Param("actual") long actual);
+
     long countByDeletedFalse();
     long countByDeletedFalseAndCreatedAtAfter(LocalDateTime createdAt);
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.message.ConversationSummaryRepairService;
+import com.example.backend.service.message.ConversationSummaryUpdater;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConversationSummaryFlushScheduler {
+
+    private final ConversationSummaryUpdater summaryUpdater;
+    private final ConversationSummaryRepairService repairService;
+
+    private static final int REPAIR_BATCH_SIZE = 500;
+
+    // 대화방 목록 요약의 최대 지연 = 이 주기
+    @Scheduled(fixedDelayString = "${app.message.summary-flush-ms:500}")
+    public void flush() {
+        try {
+            summaryUpdater.flush();
+        } catch (Exception e) {
+            log.warn("[ConversationSummary] flush 실패 (다음 주기에 재시도) | pending={}", summaryUpdater.pendingCount(), e);
+        }
+    }
+
+    // 5분마다: 노드 종료로 flush 못 한 최근 대화방 요약 복구
+    @Scheduled(fixedDelay = 300_000, initialDelay = 60_000)
+    public void repair() {
+        LocalDateTime upTo = LocalDateTime.now().minus(ConversationSummaryRepairService.PENDING_GRACE);
+        LocalDateTime afterAt = upTo.minus(ConversationSummaryRepairService.REPAIR_WINDOW);
+        UUID afterId = new UUID(0L, 0L);
+        int scanned = 0;
+        int repaired = 0;
+
+        try {
+            while (true) {
+                var result = repairService.repairBatch(afterAt, afterId, upTo, REPAIR_BATCH_SIZE);
+                scanned += result.scanned();
+                repaired += result.repaired();
+                if (result.scanned() < REPAIR_BATCH_SIZE) break;
+                afterAt = result.lastAt();
+                afterId = result.lastId();
+            }
+        } catch (Exception e) {
+            log.error("[ConversationSummary] repair 실패 | scanned={} repaired={}", scanned, repaired, e);
+            return;
+        }
+
+        if (repaired > 0) {
+            log.info("[ConversationSummary] repair 완료 | scanned={} repaired={}", scanned, repaired);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.repository.like.LikeCountRow;
+import com.example.backend.service.like.LikeCountAggregator;
+import com.example.backend.service.like.LikeCountReconcileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountFlushScheduler {
+
+    private final LikeCountAggregator likeCountAggregator;
+    private final LikeCountReconcileService reconcileService;
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+    // 한 번 실행에 재확인할 최대 대상 수 (남은 건 다음 실행에서)
+    private static final int MAX_DRIFTED_PER_RUN = 10_000;
+    // scan 후 재확인까지 최소 대기 (flush 주기보다 충분히 길게 → 그 사이 다른 노드의 증감이 반영됨)
+    private static final long CONFIRM_DELAY_MS = 5_000;
+
+    // 다른 노드에서 보이는 좋아요 수의 최대 지연 = 이 주기
+    @Scheduled(fixedDelayString = "${app.like.count-flush-ms:1000}")
+    public void flush() {
+        try {
+            likeCountAggregator.flush();
+        } catch (Exception e) {
+            log.warn("[LikeCount] flush 실패 (다음 주기에 재시도) | pending={}", likeCountAggregator.pendingCount(), e);
+        }
+    }
+
+    // 매일 새벽 4시: 게시글/댓글 좋아요 수 보정 (노드 종료로 잃은 증감 복구)
+    @Scheduled(cron = "${app.like.count-reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        flush();
+
+        int scanned = 0;
+        Map<UUID, LikeCountRow> posts = new HashMap<>();
+        Map<UUID, LikeCountRow> comments = new HashMap<>();
+        int repairedPosts;
+        int repairedComments;
+
+        try {
+            long scanStarted = System.currentTimeMillis();
+
+            UUID after = LikeCountReconcileService.FIRST;
+            while (posts.size() < MAX_DRIFTED_PER_RUN) {
+                var result = reconcileService.scanPosts(after, RECONCILE_BATCH_SIZE);
+                scanned += result.scanned();
+                posts.putAll(result.drifted());
+                if (result.scanned() < RECONCILE_BATCH_SIZE) break;
+                after = result.lastId();
+            }
+
+            after = LikeCountReconcileService.FIRST;
+            while (comments.size() < MAX_DRIFTED_PER_RUN) {
+                var result = reconcileService.scanComments(after, RECONCILE_BATCH_SIZE);
+                scanned += result.scanned();
+                comments.putAll(result.drifted());
+                if (result.scanned() < RECONCILE_BATCH_SIZE) break;
+                after = result.lastId();
+            }
+
+            if (posts.isEmpty() && comments.isEmpty()) {
+                log.info("[LikeCount] reconcile 완료 | scanned={} repaired=0", scanned);
+                return;
+            }
+
+            long wait = CONFIRM_DELAY_MS - (System.currentTimeMillis() - scanStarted);
+            if (wait > 0) Thread.sleep(wait);
+
+            repairedPosts = reconcileService.repairPosts(posts);
+            repairedComments = reconcileService.repairComments(comments);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.error("[LikeCount] reconcile 실패 | scanned={} drifted={}", scanned, posts.size() + comments.size(), e);
+            return;
+        }
+
+        log.info("[LikeCount] reconcile 완료 | scanned={} drifted={} repairedPosts={} repairedComments={}",
+                scanned, posts.size() + comments.size(), repairedPosts, repairedComments);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.message.MessageArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageArchiveScheduler {
+
+    private final MessageArchiveService archiveService;
+
+    private static final int BATCH_SIZE = 500;
+    // 한 번 실행에 최대 처리 배치 수 (DB 부하 분산, 남은 건 다음 실행에서)
+    private static final int MAX_BATCHES_PER_RUN = 200;
+
+    // 매일 새벽 5시: 오래된/삭제된 메시지를 cold 테이블로 이동
+    @Scheduled(cron = "${app.message.archive-cron:0 0 5 * * *}")
+    public void run() {
+        int deleted = 0;
+        int old = 0;
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int moved = archiveService.archiveDeletedBatch(BATCH_SIZE);
+                deleted += moved;
+                if (moved < BATCH_SIZE) break;
+            }
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int moved = archiveService.archiveOldBatch(BATCH_SIZE);
+                old += moved;
+                if (moved < BATCH_SIZE) break;
+            }
+        } catch (Exception e) {
+            log.error("[MessageArchive] 실행 실패 | deleted={} old={}", deleted, old, e);
+            return;
+        }
+
+        log.info("[MessageArchive] 완료 | deleted={} old={}", deleted, old);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.post.PostGeohashBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostGeohashBackfillScheduler {
+
+    private final PostGeohashBackfillService service;
+
+    private static final int BATCH_SIZE = 1000;
+    // 한 번 실행에 최대 처리 배치 수 (DB 부하 분산, 남은 건 다음 실행에서)
+    private static final int MAX_BATCHES_PER_RUN = 20;
+
+    @Scheduled(fixedDelay = 300_000, initialDelay = 90_000)
+    public void run() {
+        int total = 0;
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                int processed = service.backfillBatch(BATCH_SIZE);
+                total += processed;
+                if (processed < BATCH_SIZE) break;
+            }
+        } catch (Exception e) {
+            log.error("[GeohashBackfill] 실행 실패 | processed={}", total, e);
+            return;
+        }
+
+        if (total > 0) {
+            log.info("[GeohashBackfill] 게시글 geohash backfill {}건 처리", total);
+        }
+    }
+}
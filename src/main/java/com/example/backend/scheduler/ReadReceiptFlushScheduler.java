@@ -0,0 +1,25 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.message.ReadReceiptCoalescer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReadReceiptFlushScheduler {
+
+    private final ReadReceiptCoalescer readReceiptCoalescer;
+
+    // 모인 읽음 위치 반영 + 읽음 SSE 발행
+    @Scheduled(fixedDelayString = "${app.message.read-flush-ms:1000}")
+    public void flush() {
+        try {
+            readReceiptCoalescer.flush();
+        } catch (Exception e) {
+            log.warn("[ReadReceipt] flush 실패 (다음 주기에 재시도) | pending={}", readReceiptCoalescer.pendingCount(), e);
+        }
+    }
+}
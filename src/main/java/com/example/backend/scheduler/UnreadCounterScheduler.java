@@ -0,0 +1,59 @@
+package com.example.backend.scheduler;
+
+import com.example.backend.service.message.UnreadCounterReconcileService;
+import com.example.backend.service.message.UnreadCounterUpdater;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnreadCounterScheduler {
+
+    private final UnreadCounterUpdater unreadCounterUpdater;
+    private final UnreadCounterReconcileService reconcileService;
+
+    private static final int RECONCILE_BATCH_SIZE = 200;
+
+    // 모인 안읽은 수 증가분 반영
+    @Scheduled(fixedDelayString = "${app.message.unread-flush-ms:500}")
+    public void flush() {
+        try {
+            unreadCounterUpdater.flush();
+        } catch (Exception e) {
+            log.warn("[UnreadCounter] flush 실패 (다음 주기에 재시도) | pending={}", unreadCounterUpdater.pendingCount(), e);
+        }
+    }
+
+    // 매일 새벽 4시 30분: 전체 멤버 안읽은 수 보정
+    @Scheduled(cron = "${app.message.unread-reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        // ✅ 이 노드에 모인 증가분 먼저 반영 (다른 노드 분은 PENDING_GRACE 로 제외)
+        flush();
+
+        LocalDateTime upTo = LocalDateTime.now().minus(UnreadCounterReconcileService.PENDING_GRACE);
+        UUID after = UnreadCounterReconcileService.FIRST;
+        int scanned = 0;
+        int repaired = 0;
+
+        try {
+            while (true) {
+                var result = reconcileService.reconcileBatch(after, RECONCILE_BATCH_SIZE, upTo);
+                scanned += result.scanned();
+                repaired += result.repaired();
+                if (result.scanned() < RECONCILE_BATCH_SIZE) break;
+                after = result.lastMemberId();
+            }
+        } catch (Exception e) {
+            log.error("[UnreadCounter] reconcile 실패 | scanned={} repaired={}", scanned, repaired, e);
+            return;
+        }
+
+        log.info("[UnreadCounter] reconcile 완료 | scanned={} repaired={}", scanned, repaired);
+    }
+}
@@ -10,6 +10,8 @@ import com.example.backend.exception.ErrorCode;
 import com.example.backend.repository.comment.CommentRepository;
 import com.example.backend.repository.post.PostRepository;
 import com.example.backend.repository.user.UserRepository;
+import com.example.backend.service.like.LikeCountAggregator;
+import com.example.backend.service.post.FeedRenderCacheEvictor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
@@ -29,6 +31,8 @@ public class CommentServiceImpl implements CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final FeedRenderCacheEvictor renderCacheEvictor;
+    private final LikeCountAggregator likeCountAggregator;
 
     @Transactional
     @Override
@@ -56,6 +60,7 @@ public class CommentServiceImpl implements CommentService {
 
         // ✅ 게시글 상세/피드의 commentCount가 재진입 후에도 맞게 유지되도록 DB 카운트 반영
         post.increaseCommentCount();
+        renderCacheEvictor.evictPost(postId);
 
         eventPublisher.publishEvent(new CommentCreatedEvent(postId, userId, saved.getId(), parentId));
 
@@ -79,11 +84,12 @@ public class CommentServiceImpl implements CommentService {
         boolean hasNext = items.size() == size;
         String nextCursor = null;
         if (hasNext && !items.isEmpty()) {
+            // 커서는 정렬에 쓴 DB 값 기준
             CommentListItem last = items.get(items.size() - 1);
             nextCursor = encodeCursor(last, s);
         }
 
-        return new CommentListResponse(items, nextCursor, hasNext);
+        return new CommentListResponse(items.stream().map(this::withPendingLikes).toList(), nextCursor, hasNext);
     }
 
     private List<CommentListItem> listLatest(UUID postId, String cursor, Pageable pageable) {
@@ -121,6 +127,23 @@ public class CommentServiceImpl implements CommentService {
         // ✅ 삭제 후에도 게시글 상세 commentCount가 맞게 유지되도록 DB 카운트 반영
         postRepository.findById(c.getPostId())
                 .ifPresent(post -> post.decreaseCommentCount());
+        renderCacheEvictor.evictPost(c.getPostId());
+    }
+
+    // 아직 DB 에 반영되지 않은 좋아요 증감을 더함
+    private CommentListItem withPendingLikes(CommentListItem item) {
+        long pending = likeCountAggregator.pendingCommentDelta(item.commentId());
+        if (pending == 0L) return item;
+        return new CommentListItem(
+                item.commentId(),
+                item.userId(),
+                item.handle(),
+                item.name(),
+                item.content(),
+                item.createdAt(),
+                item.parentCommentId(),
+                Math.max(0L, item.likeCount() + pending)
+        );
     }
 
     // ===== cursor helpers =====
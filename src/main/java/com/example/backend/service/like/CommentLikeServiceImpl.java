@@ -1,6 +1,5 @@
 package com.example.backend.service.like;
 
-import com.example.backend.domain.comment.Comment;
 import com.example.backend.domain.like.CommentLike;
 import com.example.backend.exception.BusinessException;
 import com.example.backend.exception.ErrorCode;
@@ -18,31 +17,35 @@ public class CommentLikeServiceImpl implements CommentLikeService {
 
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final LikeCountAggregator likeCountAggregator;
 
     @Transactional
     @Override
     public void like(UUID commentId, UUID userId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
+        if (!commentRepository.existsById(commentId)) {
+            throw new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
+        }
 
         if (commentLikeRepository.existsByCommentIdAndUserId(commentId, userId)) {
             return; // idempotent
         }
 
         commentLikeRepository.save(CommentLike.create(commentId, userId));
-        comment.increaseLikeCount();
+        // comments.like_count 는 커밋 후 모아서 반영
+        likeCountAggregator.addComment(commentId, 1);
     }
 
     @Transactional
     @Override
     public void unlike(UUID commentId, UUID userId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.COMMENT_NOT_FOUND));
+        if (!commentRepository.existsById(commentId)) {
+            throw new BusinessException(ErrorCode.COMMENT_NOT_FOUND);
+        }
 
         var opt = commentLikeRepository.findByCommentIdAndUserId(commentId, userId);
         if (opt.isEmpty()) return;
 
         commentLikeRepository.delete(opt.get());
-        comment.decreaseLikeCount();
+        likeCountAggregator.addComment(commentId, -1);
     }
 }
@@ -0,0 +1,41 @@
+package com.example.backend.service.like;
+
+import com.example.backend.domain.like.PostLike;
+import com.example.backend.repository.like.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * test 프로필: Redis 없이 매번 post_likes 조회
+ */
+@Component
+@Profile("test")
+@RequiredArgsConstructor
+public class DbPostLikeState implements PostLikeState {
+
+    private final PostLikeRepository postLikeRepository;
+
+    @Override
+    public Set<UUID> likedAmong(UUID userId, Collection<UUID> postIds) {
+        if (userId == null || postIds == null || postIds.isEmpty()) return Set.of();
+        return postLikeRepository.findAllByUserIdAndPostIdIn(userId, postIds).stream()
+                .map(PostLike::getPostId)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public void onLiked(UUID userId, UUID postId) {
+        // 읽을 때 DB 에서 바로 조회하므로 반영할 것 없음
+    }
+
+    @Override
+    public void onUnliked(UUID userId, UUID postId) {
+        // 위와 같음
+    }
+}
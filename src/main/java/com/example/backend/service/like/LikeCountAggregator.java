@@ -0,0 +1,120 @@
+package com.example.backend.service.like;
+
+import com.example.backend.common.AfterCommit;
+import com.example.backend.repository.comment.CommentRepository;
+import com.example.backend.repository.post.PostRepository;
+import com.example.backend.service.post.FeedRenderCacheEvictor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글/댓글 좋아요 수(likeCount) write-behind
+ *
+ * - 좋아요 트랜잭션에서 posts/comments row 를 갱신하지 않고, 커밋 후 대상별 증감만 노드 메모리에 모아 둔다
+ *   → 인기 게시글 하나에 몰리는 좋아요끼리 같은 row lock 을 기다리지 않음 (post_likes insert 만 남음)
+ * - flush 주기(app.like.count-flush-ms)마다 대상당 상대 update 한 번으로 반영 (id 순서로 → 노드 간 lock 순서 고정)
+ * - 조회는 DB 값 + 이 노드의 미반영분 (다른 노드의 미반영분은 최대 flush 주기만큼 늦게 보임)
+ * - 노드가 flush 전에 죽어 잃은 증감은 LikeCountReconcileService 가 좋아요 row 수로 다시 맞춘다
+ */
+@Slf4j
+@Component
+public class LikeCountAggregator {
+
+    private final Map<UUID, Long> pendingPosts = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> pendingComments = new ConcurrentHashMap<>();
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final FeedRenderCacheEvictor renderCacheEvictor;
+    private final TransactionTemplate transactionTemplate;
+
+    public LikeCountAggregator(
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            FeedRenderCacheEvictor renderCacheEvictor,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.renderCacheEvictor = renderCacheEvictor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** 게시글 좋아요 증감 (트랜잭션 안이면 커밋 후 반영 대상이 됨) */
+    public void addPost(UUID postId, long delta) {
+        AfterCommit.run(() -> pendingPosts.merge(postId, delta, Long::sum));
+    }
+
+    /** 댓글 좋아요 증감 (트랜잭션 안이면 커밋 후 반영 대상이 됨) */
+    public void addComment(UUID commentId, long delta) {
+        AfterCommit.run(() -> pendingComments.merge(commentId, delta, Long::sum));
+    }
+
+    public long pendingPostDelta(UUID postId) {
+        return pendingPosts.getOrDefault(postId, 0L);
+    }
+
+    public long pendingCommentDelta(UUID commentId) {
+        return pendingComments.getOrDefault(commentId, 0L);
+    }
+
+    /**
+     * 모인 증감을 한 트랜잭션으로 반영한다.
+     *
+     * @return 반영한 대상(게시글 + 댓글) 수
+     */
+    public int flush() {
+        Map<UUID, Long> posts = drain(pendingPosts);
+        Map<UUID, Long> comments = drain(pendingComments);
+        if (posts.isEmpty() && comments.isEmpty()) return 0;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                posts.forEach(postRepository::addLikeCount);
+                comments.forEach(commentRepository::addLikeCount);
+            });
+        } catch (RuntimeException e) {
+            // 실패분은 다시 합쳐서 다음 flush 에 반영
+            posts.forEach((id, d) -> pendingPosts.merge(id, d, Long::sum));
+            comments.forEach((id, d) -> pendingComments.merge(id, d, Long::sum));
+            throw e;
+        }
+
+        // ✅ 피드 렌더 캐시는 DB 값을 들고 있으므로 반영 후 제거 (안 그러면 TTL 동안 미반영분만큼 적게 보임)
+        posts.keySet().forEach(renderCacheEvictor::evictPost);
+        return posts.size() + comments.size();
+    }
+
+    public int pendingCount() {
+        return pendingPosts.size() + pendingComments.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("like count flush on shutdown failed | pending={}", pendingCount(), e);
+        }
+    }
+
+    // 상쇄되어 0 이 된 대상은 update 하지 않음
+    private static Map<UUID, Long> drain(Map<UUID, Long> pending) {
+        Map<UUID, Long> drained = new TreeMap<>();
+        for (UUID id : new ArrayList<>(pending.keySet())) {
+            Long delta = pending.remove(id);
+            if (delta != null && delta != 0L) {
+                drained.put(id, delta);
+            }
+        }
+        return drained;
+    }
+}
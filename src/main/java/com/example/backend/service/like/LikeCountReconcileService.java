@@ -0,0 +1,92 @@
+package com.example.backend.service.like;
+
+import com.example.backend.repository.comment.CommentRepository;
+import com.example.backend.repository.like.LikeCountRow;
+import com.example.backend.repository.post.PostRepository;
+import com.example.backend.service.post.FeedRenderCacheEvictor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * posts/comments.like_count 드리프트 보정
+ *
+ * - LikeCountAggregator 의 미반영 증감은 노드 메모리에만 있어 노드가 죽으면 사라진다 → post_likes/comment_likes 로 다시 센다
+ * - 센 시점에 다른 노드의 증감이 아직 flush 전일 수 있으므로 바로 고치지 않는다
+ *   1) scan: id keyset 으로 훑어 저장값과 실제 수가 다른 대상만 모은다
+ *   2) repair: flush 주기보다 충분히 지난 뒤 다시 세어, 두 번 모두 같은 값으로 어긋난 대상만 조건부 update
+ *      (그 사이 증감이 반영됐으면 값이 달라져 건너뜀, 다음 실행에서 다시 봄)
+ */
+@Service
+@RequiredArgsConstructor
+public class LikeCountReconcileService {
+
+    // keyset 시작값 (가장 작은 UUID)
+    public static final UUID FIRST = new UUID(0L, 0L);
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final FeedRenderCacheEvictor renderCacheEvictor;
+
+    public record ScanResult(UUID lastId, int scanned, Map<UUID, LikeCountRow> drifted) {}
+
+    @Transactional(readOnly = true)
+    public ScanResult scanPosts(UUID afterId, int batchSize) {
+        return scan(postRepository.findLikeCountsAfter(afterId, PageRequest.of(0, batchSize)), afterId);
+    }
+
+    @Transactional(readOnly = true)
+    public ScanResult scanComments(UUID afterId, int batchSize) {
+        return scan(commentRepository.findLikeCountsAfter(afterId, PageRequest.of(0, batchSize)), afterId);
+    }
+
+    /**
+     * @return 고친 게시글 수
+     */
+    @Transactional
+    public int repairPosts(Map<UUID, LikeCountRow> observed) {
+        if (observed.isEmpty()) return 0;
+
+        int repaired = 0;
+        for (LikeCountRow row : postRepository.findLikeCountsIn(observed.keySet())) {
+            if (!row.drifted() || !row.equals(observed.get(row.id()))) continue;
+            if (postRepository.reconcileLikeCount(row.id(), row.stored(), row.actual()) > 0) {
+                repaired++;
+                // ✅ 피드 렌더 캐시는 DB 값을 들고 있으므로 고친 뒤 제거
+                renderCacheEvictor.evictPost(row.id());
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * @return 고친 댓글 수
+     */
+    @Transactional
+    public int repairComments(Map<UUID, LikeCountRow> observed) {
+        if (observed.isEmpty()) return 0;
+
+        int repaired = 0;
+        for (LikeCountRow row : commentRepository.findLikeCountsIn(observed.keySet())) {
+            if (!row.drifted() || !row.equals(observed.get(row.id()))) continue;
+            repaired += commentRepository.reconcileLikeCount(row.id(), row.stored(), row.actual());
+        }
+        return repaired;
+    }
+
+    private static ScanResult scan(List<LikeCountRow> rows, UUID afterId) {
+        if (rows.isEmpty()) return new ScanResult(afterId, 0, Map.of());
+
+        Map<UUID, LikeCountRow> drifted = new HashMap<>();
+        for (LikeCountRow row : rows) {
+            if (row.drifted()) drifted.put(row.id(), row);
+        }
+        return new ScanResult(rows.get(rows.size() - 1).id(), rows.size(), drifted);
+    }
+}
@@ -21,6 +21,7 @@ public class PostLikeService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final LikeCountAggregator likeCountAggregator;
 
     @Transactional
     public void like(UUID meId, UUID postId) {
@@ -29,8 +30,9 @@ public class PostLikeService {
         userRepository.findById(meId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        var post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (!postRepository.existsById(postId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
 
         // ✅ 멱등 처리: 이미 좋아요면 그냥 성공
         if (postLikeRepository.existsByPostIdAndUserId(postId, meId)) {
@@ -38,7 +40,8 @@ public class PostLikeService {
         }
 
         postLikeRepository.save(PostLike.create(postId, meId));
-        post.increaseLikeCount();
+        // ✅ posts.like_count 는 커밋 후 모아서 반영 (인기 게시글 row lock 경합 방지)
+        likeCountAggregator.addPost(postId, 1);
 
         eventPublisher.publishEvent(new PostLikedEvent(postId, meId));
     }
@@ -49,13 +52,14 @@ public class PostLikeService {
         userRepository.findById(meId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        var post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
+        if (!postRepository.existsById(postId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
 
         postLikeRepository.findByPostIdAndUserId(postId, meId)
                 .ifPresent(like -> {
                     postLikeRepository.delete(like);
-                    post.decreaseLikeCount();
+                    likeCountAggregator.addPost(postId, -1);
                     eventPublisher.publishEvent(new PostUnlikedEvent(postId, meId));
                 });
     }
@@ -0,0 +1,23 @@
+package com.example.backend.service.like;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 사용자별 게시글 좋아요 여부 (피드/게시글 상세의 likedByMe)
+ * - likedAmong 은 트랜잭션 밖에서 호출 (상태 재구성이 새 트랜잭션으로 조회하므로 커넥션을 두 개 잡지 않도록)
+ */
+public interface PostLikeState {
+
+    /**
+     * postIds 중 userId 가 좋아요한 게시글
+     */
+    Set<UUID> likedAmong(UUID userId, Collection<UUID> postIds);
+
+    /** 좋아요 커밋 후 */
+    void onLiked(UUID userId, UUID postId);
+
+    /** 좋아요 취소 커밋 후 */
+    void onUnliked(UUID userId, UUID postId);
+}
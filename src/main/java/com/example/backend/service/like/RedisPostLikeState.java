@@ -0,0 +1,206 @@
+package com.example.backend.service.like;
+
+import com.example.backend.repository.like.PostLikeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Redis SET 기반 사용자별 좋아요 상태
+ *
+ * - likes:user:{userId} : 좋아요한 postId 전체 + 표시 member ("-" 재구성 완료 / "!" 너무 많아 DB 조회)
+ * - 조회는 SMISMEMBER 한 번 → 재구성된 사용자면 MySQL 조회 없음
+ * - "-" 가 없으면 처음 읽을 때 DB 에서 다시 만든다 (안 들어오는 사용자는 TTL 로 사라짐)
+ * - 좋아요/취소는 커밋 후 반영, 재구성 중(:seeding)에 들어온 변경도 반영하고
+ *   재구성 중 취소된 글은 :removed 에 남겨 재구성이 이전 스냅샷으로 되살리지 않게 함
+ * - 좋아요가 app.like.state-max-size 보다 많은 사용자는 "!" 만 두고 기존 DB 조회
+ * - Redis 장애 시 DB 조회
+ */
+@Slf4j
+@Profile("!test")
+@Component
+public class RedisPostLikeState implements PostLikeState {
+
+    private static final String KEY_PREFIX = "likes:user:";
+    private static final String SEEDING_SUFFIX = ":seeding";
+    private static final String REMOVED_SUFFIX = ":removed";
+    private static final String SEEDED = "-";
+    private static final String OVERFLOW = "!";
+    private static final Duration SEEDING_TTL = Duration.ofSeconds(30);
+
+    // KEYS: set, seeding, removed / ARGV: ttlSeconds, overflow(1|0), postId...
+    private static final RedisScript<Long> SEED = new DefaultRedisScript<>("""
+            for i = 3, #ARGV do
+              if redis.call('SISMEMBER', KEYS[3], ARGV[i]) == 0 then
+                redis.call('SADD', KEYS[1], ARGV[i])
+              end
+            end
+            if ARGV[2] == '1' then redis.call('SADD', KEYS[1], '!') end
+            redis.call('SADD', KEYS[1], '-')
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            redis.call('DEL', KEYS[2], KEYS[3])
+            return 1
+            """, Long.class);
+
+    // KEYS: set, seeding, removed / ARGV: add|rem, postId, maxSize, seedingTtlSeconds
+    private static final RedisScript<Long> MUTATE = new DefaultRedisScript<>("""
+            local seeded = redis.call('SISMEMBER', KEYS[1], '-') == 1
+            local seeding = redis.call('EXISTS', KEYS[2]) == 1
+            if not seeded and not seeding then return 0 end
+            if ARGV[1] == 'add' then
+              redis.call('SADD', KEYS[1], ARGV[2])
+              redis.call('SREM', KEYS[3], ARGV[2])
+              if redis.call('SCARD', KEYS[1]) > tonumber(ARGV[3]) + 2 then
+                redis.call('SADD', KEYS[1], '!')
+              end
+            else
+              redis.call('SREM', KEYS[1], ARGV[2])
+              if seeding then
+                redis.call('SADD', KEYS[3], ARGV[2])
+                redis.call('EXPIRE', KEYS[3], ARGV[4])
+              end
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final PostLikeRepository postLikeRepository;
+    private final TransactionTemplate seedTransaction;
+    private final int maxSize;
+    private final Duration ttl;
+
+    public RedisPostLikeState(
+            StringRedisTemplate redis,
+            PostLikeRepository postLikeRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.like.state-max-size:5000}") int maxSize,
+            @Value("${app.like.state-ttl-hours:24}") long ttlHours
+    ) {
+        this.redis = redis;
+        this.postLikeRepository = postLikeRepository;
+        // 재구성은 새 트랜잭션(새 스냅샷)에서 → ":seeding" 표시 이후 커밋된 변경은 이벤트로, 이전 것은 조회로 들어옴
+        // (likedAmong 호출자는 트랜잭션 밖 → 커넥션을 동시에 두 개 잡지 않음)
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.seedTransaction.setReadOnly(true);
+        this.maxSize = maxSize;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    @Override
+    public Set<UUID> likedAmong(UUID userId, Collection<UUID> postIds) {
+        if (userId == null || postIds == null || postIds.isEmpty()) return Set.of();
+
+        try {
+            Lookup result = lookup(userId, postIds);
+            if (!result.seeded() && seed(userId)) {
+                result = lookup(userId, postIds);
+            }
+            if (result.seeded() && !result.overflow()) return result.liked();
+        } catch (Exception e) {
+            log.warn("like state lookup failed, falling back to db | userId={}", userId, e);
+        }
+        return fromDb(userId, postIds);
+    }
+
+    @Override
+    public void onLiked(UUID userId, UUID postId) {
+        mutate(userId, postId, "add");
+    }
+
+    @Override
+    public void onUnliked(UUID userId, UUID postId) {
+        mutate(userId, postId, "rem");
+    }
+
+    private record Lookup(boolean seeded, boolean overflow, Set<UUID> liked) {}
+
+    private Lookup lookup(UUID userId, Collection<UUID> postIds) {
+        List<Object> members = new ArrayList<>(postIds.size() + 2);
+        members.add(SEEDED);
+        members.add(OVERFLOW);
+        for (UUID id : postIds) members.add(id.toString());
+
+        Map<Object, Boolean> found = redis.opsForSet().isMember(key(userId), members.toArray());
+        if (found == null || !Boolean.TRUE.equals(found.get(SEEDED))) return new Lookup(false, false, Set.of());
+        if (Boolean.TRUE.equals(found.get(OVERFLOW))) return new Lookup(true, true, Set.of());
+
+        Set<UUID> liked = new HashSet<>();
+        for (UUID id : postIds) {
+            if (Boolean.TRUE.equals(found.get(id.toString()))) liked.add(id);
+        }
+        return new Lookup(true, false, liked);
+    }
+
+    /**
+     * @return 이 호출이 재구성했으면 true (다른 요청이 재구성 중이면 false → 이번엔 DB 조회)
+     */
+    private boolean seed(UUID userId) {
+        String key = key(userId);
+        String seeding = key + SEEDING_SUFFIX;
+        if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(seeding, "1", SEEDING_TTL))) return false;
+
+        try {
+            List<UUID> ids = seedTransaction.execute(
+                    status -> postLikeRepository.findPostIdsByUserId(userId, PageRequest.of(0, maxSize + 1)));
+            boolean overflow = ids != null && ids.size() > maxSize;
+
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(ttl.toSeconds()));
+            args.add(overflow ? "1" : "0");
+            if (!overflow && ids != null) {
+                for (UUID id : ids) args.add(id.toString());
+            }
+            redis.execute(SEED, List.of(key, seeding, key + REMOVED_SUFFIX), args.toArray());
+            return true;
+        } catch (RuntimeException e) {
+            // 재구성 중 들어온 일부 member 만 남지 않도록 같이 지움
+            redis.delete(List.of(key, seeding, key + REMOVED_SUFFIX));
+            throw e;
+        }
+    }
+
+    private void mutate(UUID userId, UUID postId, String op) {
+        String key = key(userId);
+        try {
+            redis.execute(MUTATE, List.of(key, key + SEEDING_SUFFIX, key + REMOVED_SUFFIX),
+                    op, postId.toString(), String.valueOf(maxSize), String.valueOf(SEEDING_TTL.toSeconds()));
+        } catch (Exception e) {
+            // 반영 못 하면 틀린 상태가 남을 수 있으므로 버리고 다음 조회에서 다시 만든다
+            log.warn("like state update failed | userId={} postId={} op={}", userId, postId, op, e);
+            try {
+                redis.delete(key);
+            } catch (Exception ignore) {
+                // Redis 장애 → TTL 로 회복
+            }
+        }
+    }
+
+    private Set<UUID> fromDb(UUID userId, Collection<UUID> postIds) {
+        return postLikeRepository.findAllByUserIdAndPostIdIn(userId, postIds).stream()
+                .map(pl -> pl.getPostId())
+                .collect(Collectors.toSet());
+    }
+
+    private static String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.backend.service.like.listener;
+
+import com.example.backend.service.like.PostLikeService;
+import com.example.backend.service.like.PostLikeState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * 좋아요 상태 캐시 반영
+ * - 바로 다음 피드 조회에 보이도록 요청 스레드에서 커밋 직후 처리 (Redis 호출 한 번)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeStateEventListener {
+
+    private final PostLikeState postLikeState;
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onLiked(PostLikeService.PostLikedEvent event) {
+        try {
+            postLikeState.onLiked(event.userId(), event.postId());
+        } catch (Exception e) {
+            log.warn("좋아요 상태 반영 실패 | userId={} postId={}", event.userId(), event.postId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onUnliked(PostLikeService.PostUnlikedEvent event) {
+        try {
+            postLikeState.onUnliked(event.userId(), event.postId());
+        } catch (Exception e) {
+            log.warn("좋아요 취소 상태 반영 실패 | userId={} postId={}", event.userId(), event.postId(), e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.backend.service.message;
+
+import com.example.backend.domain.message.ConversationMember;
+import com.example.backend.repository.message.ConversationMemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대화방 접근 상태 near cache (conversationId, userId) → 멤버 여부 + 잠금 상태
+ *
+ * - 메시지 전송/조회마다 반복되던 멤버 존재 확인 + 잠금 확인을 노드 메모리에서 처리 (steady state 에서 DB 조회 0회)
+ * - 멤버가 아닌 결과도 캐싱 (반복 403 요청이 DB 로 가지 않게)
+ * - 초대/내보내기/생성/잠금 변경 시 커밋 후 이벤트로 무효화, 다른 노드는 pub/sub 으로 무효화
+ * - 무효화 메시지를 놓쳐도 TTL(app.message.access-cache-ttl-ms) 이 지나면 다시 조회
+ */
+@Component
+public class ConversationAccessCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConversationMemberRepository memberRepository;
+    private final long ttlMillis;
+    private final int maxSize;
+
+    // 무효화가 일어날 때마다 증가 → 조회 도중 무효화가 끼면 조회 결과(이전 상태일 수 있음)를 캐싱하지 않음
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ConversationAccessCache(
+            ConversationMemberRepository memberRepository,
+            @Value("${app.message.access-cache-ttl-ms:60000}") long ttlMillis,
+            @Value("${app.message.access-cache-max-size:100000}") int maxSize
+    ) {
+        this.memberRepository = memberRepository;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+    }
+
+    record Key(UUID conversationId, UUID userId) {}
+
+    private record Entry(Access access, long expiresAt) {}
+
+    /**
+     * @param lockVersion 잠금 설정 버전 (unlock token 키에 포함, 잠금 변경 시 이전 토큰 무효화)
+     */
+    public record Access(boolean member, boolean lockEnabled, String lockVersion) {
+        static final Access NONE = new Access(false, false, null);
+
+        static Access of(ConversationMember m) {
+            return new Access(true, m.isLockEnabled(), m.getLockVersion());
+        }
+    }
+
+    public Access get(UUID conversationId, UUID userId) {
+        Key key = new Key(conversationId, userId);
+        long now = System.currentTimeMillis();
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.incrementAndGet();
+            return cached.access();
+        }
+        misses.incrementAndGet();
+
+        long gen = generation.get();
+        Access access = memberRepository.findByConversationIdAndUserId(conversationId, userId)
+                .map(Access::of)
+                .orElse(Access.NONE);
+
+        if (generation.get() == gen) {
+            // 상한을 넘으면 통째로 비운다 (만료 항목 정리 겸, 다시 채워지는 동안만 miss)
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+            entries.put(key, new Entry(access, now + ttlMillis));
+        }
+        return access;
+    }
+
+    public boolean isMember(UUID conversationId, UUID userId) {
+        return get(conversationId, userId).member();
+    }
+
+    public void invalidate(UUID conversationId, UUID userId) {
+        generation.incrementAndGet();
+        entries.remove(new Key(conversationId, userId));
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.backend.service.message;
+
+import java.util.UUID;
+
+/**
+ * 다른 노드의 ConversationAccessCache 무효화 전파
+ */
+public interface ConversationAccessInvalidationBus {
+
+    void publish(UUID conversationId, UUID userId);
+}
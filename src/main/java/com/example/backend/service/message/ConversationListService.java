@@ -10,7 +10,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -32,9 +31,6 @@ public class ConversationListService {
         boolean hasNext = rows.size() > pageSize;
         List<ConversationListRow> page = hasNext ? rows.subList(0, pageSize) : rows;
 
-        List<UUID> convIds = page.stream().map(ConversationListRow::conversationId).toList();
-        Map<UUID, Long> unreadMap = queryRepository.fetchUnreadCounts(meId, convIds);
-
         List<ConversationListResponse.Item> items = page.stream()
                 .map(r -> new ConversationListResponse.Item(
                         r.conversationId(),
@@ -47,7 +43,8 @@ public class ConversationListService {
                         ),
                         r.lastMessagePreview(),
                         r.lastMessageAt(),
-                        unreadMap.getOrDefault(r.conversationId(), 0L)
+                        // ✅ 멤버 row 에 저장된 카운터 (메시지 COUNT 집계 없음)
+                        r.unreadCount() == null ? 0L : Math.max(0, r.unreadCount())
                 ))
                 .toList();
 
@@ -1,10 +1,12 @@
 package com.example.backend.service.message;
 
 import com.example.backend.domain.message.ConversationMember;
+import com.example.backend.domain.message.event.ConversationAccessChangedEvent;
 import com.example.backend.exception.BusinessException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.repository.message.ConversationMemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,8 @@ public class ConversationLockService {
     private final ConversationMemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final StringRedisTemplate redis;
+    private final ConversationAccessCache accessCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public boolean isLockEnabled(UUID conversationId, UUID userId) {
@@ -39,6 +43,7 @@ public class ConversationLockService {
 
         String hash = passwordEncoder.encode(rawPassword);
         m.enableLock(hash);
+        eventPublisher.publishEvent(new ConversationAccessChangedEvent(conversationId, userId));
     }
 
     @Transactional
@@ -53,6 +58,7 @@ public class ConversationLockService {
         }
 
         m.disableLock();
+        eventPublisher.publishEvent(new ConversationAccessChangedEvent(conversationId, userId));
     }
 
     @Transactional(readOnly = true)
@@ -78,18 +84,22 @@ public class ConversationLockService {
         return new ConversationUnlock(token, expiresAt);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 멤버 여부 + 잠금 상태는 접근 캐시에서 확인 (DB 조회 없음), 잠금된 경우에만 Redis 로 토큰 확인
+     */
     public void ensureUnlocked(UUID conversationId, UUID userId, String unlockToken) {
-        ConversationMember m = memberRepository.findByConversationIdAndUserId(conversationId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_FORBIDDEN));
+        ConversationAccessCache.Access access = accessCache.get(conversationId, userId);
+        if (!access.member()) {
+            throw new BusinessException(ErrorCode.MESSAGE_FORBIDDEN);
+        }
 
-        if (!m.isLockEnabled()) return;
+        if (!access.lockEnabled()) return;
 
         if (unlockToken == null || unlockToken.isBlank()) {
             throw new BusinessException(ErrorCode.CONVERSATION_LOCKED);
         }
 
-        String key = unlockKey(userId, conversationId, m.getLockVersion(), unlockToken);
+        String key = unlockKey(userId, conversationId, access.lockVersion(), unlockToken);
         Boolean ok = redis.hasKey(key);
 
         if (ok == null || !ok) {
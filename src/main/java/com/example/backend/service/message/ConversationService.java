@@ -4,6 +4,7 @@ import com.example.backend.controller.message.dto.GroupConversationMembersRespon
 import com.example.backend.domain.message.Conversation;
 import com.example.backend.domain.message.ConversationMember;
 import com.example.backend.domain.message.DirectConversationKey;
+import com.example.backend.domain.message.event.ConversationAccessChangedEvent;
 import com.example.backend.exception.BusinessException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.repository.message.ConversationMemberRepository;
@@ -11,6 +12,7 @@ import com.example.backend.repository.message.ConversationRepository;
 import com.example.backend.repository.message.DirectConversationKeyRepository;
 import com.example.backend.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +31,7 @@ public class ConversationService {
     private final ConversationMemberRepository memberRepository;
     private final DirectConversationKeyRepository directKeyRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UUID createOrGetDirect(UUID meId, UUID targetUserId) {
@@ -51,6 +54,8 @@ public class ConversationService {
 
         memberRepository.save(ConversationMember.join(c.getId(), meId));
         memberRepository.save(ConversationMember.join(c.getId(), targetUserId));
+        eventPublisher.publishEvent(new ConversationAccessChangedEvent(c.getId(), meId));
+        eventPublisher.publishEvent(new ConversationAccessChangedEvent(c.getId(), targetUserId));
 
         try {
             directKeyRepository.save(DirectConversationKey.of(c.getId(), meId, targetUserId));
@@ -89,6 +94,7 @@ public class ConversationService {
 
         for (UUID userId : memberIds) {
             memberRepository.save(ConversationMember.join(conversation.getId(), userId));
+            eventPublisher.publishEvent(new ConversationAccessChangedEvent(conversation.getId(), userId));
         }
 
         return conversation.getId();
@@ -129,6 +135,8 @@ public class ConversationService {
                         .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
                 if (!memberRepository.existsByConversationIdAndUserId(conversationId, userId)) {
                     memberRepository.save(ConversationMember.join(conversationId, userId));
+                    // ✅ 멤버 아님으로 캐싱된 상태 무효화
+                    eventPublisher.publishEvent(new ConversationAccessChangedEvent(conversationId, userId));
                 }
             }
         }
@@ -151,7 +159,10 @@ public class ConversationService {
         }
 
         memberRepository.findByConversationIdAndUserId(conversationId, userId)
-                .ifPresent(memberRepository::delete);
+                .ifPresent(m -> {
+                    memberRepository.delete(m);
+                    eventPublisher.publishEvent(new ConversationAccessChangedEvent(conversationId, userId));
+                });
         return conversationId;
     }
 
@@ -0,0 +1,69 @@
+package com.example.backend.service.message;
+
+import com.example.backend.domain.message.Message;
+import com.example.backend.repository.message.ConversationRepository;
+import com.example.backend.repository.message.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대화방 요약(last_message_*) repair
+ *
+ * - ConversationSummaryUpdater 는 요약을 메모리에 모았다가 반영하므로 노드가 죽으면 flush 전 요약이 사라진다
+ * - 최근 기간에 메시지가 있는 대화방만 messages 에서 최신 메시지를 다시 찾아, 저장된 요약보다 최신이거나 preview 가 다르면 고친다
+ * - 아직 flush 전인 요약과 겹치지 않게 PENDING_GRACE 이전 메시지만 본다
+ */
+@Service
+@RequiredArgsConstructor
+public class ConversationSummaryRepairService {
+
+    // flush 주기보다 충분히 길게 (그 사이 요약은 write-behind 가 반영)
+    public static final Duration PENDING_GRACE = Duration.ofMinutes(1);
+
+    // 이 기간 안에 메시지가 있는 대화방만 본다 (노드 재시작까지 걸리는 시간보다 길게)
+    public static final Duration REPAIR_WINDOW = Duration.ofHours(1);
+
+    private static final int PREVIEW_MAX_LENGTH = 200;
+
+    private final MessageRepository messageRepository;
+    private final ConversationRepository conversationRepository;
+
+    public record BatchResult(LocalDateTime lastAt, UUID lastId, int scanned, int repaired) {}
+
+    /**
+     * (afterAt, afterId) 이후 메시지 중 대화방별 최신 메시지로 요약을 맞춘다
+     *
+     * @return 다음 배치 시작 위치와 처리 결과 (scanned 가 batchSize 보다 작으면 끝)
+     */
+    @Transactional
+    public BatchResult repairBatch(LocalDateTime afterAt, UUID afterId, LocalDateTime upTo, int batchSize) {
+        List<Message> latest = messageRepository.findLatestPerConversationAfter(
+                afterAt, afterId, upTo, PageRequest.of(0, batchSize));
+        if (latest.isEmpty()) return new BatchResult(afterAt, afterId, 0, 0);
+
+        int repaired = 0;
+        for (Message m : latest) {
+            // ✅ 방금 수정된 메시지는 수정 요약이 아직 flush 전일 수 있음 → 다음 실행에서 다시 봄
+            if (m.getEditedAt() != null && m.getEditedAt().isAfter(upTo)) continue;
+
+            repaired += conversationRepository.repairLastMessage(
+                    m.getConversationId(), m.getId(), m.getCreatedAt(), preview(m.getContent()));
+        }
+
+        Message last = latest.get(latest.size() - 1);
+        return new BatchResult(last.getCreatedAt(), last.getId(), latest.size(), repaired);
+    }
+
+    // 전송/수정 시 요약과 같은 규칙
+    private static String preview(String content) {
+        String preview = content == null ? "" : content;
+        return preview.length() > PREVIEW_MAX_LENGTH ? preview.substring(0, PREVIEW_MAX_LENGTH) : preview;
+    }
+}
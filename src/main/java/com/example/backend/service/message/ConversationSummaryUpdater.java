@@ -0,0 +1,116 @@
+package com.example.backend.service.message;
+
+import com.example.backend.common.AfterCommit;
+import com.example.backend.repository.message.ConversationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대화방 요약(lastMessageId/lastMessageAt/lastMessagePreview) write-behind
+ *
+ * - 메시지 전송 트랜잭션에서 conversations row 를 직접 갱신하지 않고, 커밋 후 대화방별 최신 요약만 메모리에 보관
+ * - flush 주기(app.message.summary-flush-ms)마다 한 트랜잭션으로 모아서 반영 → 동시 전송자 간 row lock 대기 제거
+ * - 반영은 "더 최신일 때만" 조건부 update 라 노드가 여러 개여도 오래된 요약이 최신을 덮지 않음
+ * - 대화방 목록의 요약은 최대 flush 주기만큼 늦을 수 있음
+ * - 노드가 flush 전에 죽어 잃은 요약은 ConversationSummaryRepairService 가 messages 에서 다시 맞춘다
+ */
+@Slf4j
+@Component
+public class ConversationSummaryUpdater {
+
+    private final Map<UUID, Summary> pending = new ConcurrentHashMap<>();
+    private final ConversationRepository conversationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ConversationSummaryUpdater(
+            ConversationRepository conversationRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.conversationRepository = conversationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    record Summary(UUID messageId, LocalDateTime at, String preview) {}
+
+    /**
+     * 대화방 요약 후보 등록 (트랜잭션 안이면 커밋 후 반영 대상이 됨)
+     * - 같은 메시지면 preview 만 교체 (수정), 다른 메시지면 더 최신 것만 남김
+     */
+    public void submit(UUID conversationId, UUID messageId, LocalDateTime at, String preview) {
+        Summary summary = new Summary(messageId, at, preview);
+
+        AfterCommit.run(() -> merge(conversationId, summary));
+    }
+
+    /**
+     * 보관 중인 요약을 한 트랜잭션으로 반영한다.
+     *
+     * @return 실제로 갱신된 대화방 수
+     */
+    public int flush() {
+        if (pending.isEmpty()) return 0;
+
+        Map<UUID, Summary> drained = new HashMap<>();
+        for (UUID conversationId : new ArrayList<>(pending.keySet())) {
+            Summary summary = pending.remove(conversationId);
+            if (summary != null) {
+                drained.put(conversationId, summary);
+            }
+        }
+        if (drained.isEmpty()) return 0;
+
+        try {
+            Integer updated = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (Map.Entry<UUID, Summary> e : drained.entrySet()) {
+                    Summary s = e.getValue();
+                    count += conversationRepository.updateLastMessageIfNewer(e.getKey(), s.messageId(), s.at(), s.preview());
+                }
+                return count;
+            });
+            return updated == null ? 0 : updated;
+        } catch (RuntimeException e) {
+            // 실패분은 다시 보관 (그 사이 들어온 더 최신 요약이 있으면 그게 이김)
+            drained.forEach(this::merge);
+            throw e;
+        }
+    }
+
+    /**
+     * 아직 반영되지 않은 요약 수 (모니터링/테스트용)
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("conversation summary flush on shutdown failed | pending={}", pending.size(), e);
+        }
+    }
+
+    private void merge(UUID conversationId, Summary summary) {
+        pending.merge(conversationId, summary, ConversationSummaryUpdater::newest);
+    }
+
+    static Summary newest(Summary current, Summary incoming) {
+        if (current.messageId().equals(incoming.messageId())) return incoming;
+
+        int byAt = incoming.at().compareTo(current.at());
+        if (byAt != 0) return byAt > 0 ? incoming : current;
+        return incoming.messageId().compareTo(current.messageId()) > 0 ? incoming : current;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.backend.service.message;
+
+import com.example.backend.domain.message.ArchivedMessage;
+import com.example.backend.domain.message.Message;
+import com.example.backend.repository.message.ConversationRepository;
+import com.example.backend.repository.message.MessageRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * messages(hot) → messages_archive(cold) 이동
+ *
+ * - 작성 후 app.message.archive-after-days 가 지난 메시지
+ * - 전체 삭제 후 app.message.archive-deleted-after-days 가 지난 메시지 (hot 인덱스 범위에서 빼기 위함)
+ * - id 를 유지한 채 한 트랜잭션에서 insert + delete → 조회는 항상 둘 중 한 곳에서만 보임
+ * - 대화방마다 보관된 가장 최신 메시지 시각(conversations.archived_until)을 기록 → 목록 조회의 cold 조회 여부 판단
+ * - 보관된 메시지는 읽기 전용 (목록 조회/첨부 다운로드만, 수정/삭제/핀 생성은 대상 아님)
+ */
+@Slf4j
+@Service
+public class MessageArchiveService {
+
+    private final MessageRepository messageRepository;
+    private final ConversationRepository conversationRepository;
+    private final EntityManager em;
+    private final int archiveAfterDays;
+    private final int archiveDeletedAfterDays;
+
+    public MessageArchiveService(
+            MessageRepository messageRepository,
+            ConversationRepository conversationRepository,
+            EntityManager em,
+            @Value("${app.message.archive-after-days:365}") int archiveAfterDays,
+            @Value("${app.message.archive-deleted-after-days:7}") int archiveDeletedAfterDays
+    ) {
+        this.messageRepository = messageRepository;
+        this.conversationRepository = conversationRepository;
+        this.em = em;
+        this.archiveAfterDays = archiveAfterDays;
+        this.archiveDeletedAfterDays = archiveDeletedAfterDays;
+    }
+
+    /**
+     * @return 이번 배치에서 옮긴 메시지 수 (batchSize 보다 작으면 남은 대상 없음)
+     */
+    @Transactional
+    public int archiveOldBatch(int batchSize) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveAfterDays);
+        return move(messageRepository.findArchivableOld(cutoff, PageRequest.of(0, batchSize)));
+    }
+
+    @Transactional
+    public int archiveDeletedBatch(int batchSize) {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveDeletedAfterDays);
+        return move(messageRepository.findArchivableDeleted(cutoff, PageRequest.of(0, batchSize)));
+    }
+
+    private int move(List<Message> targets) {
+        if (targets.isEmpty()) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Message m : targets) {
+            // id 가 이미 있으므로 merge(select) 없이 바로 persist → JDBC batch insert
+            em.persist(ArchivedMessage.from(m, now));
+        }
+        em.flush();
+
+        List<UUID> ids = targets.stream().map(Message::getId).toList();
+        messageRepository.deleteAllByIdInBatch(ids);
+
+        // ✅ 대화방별 보관 경계 기록 → 보관된 메시지가 없는 대화방 목록 조회는 cold 를 보지 않음
+        Map<UUID, LocalDateTime> newestArchived = new HashMap<>();
+        for (Message m : targets) {
+            if (m.isDeleted()) continue; // 삭제된 메시지는 목록 조회 대상 아님
+            newestArchived.merge(m.getConversationId(), m.getCreatedAt(), (x, y) -> x.isAfter(y) ? x : y);
+        }
+        newestArchived.forEach(conversationRepository::markArchivedUntil);
+        em.clear();
+
+        return targets.size();
+    }
+}
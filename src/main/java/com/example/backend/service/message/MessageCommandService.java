@@ -1,34 +1,42 @@
 package com.example.backend.service.message;
 
+import com.example.backend.common.AfterCommit;
 import com.example.backend.common.MediaPayloads;
+import com.example.backend.common.PinCandidatePayloads;
 import com.example.backend.common.PublicUrlBuilder;
+import com.example.backend.controller.message.dto.MessageListResponse;
 import com.example.backend.controller.message.dto.MessageSendRequest;
 import com.example.backend.controller.message.dto.MessageSendResponse;
 import com.example.backend.controller.message.dto.MessageUpdateRequest;
 import com.example.backend.controller.message.dto.MessageUpdateResponse;
+import com.example.backend.controller.message.dto.PinCandidateResponse;
 import com.example.backend.domain.file.UploadedFile;
-import com.example.backend.domain.message.Conversation;
 import com.example.backend.domain.message.Message;
 import com.example.backend.domain.message.MessageAttachment;
 import com.example.backend.domain.message.event.MessageSentEvent;
 import com.example.backend.exception.BusinessException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.repository.file.UploadedFileRepository;
-import com.example.backend.repository.message.ConversationMemberRepository;
 import com.example.backend.repository.message.ConversationRepository;
 import com.example.backend.repository.message.MessageAttachmentRepository;
 import com.example.backend.repository.message.MessageRepository;
-import com.example.backend.repository.user.UserRepository;
 import com.example.backend.service.pin.ConversationPinService;
 import com.example.backend.search.index.SearchIndexingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -39,11 +47,10 @@ public class MessageCommandService {
 
     private final MessageRepository messageRepository;
     private final ConversationRepository conversationRepository;
-    private final ConversationMemberRepository memberRepository;
-    private final UserRepository userRepository;
     private final UploadedFileRepository uploadedFileRepository;
     private final MessageAttachmentRepository attachmentRepository;
     private final ConversationLockService lockService;
+    private final ConversationAccessCache accessCache;
     private final ApplicationEventPublisher eventPublisher;
 
     // ✅ NEW: 핀 서비스
@@ -52,18 +59,29 @@ public class MessageCommandService {
     // ✅ NEW: 파일 다운로드 URL 생성용
     private final PublicUrlBuilder urlBuilder;
     private final SearchIndexingService searchIndexingService;
+    private final ConversationSummaryUpdater summaryUpdater;
+    private final MessageSendDedupCache dedupCache;
+    private final RecentMessageCache recentMessageCache;
+    private final RecentMessageInvalidationBus recentMessageBus;
 
     public MessageSendResponse send(UUID meId, UUID conversationId, MessageSendRequest req, String unlockToken) {
 
-        if (!memberRepository.existsByConversationIdAndUserId(conversationId, meId)) {
+        // ✅ 멤버 여부는 접근 캐시에서 확인 (멤버 row 는 가입 시 유저 존재를 확인하므로 별도 유저 조회 생략)
+        if (!accessCache.isMember(conversationId, meId)) {
             throw new BusinessException(ErrorCode.MESSAGE_FORBIDDEN);
         }
 
         // ✅ DM Lock: 잠금된 대화는 unlock token 없으면 차단
         lockService.ensureUnlocked(conversationId, meId, unlockToken);
 
-        userRepository.findById(meId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        // ✅ 멱등: 같은 전송 키로 이미 보낸 메시지면 새로 만들지 않고 처음 응답을 돌려줌 (이벤트 발행 X)
+        String clientMessageKey = normalizeClientMessageKey(req.clientMessageKey());
+        if (clientMessageKey != null) {
+            var previous = findPreviousSend(meId, conversationId, clientMessageKey);
+            if (previous.isPresent()) {
+                return previous.get();
+            }
+        }
 
         String content = (req.content() == null) ? null : req.content().trim();
         List<UUID> attachmentIds = (req.attachmentIds() == null) ? List.of() : req.attachmentIds();
@@ -72,59 +90,76 @@ public class MessageCommandService {
             throw new BusinessException(ErrorCode.INVALID_REQUEST);
         }
 
-        Message saved = messageRepository.save(Message.text(conversationId, meId, req.content()));
-
-        // ✅ Conversation 조회
-        Conversation conversation = conversationRepository.findById(conversationId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CONVERSATION_NOT_FOUND));
+        // ✅ 첨부 파일은 IN 한 번으로 조회/검증 (메시지 저장 전에 실패시킴)
+        List<UploadedFile> attachedFiles = resolveAttachments(meId, attachmentIds);
 
-        // ✅ preview 업데이트
-        String preview = req.content() == null ? "" : req.content();
-        preview = preview.length() > 200 ? preview.substring(0, 200) : preview;
-        conversation.updateLastMessage(saved.getId(), saved.getCreatedAt(), preview);
+        Message message = Message.text(conversationId, meId, req.content());
 
-        // ✅ NEW: 핀 후보 감지(Confirm 모드) - DB 저장 X
-        List<com.example.backend.controller.message.dto.PinCandidateResponse> pinCandidates;
+        // ✅ 핀 후보 감지(Confirm 모드) - 작성 시 한 번만 감지해 메시지에 저장 (목록 조회는 저장값 사용)
+        String pinCandidateJson = null;
         try {
-            pinCandidates = pinService.detectCandidates(saved.getId(), saved.getContent());
+            pinCandidateJson = pinService.detectCandidateJson(message.getContent(), java.time.LocalDateTime.now());
+            message.updatePinCandidate(pinCandidateJson);
         } catch (Exception e) {
-            log.warn("pin candidate detection failed (ignored) | conversationId={} messageId={}", conversationId, saved.getId(), e);
-            pinCandidates = List.of();
+            // 감지 실패 시 미감지 상태로 두면 backfill 이 다시 처리
+            log.warn("pin candidate detection failed (ignored) | conversationId={}", conversationId, e);
+        }
+
+        Message saved;
+        if (clientMessageKey == null) {
+            saved = messageRepository.save(message);
+        } else {
+            // 동시에 들어온 같은 키 재시도는 unique 제약으로 여기서 걸러짐
+            message.assignClientMessageKey(clientMessageKey);
+            try {
+                saved = messageRepository.saveAndFlush(message);
+            } catch (DataIntegrityViolationException e) {
+                throw new BusinessException(ErrorCode.MESSAGE_SEND_IN_PROGRESS);
+            }
+        }
+
+        // ✅ Conversation 존재 확인
+        if (!conversationRepository.existsById(conversationId)) {
+            throw new BusinessException(ErrorCode.CONVERSATION_NOT_FOUND);
         }
 
+        // ✅ preview 업데이트 - 커밋 후 write-behind 로 반영 (conversations row lock 을 전송 트랜잭션에서 잡지 않음)
+        String preview = req.content() == null ? "" : req.content();
+        preview = preview.length() > 200 ? preview.substring(0, 200) : preview;
+        summaryUpdater.submit(conversationId, saved.getId(), saved.getCreatedAt(), preview);
+
+        List<PinCandidateResponse> pinCandidates = PinCandidatePayloads.decode(saved.getId(), pinCandidateJson);
+
         // 첨부 저장 + 응답 구성
-        List<MessageSendResponse.FileItem> files = new ArrayList<>();
-
-        for (int i = 0; i < attachmentIds.size(); i++) {
-            UUID fileId = attachmentIds.get(i);
-
-            UploadedFile file = uploadedFileRepository.findByIdAndDeletedFalse(fileId)
-                    .orElseThrow(() -> new BusinessException(ErrorCode.FILE_NOT_FOUND));
-
-            attachmentRepository.save(MessageAttachment.create(saved.getId(), fileId, i));
-
-            String mediaType = MediaPayloads.normalizeMediaType(file.getContentType(), file.getFileType().name());
-            String downloadUrl = urlBuilder.absolute("/api/files/" + file.getId() + "/download");
-            String previewUrl = MediaPayloads.previewUrl(mediaType, downloadUrl);
-            String thumbnailUrl = ("IMAGE".equals(mediaType) || "VIDEO".equals(mediaType))
-                    ? urlBuilder.absolute("/api/files/" + file.getId() + "/thumbnail")
-                    : null;
-            String streamingUrl = MediaPayloads.streamingUrl(mediaType, downloadUrl);
-
-            files.add(new MessageSendResponse.FileItem(
-                    file.getId(),
-                    mediaType,
-                    downloadUrl,
-                    downloadUrl,
-                    previewUrl,
-                    thumbnailUrl,
-                    streamingUrl,
-                    file.getOriginalFilename(),
-                    file.getContentType(),
-                    file.getSize()
-            ));
+        // ✅ 첨부 row 는 saveAll 로 모아 JDBC batch insert
+        List<MessageAttachment> attachments = new ArrayList<>(attachedFiles.size());
+        for (int i = 0; i < attachedFiles.size(); i++) {
+            attachments.add(MessageAttachment.create(saved.getId(), attachedFiles.get(i).getId(), i));
+        }
+        attachmentRepository.saveAll(attachments);
+
+        List<MessageSendResponse.FileItem> files = new ArrayList<>(attachedFiles.size());
+        List<MessageListResponse.Attachment> listAttachments = new ArrayList<>(attachedFiles.size());
+        for (UploadedFile file : attachedFiles) {
+            files.add(toFileItem(file));
+            listAttachments.add(MessageListResponse.Attachment.of(
+                    file.getId(), file.getOriginalFilename(), file.getContentType(), file.getSize()));
         }
 
+        // ✅ 최근 메시지 창에 커밋 후 추가 (목록 조회와 같은 형태, 다른 노드 창에도 같은 item 전파)
+        appendRecentAfterCommit(conversationId, new MessageListResponse.Item(
+                saved.getId(),
+                saved.getSenderId(),
+                saved.getType() == null ? null : saved.getType().name(),
+                saved.getContent(),
+                saved.getMetadataJson(),
+                saved.getSessionId(),
+                saved.getCreatedAt(),
+                saved.getEditedAt(),
+                listAttachments,
+                saved.isPinScanned() ? pinCandidates : null
+        ));
+
         // ✅ SSE broadcast(메시지)
         eventPublisher.publishEvent(new MessageSentEvent(
                 saved.getId(),
@@ -137,7 +172,7 @@ public class MessageCommandService {
         log.info("📨 MessageSentEvent published | messageId={}", saved.getId());
         searchIndexingService.indexMessage(saved);
 
-        return new MessageSendResponse(
+        MessageSendResponse response = new MessageSendResponse(
                 saved.getId(),
                 saved.getConversationId(),
                 saved.getSenderId(),
@@ -146,13 +181,146 @@ public class MessageCommandService {
                 pinCandidates,
                 saved.getCreatedAt()
         );
+
+        if (clientMessageKey != null) {
+            cacheAfterCommit(meId, clientMessageKey, response);
+        }
+        return response;
+    }
+
+    private String normalizeClientMessageKey(String raw) {
+        if (raw == null) return null;
+        String key = raw.trim();
+        return key.isEmpty() ? null : key;
+    }
+
+    /**
+     * 같은 전송 키로 이미 저장된 메시지의 응답
+     * - dedup 캐시 → 없으면 DB (캐시 만료/장애 대비) 순서로 확인
+     * - 다른 대화방에 쓴 키를 재사용하면 잘못된 요청
+     */
+    private Optional<MessageSendResponse> findPreviousSend(UUID meId, UUID conversationId, String clientMessageKey) {
+        var cached = dedupCache.get(meId, clientMessageKey);
+        if (cached.isPresent()) {
+            if (!conversationId.equals(cached.get().conversationId())) {
+                throw new BusinessException(ErrorCode.INVALID_REQUEST);
+            }
+            return cached;
+        }
+
+        var existing = messageRepository.findBySenderIdAndClientMessageKey(meId, clientMessageKey);
+        if (existing.isEmpty()) return Optional.empty();
+
+        Message message = existing.get();
+        if (!conversationId.equals(message.getConversationId())) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST);
+        }
+
+        MessageSendResponse response = rebuildSendResponse(message);
+        dedupCache.put(meId, clientMessageKey, response);
+        return Optional.of(response);
+    }
+
+    private MessageSendResponse rebuildSendResponse(Message message) {
+        List<MessageAttachment> attachments = new ArrayList<>(attachmentRepository.findAllByMessageId(message.getId()));
+        attachments.sort(Comparator.comparingInt(MessageAttachment::getSortOrder));
+
+        Map<UUID, UploadedFile> filesById = new HashMap<>();
+        if (!attachments.isEmpty()) {
+            List<UUID> fileIds = attachments.stream().map(MessageAttachment::getFileId).toList();
+            for (UploadedFile file : uploadedFileRepository.findAllByIdInAndDeletedFalse(fileIds)) {
+                filesById.put(file.getId(), file);
+            }
+        }
+
+        List<MessageSendResponse.FileItem> files = new ArrayList<>(attachments.size());
+        for (MessageAttachment attachment : attachments) {
+            UploadedFile file = filesById.get(attachment.getFileId());
+            if (file != null) {
+                files.add(toFileItem(file));
+            }
+        }
+
+        return new MessageSendResponse(
+                message.getId(),
+                message.getConversationId(),
+                message.getSenderId(),
+                message.getContent(),
+                files,
+                PinCandidatePayloads.decode(message.getId(), message.getPinCandidateJson()),
+                message.getCreatedAt()
+        );
+    }
+
+    // 커밋된 전송만 캐싱 (롤백된 응답을 재시도에 돌려주지 않음)
+    private void cacheAfterCommit(UUID meId, String clientMessageKey, MessageSendResponse response) {
+        AfterCommit.run(() -> dedupCache.put(meId, clientMessageKey, response));
+    }
+
+    private void appendRecentAfterCommit(UUID conversationId, MessageListResponse.Item item) {
+        AfterCommit.run(() -> {
+            recentMessageCache.append(conversationId, item);
+            recentMessageBus.publishAppended(conversationId, item);
+        });
+    }
+
+    private MessageSendResponse.FileItem toFileItem(UploadedFile file) {
+        String mediaType = MediaPayloads.normalizeMediaType(file.getContentType(), file.getFileType().name());
+        String downloadUrl = urlBuilder.absolute("/api/files/" + file.getId() + "/download");
+        String previewUrl = MediaPayloads.previewUrl(mediaType, downloadUrl);
+        String thumbnailUrl = ("IMAGE".equals(mediaType) || "VIDEO".equals(mediaType))
+                ? urlBuilder.absolute("/api/files/" + file.getId() + "/thumbnail")
+                : null;
+        String streamingUrl = MediaPayloads.streamingUrl(mediaType, downloadUrl);
+
+        return new MessageSendResponse.FileItem(
+                file.getId(),
+                mediaType,
+                downloadUrl,
+                downloadUrl,
+                previewUrl,
+                thumbnailUrl,
+                streamingUrl,
+                file.getOriginalFilename(),
+                file.getContentType(),
+                file.getSize()
+        );
+    }
+
+    /**
+     * 첨부 파일 일괄 확인
+     * - 없는(삭제된) 파일이 하나라도 있으면 404, 내가 올린 파일이 아니면 403
+     * - 같은 파일이 중복으로 오면 한 번만 첨부
+     * - 반환 순서는 요청 순서 (sortOrder 기준)
+     */
+    private List<UploadedFile> resolveAttachments(UUID meId, List<UUID> attachmentIds) {
+        if (attachmentIds.isEmpty()) return List.of();
+
+        Set<UUID> ids = new LinkedHashSet<>(attachmentIds);
+        Map<UUID, UploadedFile> byId = new HashMap<>();
+        for (UploadedFile file : uploadedFileRepository.findAllByIdInAndDeletedFalse(ids)) {
+            byId.put(file.getId(), file);
+        }
+
+        List<UploadedFile> ordered = new ArrayList<>(ids.size());
+        for (UUID fileId : ids) {
+            UploadedFile file = byId.get(fileId);
+            if (file == null) {
+                throw new BusinessException(ErrorCode.FILE_NOT_FOUND);
+            }
+            if (!meId.equals(file.getUploaderId())) {
+                throw new BusinessException(ErrorCode.FORBIDDEN);
+            }
+            ordered.add(file);
+        }
+        return ordered;
     }
 
     @Transactional
     public MessageUpdateResponse update(UUID meId, UUID conversationId, UUID messageId, MessageUpdateRequest req) {
 
         // 1) 대화 멤버 권한
-        if (!memberRepository.existsByConversationIdAndUserId(conversationId, meId)) {
+        if (!accessCache.isMember(conversationId, meId)) {
             throw new BusinessException(ErrorCode.MESSAGE_FORBIDDEN);
         }
 
@@ -183,16 +351,18 @@ public class MessageCommandService {
         var now = java.time.LocalDateTime.now();
         message.updateContent(content, now);
 
-        // 7) lastMessagePreview라면 preview도 갱신
-        Conversation conversation = conversationRepository.findById(conversationId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CONVERSATION_NOT_FOUND));
-
-        if (conversation.getLastMessageId() != null && conversation.getLastMessageId().equals(messageId)) {
-            String preview = content.length() > 200 ? content.substring(0, 200) : content;
-            // lastMessageAt은 “생성 시각” 유지 (바꾸지 않음)
-            conversation.updateLastMessage(conversation.getLastMessageId(), conversation.getLastMessageAt(), preview);
+        // ✅ 바뀐 내용으로 핀 후보 다시 감지해 저장 (수정한 날 기준)
+        try {
+            message.updatePinCandidate(pinService.detectCandidateJson(content, now));
+        } catch (Exception e) {
+            log.warn("pin candidate detection failed (ignored) | conversationId={} messageId={}", conversationId, messageId, e);
         }
 
+        // 7) lastMessagePreview라면 preview도 갱신
+        // - write-behind 조건부 update 가 "마지막 메시지일 때만" 반영 (lastMessageAt은 생성 시각 유지)
+        String preview = content.length() > 200 ? content.substring(0, 200) : content;
+        summaryUpdater.submit(conversationId, message.getId(), message.getCreatedAt(), preview);
+
         // 8) SSE 이벤트 발행
         eventPublisher.publishEvent(new com.example.backend.domain.message.event.MessageUpdatedEvent(
                 message.getId(),
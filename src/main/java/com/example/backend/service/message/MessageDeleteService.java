@@ -1,6 +1,7 @@
 package com.example.backend.service.message;
 
 import com.example.backend.domain.message.event.MessageDeletedEvent;
+import com.example.backend.domain.message.event.MessageHiddenEvent;
 import com.example.backend.exception.BusinessException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.repository.message.ConversationMemberRepository;
@@ -36,6 +37,14 @@ public class MessageDeleteService {
 
         if (hiddenRepository.existsByUserIdAndMessageId(meId, messageId)) return;
         hiddenRepository.save(MessageHidden.hide(meId, messageId));
+
+        // ✅ 안읽은 메시지를 숨겼으면 내 안읽은 수 보정 (삭제된 메시지는 이미 빠져 있음)
+        if (!msg.isDeleted() && !msg.getSenderId().equals(meId)) {
+            memberRepository.decrementUnread(msg.getConversationId(), meId, msg.getCreatedAt());
+        }
+
+        // ✅ 최근 메시지 캐시의 내 숨김 목록 갱신용
+        eventPublisher.publishEvent(new MessageHiddenEvent(messageId, msg.getConversationId(), meId));
     }
 
     /** 모두 삭제(송신자만 가능) + SSE push */
@@ -52,9 +61,16 @@ public class MessageDeleteService {
             throw new BusinessException(ErrorCode.MESSAGE_FORBIDDEN);
         }
 
+        boolean alreadyDeleted = msg.isDeleted();
         LocalDateTime now = LocalDateTime.now();
         msg.deleteForAll(now);
 
+        // ✅ 아직 읽지 않은 멤버의 안읽은 수 보정 (중복 삭제 요청은 한 번만)
+        if (!alreadyDeleted) {
+            memberRepository.decrementUnreadForOthers(
+                    msg.getConversationId(), msg.getSenderId(), msg.getId(), msg.getCreatedAt());
+        }
+
         // ✅ 커밋 성공 후에만 SSE 보내기 위해 이벤트 발행
         eventPublisher.publishEvent(new MessageDeletedEvent(
                 msg.getId(),
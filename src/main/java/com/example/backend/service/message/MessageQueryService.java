@@ -4,35 +4,61 @@ import com.example.backend.controller.message.dto.MessageListResponse;
 import com.example.backend.domain.message.Conversation;
 import com.example.backend.exception.BusinessException;
 import com.example.backend.exception.ErrorCode;
-import com.example.backend.repository.message.ConversationMemberRepository;
 import com.example.backend.repository.message.ConversationRepository;
 import com.example.backend.repository.message.MessageQueryRepository;
 import com.example.backend.service.pin.ConversationPinService;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * 메시지 목록 조회
+ * - 트랜잭션은 DB 조회 구간에만 (readOnly TransactionTemplate)
+ * - 최근 메시지 창은 트랜잭션 밖에서 조회 → 창 채우기가 자기 트랜잭션을 열어도 커넥션을 동시에 두 개 잡지 않음
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class MessageQueryService {
 
     private final MessageQueryRepository messageQueryRepository;
     private final ConversationRepository conversationRepository;
-    private final ConversationMemberRepository memberRepository;
     private final ConversationLockService lockService;
+    private final ConversationAccessCache accessCache;
+    private final ReadReceiptCoalescer readReceiptCoalescer;
     private final ConversationPinService pinService;
+    private final RecentMessageCache recentMessageCache;
+    private final TransactionTemplate readTransaction;
+
+    public MessageQueryService(
+            MessageQueryRepository messageQueryRepository,
+            ConversationRepository conversationRepository,
+            ConversationLockService lockService,
+            ConversationAccessCache accessCache,
+            ReadReceiptCoalescer readReceiptCoalescer,
+            ConversationPinService pinService,
+            RecentMessageCache recentMessageCache,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.messageQueryRepository = messageQueryRepository;
+        this.conversationRepository = conversationRepository;
+        this.lockService = lockService;
+        this.accessCache = accessCache;
+        this.readReceiptCoalescer = readReceiptCoalescer;
+        this.pinService = pinService;
+        this.recentMessageCache = recentMessageCache;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
 
     /**
      * GET /api/conversations/{conversationId}/messages
      * - 404: conversation 없음
      * - 403: 멤버 아님
-     * - 목록 조회 성공 시: 자동 읽음 처리(last_read_at 갱신)
+     * - 목록 조회 성공 시: 자동 읽음 처리(last_read_at 갱신, ReadReceiptCoalescer 가 모아서 반영)
      */
-    @Transactional // ✅ readOnly=false (자동 읽음 처리 update 때문에)
     public MessageListResponse list(
             UUID conversationId,
             UUID meId,
@@ -40,32 +66,31 @@ public class MessageQueryService {
             int size,
             String unlockToken
     ) {
-        // ✅ 1) 존재 확인 먼저 (404)
-        Conversation conversation = conversationRepository.findById(conversationId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CONVERSATION_NOT_FOUND));
-
-        // ✅ 2) 권한 확인 (403)
-        if (!memberRepository.existsByConversationIdAndUserId(conversationId, meId)) {
-            throw new BusinessException(ErrorCode.MESSAGE_FORBIDDEN);
-        }
-
-        // ✅ DM Lock: 잠금된 대화는 unlock token 없으면 차단
-        lockService.ensureUnlocked(conversationId, meId, unlockToken);
+        // ✅ 1~2) 존재 확인(404) → 권한 확인(403) → 잠금 확인
+        Conversation conversation = readTransaction.execute(status -> checkAccess(conversationId, meId, unlockToken));
 
         Cursor decoded = Cursor.decode(cursor);
 
-        var items = messageQueryRepository.fetchPage(
-                conversationId,
-                meId,                 // ✅ 추가
-                decoded.createdAt(),
-                decoded.messageId(),
-                size
-        );
+        // ✅ 커서 없는 첫 페이지는 최근 메시지 창에서 (창으로 못 채우면 DB)
+        // - 트랜잭션 밖에서 호출: 창 채우기는 자기 트랜잭션(새 스냅샷)으로 조회
+        List<MessageListResponse.Item> items = null;
+        if (decoded.createdAt() == null) {
+            items = recentMessageCache.firstPage(conversationId, meId, size).orElse(null);
+        }
+        if (items == null) {
+            items = readTransaction.execute(status -> messageQueryRepository.fetchPage(
+                    conversationId,
+                    meId,                 // ✅ 추가
+                    decoded.createdAt(),
+                    decoded.messageId(),
+                    size
+            ));
+        }
 
-        // ✅ NEW: 메시지에서 핀 후보 감지(Confirm 모드) - DB 저장 X
-        // 조회 시에도 동일한 후보를 보여주기 위해 여기서 계산한다.
+        // ✅ 핀 후보는 작성/수정 시 저장된 값을 사용 (repository 가 채움)
+        // 아직 backfill 되지 않은 메시지(pinCandidates == null)만 즉석에서 감지한다.
         items = items.stream()
-                .map(it -> new MessageListResponse.Item(
+                .map(it -> it.pinCandidates() != null ? it : new MessageListResponse.Item(
                         it.messageId(),
                         it.senderId(),
                         it.type(),
@@ -75,7 +100,7 @@ public class MessageQueryService {
                         it.createdAt(),
                         it.editedAt(),
                         it.attachments(),
-                        pinService.detectCandidates(it.messageId(), it.content())
+                        pinService.detectCandidates(it.messageId(), it.content(), it.createdAt())
                 ))
                 .toList();
 
@@ -91,14 +116,39 @@ public class MessageQueryService {
         }
 
         // ✅ 3) 자동 읽음 처리: 대화방 최신 메시지 시각까지 last_read_at 갱신
+        // - 요약(lastMessageAt)은 write-behind 라 조금 늦을 수 있으므로 첫 페이지면 실제 최신 메시지 시각도 반영
         LocalDateTime lastAt = conversation.getLastMessageAt();
+        UUID lastMessageId = conversation.getLastMessageId();
+        if (decoded.createdAt() == null && !items.isEmpty()) {
+            var newest = items.get(0);
+            if (newest.createdAt() != null && (lastAt == null || newest.createdAt().isAfter(lastAt))) {
+                lastAt = newest.createdAt();
+                lastMessageId = newest.messageId();
+            }
+        }
         if (lastAt != null) {
-            memberRepository.updateLastReadAtIfLater(conversationId, meId, lastAt);
+            // ✅ 바로 update 하지 않고 읽음 위치만 등록 (짧은 창 안의 반복 조회는 한 번의 update 로 합쳐짐)
+            readReceiptCoalescer.submit(conversationId, meId, lastMessageId, lastAt, false);
         }
 
         return new MessageListResponse(items, nextCursor, hasNext);
     }
 
+    private Conversation checkAccess(UUID conversationId, UUID meId, String unlockToken) {
+        // ✅ 1) 존재 확인 먼저 (404)
+        Conversation conversation = conversationRepository.findById(conversationId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CONVERSATION_NOT_FOUND));
+
+        // ✅ 2) 권한 확인 (403)
+        if (!accessCache.isMember(conversationId, meId)) {
+            throw new BusinessException(ErrorCode.MESSAGE_FORBIDDEN);
+        }
+
+        // ✅ DM Lock: 잠금된 대화는 unlock token 없으면 차단
+        lockService.ensureUnlocked(conversationId, meId, unlockToken);
+        return conversation;
+    }
+
     // cursor 형식: "2026-02-06T11:41:49.123|uuid"
     private record Cursor(LocalDateTime createdAt, UUID messageId) {
         static Cursor decode(String raw) {
@@ -1,14 +1,10 @@
 package com.example.backend.service.message;
 
-import com.example.backend.domain.message.ConversationMember;
 import com.example.backend.domain.message.Message;
-import com.example.backend.domain.message.event.ConversationReadEvent;
 import com.example.backend.exception.BusinessException;
 import com.example.backend.exception.ErrorCode;
-import com.example.backend.repository.message.ConversationMemberRepository;
 import com.example.backend.repository.message.MessageRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,30 +14,27 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MessageReadService {
 
-    private final ConversationMemberRepository memberRepository;
     private final MessageRepository messageRepository;
-    private final ApplicationEventPublisher eventPublisher;
-
-    @Transactional
+    private final ConversationAccessCache accessCache;
+    private final ReadReceiptCoalescer readReceiptCoalescer;
+
+    /**
+     * 마지막 메시지까지 읽음 처리
+     * - member row 갱신과 읽음 SSE(ConversationReadEvent)는 ReadReceiptCoalescer 가 모아서 반영
+     */
+    @Transactional(readOnly = true)
     public void markAsRead(UUID meId, UUID conversationId) {
-        ConversationMember member = memberRepository.findByConversationIdAndUserId(conversationId, meId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MESSAGE_FORBIDDEN));
+        if (!accessCache.isMember(conversationId, meId)) {
+            throw new BusinessException(ErrorCode.MESSAGE_FORBIDDEN);
+        }
 
         Message lastMessage = messageRepository
                 .findTopByConversationIdAndDeletedFalseOrderByCreatedAtDesc(conversationId)
                 .orElse(null);
 
         if (lastMessage == null) return;
-        if (lastMessage.getId().equals(member.getLastReadMessageId())) return;
-
-        member.markRead(lastMessage.getId());
-        member.markReadAt(lastMessage.getCreatedAt());
 
-        // ✅ NEW: 읽음 이벤트 발행
-        eventPublisher.publishEvent(new ConversationReadEvent(
-                conversationId,
-                meId,
-                lastMessage.getCreatedAt()
-        ));
+        // ✅ 읽음 이벤트는 실제로 읽음 위치가 바뀐 경우에만 flush 시점에 발행
+        readReceiptCoalescer.submit(conversationId, meId, lastMessage.getId(), lastMessage.getCreatedAt(), true);
     }
-}
\ No newline at end of file
+}
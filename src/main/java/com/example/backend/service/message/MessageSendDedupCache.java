@@ -0,0 +1,18 @@
+package com.example.backend.service.message;
+
+import com.example.backend.controller.message.dto.MessageSendResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 클라이언트 전송 키 → 처음 전송 응답 (짧은 TTL)
+ * - 재시도를 DB 조회/쓰기 없이 처음 응답으로 돌려주기 위한 캐시
+ * - 캐시에 없으면 messages 의 (sender_id, client_message_key) unique 로 최종 확인
+ */
+public interface MessageSendDedupCache {
+
+    Optional<MessageSendResponse> get(UUID senderId, String clientMessageKey);
+
+    void put(UUID senderId, String clientMessageKey, MessageSendResponse response);
+}
@@ -0,0 +1,16 @@
+package com.example.backend.service.message;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@Profile("test")
+public class NoopConversationAccessInvalidationBus implements ConversationAccessInvalidationBus {
+
+    @Override
+    public void publish(UUID conversationId, UUID userId) {
+        // test 프로필은 단일 노드라 로컬 무효화만으로 충분
+    }
+}
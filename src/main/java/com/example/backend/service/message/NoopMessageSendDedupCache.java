@@ -0,0 +1,23 @@
+package com.example.backend.service.message;
+
+import com.example.backend.controller.message.dto.MessageSendResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@Profile("test")
+public class NoopMessageSendDedupCache implements MessageSendDedupCache {
+
+    @Override
+    public Optional<MessageSendResponse> get(UUID senderId, String clientMessageKey) {
+        // test 프로필은 DB unique 확인만으로 처리
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(UUID senderId, String clientMessageKey, MessageSendResponse response) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.backend.service.message;
+
+import com.example.backend.controller.message.dto.MessageListResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@Profile("test")
+public class NoopRecentMessageInvalidationBus implements RecentMessageInvalidationBus {
+
+    @Override
+    public void publish(UUID conversationId) {
+        // test 프로필은 단일 노드라 로컬 반영만으로 충분
+    }
+
+    @Override
+    public void publishAppended(UUID conversationId, MessageListResponse.Item item) {
+        // test 프로필은 단일 노드라 로컬 반영만으로 충분
+    }
+}
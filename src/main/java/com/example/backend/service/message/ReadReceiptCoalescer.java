@@ -0,0 +1,162 @@
+package com.example.backend.service.message;
+
+import com.example.backend.common.AfterCommit;
+import com.example.backend.domain.message.ConversationMember;
+import com.example.backend.domain.message.event.ConversationReadEvent;
+import com.example.backend.repository.message.ConversationMemberRepository;
+import com.example.backend.repository.message.MessageRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽음 위치(last_read_at / last_read_message_id / unread_count) write-behind
+ *
+ * - 방 입장/목록 조회마다 member row 를 갱신하지 않고 (대화방, 유저) 단위로 가장 최신 읽음 위치만 모아 둔다
+ * - flush 주기(app.message.read-flush-ms)마다 한 트랜잭션으로 반영
+ * - 읽음 SSE(conversation-read)도 flush 단위로 한 번만 발행 → 창 안에서 여러 번 열어도 다른 멤버에게 한 번만 push
+ * - last_read_message_id 는 명시적 읽음 처리 위치만 기록 → 읽음 SSE 는 이 값이 바뀔 때만 발행
+ * - 읽음 표시/안읽은 수 초기화는 최대 flush 주기만큼 늦을 수 있음
+ * - 남은 안읽은 수 재계산 전에 이 노드의 안읽은 수 증가분을 먼저 반영 (반영 전 메시지를 두 번 세지 않게)
+ */
+@Slf4j
+@Component
+public class ReadReceiptCoalescer {
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final ConversationMemberRepository memberRepository;
+    private final MessageRepository messageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UnreadCounterUpdater unreadCounterUpdater;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReadReceiptCoalescer(
+            ConversationMemberRepository memberRepository,
+            MessageRepository messageRepository,
+            ApplicationEventPublisher eventPublisher,
+            UnreadCounterUpdater unreadCounterUpdater,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.memberRepository = memberRepository;
+        this.messageRepository = messageRepository;
+        this.eventPublisher = eventPublisher;
+        this.unreadCounterUpdater = unreadCounterUpdater;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    record Key(UUID conversationId, UUID userId) {}
+
+    /**
+     * @param broadcast 다른 멤버에게 읽음 SSE 를 보낼지 (명시적 읽음 처리만 true)
+     */
+    record Pending(UUID messageId, LocalDateTime readAt, boolean broadcast) {
+        Pending merge(Pending other) {
+            Pending newer = other.readAt.isAfter(readAt) ? other : this;
+            return new Pending(newer.messageId, newer.readAt, broadcast || other.broadcast);
+        }
+    }
+
+    /**
+     * 읽음 위치 등록 (트랜잭션 안이면 커밋 후 반영 대상이 됨)
+     */
+    public void submit(UUID conversationId, UUID userId, UUID messageId, LocalDateTime readAt, boolean broadcast) {
+        if (conversationId == null || userId == null || readAt == null) return;
+        Key key = new Key(conversationId, userId);
+        Pending p = new Pending(messageId, readAt, broadcast);
+
+        AfterCommit.run(() -> pending.merge(key, p, Pending::merge));
+    }
+
+    /**
+     * @return 실제로 갱신된 멤버 row 수
+     */
+    public int flush() {
+        if (pending.isEmpty()) return 0;
+
+        Map<Key, Pending> drained = new HashMap<>();
+        for (Key key : new ArrayList<>(pending.keySet())) {
+            Pending p = pending.remove(key);
+            if (p != null) {
+                drained.put(key, p);
+            }
+        }
+        if (drained.isEmpty()) return 0;
+
+        // ✅ 모인 안읽은 수 증가분 먼저 반영 (실패하면 그 대화방은 재계산을 건너뜀)
+        try {
+            unreadCounterUpdater.flush();
+        } catch (RuntimeException e) {
+            log.warn("unread counter flush before read flush failed | pending={}", unreadCounterUpdater.pendingCount(), e);
+        }
+
+        try {
+            Integer updated = transactionTemplate.execute(status -> {
+                int rows = 0;
+                for (Map.Entry<Key, Pending> e : drained.entrySet()) {
+                    Key k = e.getKey();
+                    Pending p = e.getValue();
+                    int changed = memberRepository.markReadIfLater(k.conversationId(), k.userId(), p.readAt());
+                    rows += changed;
+                    if (changed > 0) {
+                        recountIfPartlyRead(k, p.readAt());
+                    }
+                    if (!p.broadcast()) continue;
+
+                    // ✅ 명시적 읽음 위치(last_read_message_id)가 바뀐 경우만 발행 (SseEventListener 가 커밋 후 push)
+                    // - last_read_at 은 목록 조회 자동 읽음이 먼저 옮겼을 수 있으므로 판단 기준으로 쓰지 않음
+                    boolean moved = (p.messageId() != null)
+                            ? memberRepository.markBroadcastRead(k.conversationId(), k.userId(), p.messageId()) > 0
+                            : changed > 0;
+                    if (moved) {
+                        eventPublisher.publishEvent(new ConversationReadEvent(k.conversationId(), k.userId(), p.readAt()));
+                    }
+                }
+                return rows;
+            });
+            return updated == null ? 0 : updated;
+        } catch (RuntimeException e) {
+            // 실패분은 다시 합쳐서 다음 flush 에 반영
+            drained.forEach((k, p) -> pending.merge(k, p, Pending::merge));
+            throw e;
+        }
+    }
+
+    /**
+     * 읽음 위치보다 최신 메시지가 이미 안읽은 수에 반영돼 있으면(0 으로 초기화 못 함) 남은 안읽은 수를 다시 센다
+     */
+    private void recountIfPartlyRead(Key k, LocalDateTime readAt) {
+        // 아직 반영 안 된 증가분이 있으면 세면 중복 → 다음 reconcile 에 맡김
+        if (unreadCounterUpdater.hasPending(k.conversationId())) return;
+
+        memberRepository.findByConversationIdAndUserId(k.conversationId(), k.userId())
+                .map(ConversationMember::getUnreadCountedAt)
+                .filter(countedAt -> countedAt.isAfter(readAt))
+                .ifPresent(countedAt -> {
+                    long remaining = messageRepository.countUnreadBetween(k.conversationId(), k.userId(), readAt, countedAt);
+                    memberRepository.setUnreadIfCountedAt(k.conversationId(), k.userId(), (int) remaining, countedAt);
+                });
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("read receipt flush on shutdown failed | pending={}", pending.size(), e);
+        }
+    }
+}
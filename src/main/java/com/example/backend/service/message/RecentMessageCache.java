@@ -0,0 +1,295 @@
+package com.example.backend.service.message;
+
+import com.example.backend.controller.message.dto.MessageListResponse;
+import com.example.backend.domain.message.MessageHidden;
+import com.example.backend.repository.message.MessageHiddenRepository;
+import com.example.backend.repository.message.MessageQueryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대화방별 최근 메시지 창 (노드 메모리)
+ *
+ * - 대화방마다 최신 N개(app.message.recent-cache-size) 목록 item 을 (createdAt desc, id desc) 순서로 보관
+ * - 커서 없는 첫 페이지 조회만 사용, 사용자별 숨김은 창에 같이 들고 있는 숨김 목록으로 걸러냄
+ * - 전송은 커밋 후 창에 바로 추가, 모두 삭제/숨김은 창에서 반영, 수정/세션 메시지는 창을 버림
+ * - 다른 노드의 전송은 pub/sub 으로 받은 item 을 창에 추가, 그 외 변경은 무효화로 창을 버림
+ *   (놓쳐도 TTL(app.message.recent-cache-ttl-ms) 후 다시 조회)
+ * - 전체 크기는 추정 바이트(app.message.recent-cache-max-bytes) 기준, 넘으면 가장 오래 안 쓴 창부터 제거
+ */
+@Component
+public class RecentMessageCache {
+
+    // item 하나의 고정 오버헤드 추정치(객체/UUID/시각 필드) + 첨부 하나당 추정치
+    private static final long ITEM_OVERHEAD_BYTES = 256;
+    private static final long ATTACHMENT_BYTES = 320;
+
+    private final MessageQueryRepository messageQueryRepository;
+    private final MessageHiddenRepository hiddenRepository;
+    private final TransactionTemplate loadTransaction;
+    private final int capacity;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    // access order → 가장 오래 안 쓴 창이 맨 앞 (모든 접근은 this 로 동기화)
+    private final LinkedHashMap<UUID, Window> windows = new LinkedHashMap<>(16, 0.75f, true);
+    // 채우는 중인 대화방 → 조회 도중 변경이 끼면 토큰을 지워 조회 결과(이전 상태일 수 있음)를 버림
+    private final Map<UUID, Object> fills = new HashMap<>();
+    private long totalBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public RecentMessageCache(
+            MessageQueryRepository messageQueryRepository,
+            MessageHiddenRepository hiddenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.message.recent-cache-size:100}") int capacity,
+            @Value("${app.message.recent-cache-max-bytes:67108864}") long maxBytes,
+            @Value("${app.message.recent-cache-ttl-ms:60000}") long ttlMillis
+    ) {
+        this.messageQueryRepository = messageQueryRepository;
+        this.hiddenRepository = hiddenRepository;
+        // 창 채우기는 새 트랜잭션(새 스냅샷)에서 → 호출자 트랜잭션이 먼저 잡은 스냅샷 때문에 방금 커밋된 메시지를 빠뜨리지 않음
+        // (호출자는 트랜잭션 밖에서 firstPage 를 부름 → 커넥션을 동시에 두 개 잡지 않음)
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    private static final class Window {
+        // 최신순
+        final List<MessageListResponse.Item> items;
+        // messageId → 숨긴 userId
+        final Map<UUID, Set<UUID>> hiddenBy;
+        // 대화방 메시지가 모두 창 안에 있는지 (창 밖 더 오래된 메시지 없음)
+        boolean complete;
+        long bytes;
+        final long expiresAt;
+
+        Window(List<MessageListResponse.Item> items, Map<UUID, Set<UUID>> hiddenBy, boolean complete, long expiresAt) {
+            this.items = items;
+            this.hiddenBy = hiddenBy;
+            this.complete = complete;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 커서 없는 첫 페이지 (최대 size + 1 개, hasNext 판단용)
+     * - 창으로 한 페이지를 채울 수 없으면(숨김이 많거나 창이 작음) empty → 호출자가 DB 조회
+     * - 트랜잭션 밖에서 호출 (창이 없으면 새 트랜잭션으로 채움)
+     */
+    public Optional<List<MessageListResponse.Item>> firstPage(UUID conversationId, UUID meId, int size) {
+        if (size + 1 > capacity) {
+            misses.incrementAndGet();
+            return Optional.empty();
+        }
+
+        synchronized (this) {
+            Window window = liveWindow(conversationId);
+            if (window != null) {
+                var page = visiblePage(window, meId, size);
+                if (page.isPresent()) {
+                    hits.incrementAndGet();
+                    return page;
+                }
+                misses.incrementAndGet();
+                return Optional.empty();
+            }
+        }
+        misses.incrementAndGet();
+
+        Window loaded = load(conversationId);
+        if (loaded == null) return Optional.empty();
+        synchronized (this) {
+            return visiblePage(loaded, meId, size);
+        }
+    }
+
+    /**
+     * 새 메시지 반영 (커밋 후 호출)
+     * - 창이 없으면 아무것도 하지 않음 (다음 조회가 DB 에서 채움)
+     */
+    synchronized void append(UUID conversationId, MessageListResponse.Item item) {
+        fills.remove(conversationId);
+        Window window = liveWindow(conversationId);
+        if (window == null) return;
+
+        int pos = 0;
+        for (MessageListResponse.Item it : window.items) {
+            if (it.messageId().equals(item.messageId())) return;
+            if (isNewer(item, it)) break;
+            pos++;
+        }
+        window.items.add(pos, item);
+        resize(window, estimate(item));
+
+        while (window.items.size() > capacity) {
+            MessageListResponse.Item dropped = window.items.remove(window.items.size() - 1);
+            window.hiddenBy.remove(dropped.messageId());
+            window.complete = false;
+            resize(window, -estimate(dropped));
+        }
+        evictOverBudget();
+    }
+
+    /** 모두 삭제 → 창에서 제거 */
+    public synchronized void remove(UUID conversationId, UUID messageId) {
+        fills.remove(conversationId);
+        Window window = windows.get(conversationId);
+        if (window == null) return;
+
+        Iterator<MessageListResponse.Item> it = window.items.iterator();
+        while (it.hasNext()) {
+            MessageListResponse.Item item = it.next();
+            if (item.messageId().equals(messageId)) {
+                it.remove();
+                window.hiddenBy.remove(messageId);
+                resize(window, -estimate(item));
+                return;
+            }
+        }
+    }
+
+    /** 나만 삭제 → 창의 숨김 목록에 추가 */
+    public synchronized void hide(UUID conversationId, UUID messageId, UUID userId) {
+        fills.remove(conversationId);
+        Window window = windows.get(conversationId);
+        if (window == null) return;
+        window.hiddenBy.computeIfAbsent(messageId, k -> new HashSet<>()).add(userId);
+    }
+
+    public synchronized void invalidate(UUID conversationId) {
+        fills.remove(conversationId);
+        Window window = windows.remove(conversationId);
+        if (window != null) totalBytes -= window.bytes;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public synchronized int size() {
+        return windows.size();
+    }
+
+    public synchronized long estimatedBytes() {
+        return totalBytes;
+    }
+
+    private Window load(UUID conversationId) {
+        Object token = new Object();
+        synchronized (this) {
+            fills.put(conversationId, token);
+        }
+
+        Window window = loadTransaction.execute(status -> fetchWindow(conversationId));
+        synchronized (this) {
+            if (window == null || !fills.remove(conversationId, token)) return null;
+
+            Window old = windows.remove(conversationId);
+            if (old != null) totalBytes -= old.bytes;
+            windows.put(conversationId, window);
+            long bytes = 0;
+            for (MessageListResponse.Item item : window.items) bytes += estimate(item);
+            resize(window, bytes);
+            evictOverBudget();
+        }
+        return window;
+    }
+
+    private Window fetchWindow(UUID conversationId) {
+        // 숨김 필터 없이 창 크기 + 1 개 → 하나 더 있으면 창 밖에 더 오래된 메시지가 있음
+        List<MessageListResponse.Item> fetched = messageQueryRepository.fetchPage(conversationId, null, null, null, capacity);
+        boolean complete = fetched.size() <= capacity;
+        List<MessageListResponse.Item> items = new ArrayList<>(complete ? fetched : fetched.subList(0, capacity));
+
+        Map<UUID, Set<UUID>> hiddenBy = new HashMap<>();
+        if (!items.isEmpty()) {
+            List<UUID> ids = items.stream().map(MessageListResponse.Item::messageId).toList();
+            for (MessageHidden h : hiddenRepository.findAllByMessageIdIn(ids)) {
+                hiddenBy.computeIfAbsent(h.getMessageId(), k -> new HashSet<>()).add(h.getUserId());
+            }
+        }
+
+        return new Window(items, hiddenBy, complete, System.currentTimeMillis() + ttlMillis);
+    }
+
+    private Window liveWindow(UUID conversationId) {
+        Window window = windows.get(conversationId);
+        if (window == null) return null;
+        if (window.expiresAt <= System.currentTimeMillis()) {
+            windows.remove(conversationId);
+            totalBytes -= window.bytes;
+            return null;
+        }
+        return window;
+    }
+
+    private Optional<List<MessageListResponse.Item>> visiblePage(Window window, UUID meId, int size) {
+        List<MessageListResponse.Item> page = new ArrayList<>(size + 1);
+        for (MessageListResponse.Item item : window.items) {
+            Set<UUID> hiddenUsers = window.hiddenBy.get(item.messageId());
+            if (hiddenUsers != null && hiddenUsers.contains(meId)) continue;
+            page.add(item);
+            if (page.size() > size) return Optional.of(page);
+        }
+        return window.complete ? Optional.of(page) : Optional.empty();
+    }
+
+    private void resize(Window window, long delta) {
+        window.bytes += delta;
+        totalBytes += delta;
+    }
+
+    private void evictOverBudget() {
+        Iterator<Window> it = windows.values().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Window eldest = it.next();
+            totalBytes -= eldest.bytes;
+            it.remove();
+        }
+    }
+
+    // 문자열은 UTF-16 기준 2바이트/문자로 추정
+    static long estimate(MessageListResponse.Item item) {
+        long bytes = ITEM_OVERHEAD_BYTES;
+        if (item.content() != null) bytes += 2L * item.content().length();
+        if (item.metadataJson() != null) bytes += 2L * item.metadataJson().length();
+        if (item.attachments() != null) bytes += ATTACHMENT_BYTES * item.attachments().size();
+        if (item.pinCandidates() != null) bytes += ITEM_OVERHEAD_BYTES * item.pinCandidates().size();
+        return bytes;
+    }
+
+    // (createdAt desc, id desc) 정렬에서 x 가 y 보다 앞인지 (id 는 DB BINARY(16) 비교와 같은 부호 없는 순서)
+    private static boolean isNewer(MessageListResponse.Item x, MessageListResponse.Item y) {
+        int c = x.createdAt().compareTo(y.createdAt());
+        if (c != 0) return c > 0;
+        int hi = Long.compareUnsigned(x.messageId().getMostSignificantBits(), y.messageId().getMostSignificantBits());
+        if (hi != 0) return hi > 0;
+        return Long.compareUnsigned(x.messageId().getLeastSignificantBits(), y.messageId().getLeastSignificantBits()) > 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.backend.service.message;
+
+import com.example.backend.controller.message.dto.MessageListResponse;
+
+import java.util.UUID;
+
+/**
+ * 다른 노드의 RecentMessageCache 창 변경 전파
+ * - 새 메시지는 item 을 그대로 보내 다른 노드 창에 추가 (창을 버리지 않음)
+ * - 그 외 변경은 무효화
+ */
+public interface RecentMessageInvalidationBus {
+
+    void publish(UUID conversationId);
+
+    void publishAppended(UUID conversationId, MessageListResponse.Item item);
+}
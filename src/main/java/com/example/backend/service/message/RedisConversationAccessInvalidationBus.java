@@ -0,0 +1,59 @@
+package com.example.backend.service.message;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 으로 접근 캐시 무효화 전파
+ * - payload: "{conversationId}:{userId}"
+ * - 발행한 노드도 수신하지만 이미 로컬 무효화가 끝난 상태라 한 번 더 지워질 뿐
+ */
+@Slf4j
+@Profile("!test")
+@Component
+@RequiredArgsConstructor
+public class RedisConversationAccessInvalidationBus implements ConversationAccessInvalidationBus {
+
+    static final String CHANNEL = "conv-access:invalidate";
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer container;
+    private final ConversationAccessCache accessCache;
+
+    @PostConstruct
+    public void register() {
+        container.addMessageListener((Message message, byte[] pattern) -> {
+            try {
+                String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                int sep = body.indexOf(':');
+                accessCache.invalidate(
+                        UUID.fromString(body.substring(0, sep)),
+                        UUID.fromString(body.substring(sep + 1))
+                );
+            } catch (Exception e) {
+                log.warn("conversation access invalidation handle failed", e);
+            }
+        }, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void publish(UUID conversationId, UUID userId) {
+        try {
+            redis.convertAndSend(CHANNEL, conversationId + ":" + userId);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 TTL 만료로 회복
+            log.warn("conversation access invalidation publish failed | conversationId={} userId={}",
+                    conversationId, userId, e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.backend.service.message;
+
+import com.example.backend.controller.message.dto.MessageSendResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 전송 dedup 캐시
+ * - 키: msg_send:{senderId}:{clientMessageKey} / 값: MessageSendResponse json
+ * - Redis 장애 시 캐시 miss 로 처리 (DB unique 가 중복을 막음)
+ */
+@Slf4j
+@Profile("!test")
+@Component
+@RequiredArgsConstructor
+public class RedisMessageSendDedupCache implements MessageSendDedupCache {
+
+    // 모바일 재시도 구간만 커버하면 충분
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+
+    private static String key(UUID senderId, String clientMessageKey) {
+        return "msg_send:" + senderId + ":" + clientMessageKey;
+    }
+
+    @Override
+    public Optional<MessageSendResponse> get(UUID senderId, String clientMessageKey) {
+        try {
+            String json = redis.opsForValue().get(key(senderId, clientMessageKey));
+            if (json == null) return Optional.empty();
+            return Optional.of(objectMapper.readValue(json, MessageSendResponse.class));
+        } catch (Exception e) {
+            log.warn("message send dedup lookup failed | senderId={}", senderId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(UUID senderId, String clientMessageKey, MessageSendResponse response) {
+        try {
+            redis.opsForValue().set(key(senderId, clientMessageKey), objectMapper.writeValueAsString(response), TTL);
+        } catch (Exception e) {
+            log.warn("message send dedup store failed | senderId={}", senderId, e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.backend.service.message;
+
+import com.example.backend.controller.message.dto.MessageListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Redis pub/sub 으로 최근 메시지 창 변경 전파
+ * - recent-messages:invalidate payload: "{nodeId}:{conversationId}" → 창을 버림
+ * - recent-messages:append payload: Appended json → 창에 item 추가 (전송마다 다른 노드 창이 비지 않음)
+ * - 발행한 노드는 이미 창에 반영했으므로 자기 메시지는 무시 (창을 버리면 다음 조회가 DB 로 감)
+ */
+@Slf4j
+@Profile("!test")
+@Component
+@RequiredArgsConstructor
+public class RedisRecentMessageInvalidationBus implements RecentMessageInvalidationBus {
+
+    static final String CHANNEL = "recent-messages:invalidate";
+    static final String APPEND_CHANNEL = "recent-messages:append";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer container;
+    private final RecentMessageCache recentMessageCache;
+    private final ObjectMapper objectMapper;
+
+    record Appended(String nodeId, UUID conversationId, MessageListResponse.Item item) {}
+
+    @PostConstruct
+    public void register() {
+        container.addMessageListener((Message message, byte[] pattern) -> {
+            try {
+                String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                int sep = body.lastIndexOf(':');
+                if (nodeId.equals(body.substring(0, sep))) return;
+                recentMessageCache.invalidate(UUID.fromString(body.substring(sep + 1)));
+            } catch (Exception e) {
+                log.warn("recent message invalidation handle failed", e);
+            }
+        }, new ChannelTopic(CHANNEL));
+
+        container.addMessageListener((Message message, byte[] pattern) -> {
+            try {
+                Appended appended = objectMapper.readValue(message.getBody(), Appended.class);
+                if (nodeId.equals(appended.nodeId())) return;
+                recentMessageCache.append(appended.conversationId(), appended.item());
+            } catch (Exception e) {
+                log.warn("recent message append handle failed", e);
+            }
+        }, new ChannelTopic(APPEND_CHANNEL));
+    }
+
+    @Override
+    public void publish(UUID conversationId) {
+        try {
+            redis.convertAndSend(CHANNEL, nodeId + ":" + conversationId);
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드는 TTL 만료로 회복
+            log.warn("recent message invalidation publish failed | conversationId={}", conversationId, e);
+        }
+    }
+
+    @Override
+    public void publishAppended(UUID conversationId, MessageListResponse.Item item) {
+        try {
+            redis.convertAndSend(APPEND_CHANNEL, objectMapper.writeValueAsString(new Appended(nodeId, conversationId, item)));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드 창에 새 메시지가 빠짐 → 창을 버리게 해서 DB 에서 다시 채움
+            log.warn("recent message append publish failed | conversationId={}", conversationId, e);
+            publish(conversationId);
+        }
+    }
+}
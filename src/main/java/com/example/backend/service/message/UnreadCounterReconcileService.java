@@ -0,0 +1,66 @@
+package com.example.backend.service.message;
+
+import com.example.backend.domain.message.ConversationMember;
+import com.example.backend.repository.message.ConversationListQueryRepository;
+import com.example.backend.repository.message.ConversationMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * conversation_members.unread_count 드리프트 보정
+ * - 멤버를 id keyset 으로 나눠 실제 안읽은 수를 다시 세고, 다르면 고친다
+ * - 증가분은 노드마다 flush 주기만큼 늦게 반영되므로 기준 시각(upTo) 이하 메시지만 센다
+ *   (upTo 이후 메시지가 이미 반영된 멤버는 이번 실행에서 건너뜀)
+ */
+@Service
+@RequiredArgsConstructor
+public class UnreadCounterReconcileService {
+
+    // keyset 시작값 (가장 작은 UUID)
+    public static final UUID FIRST = new UUID(0L, 0L);
+
+    // 다른 노드의 아직 flush 안 된 증가분을 기다리는 여유 (flush 주기보다 충분히 길게)
+    public static final Duration PENDING_GRACE = Duration.ofMinutes(5);
+
+    private final ConversationMemberRepository memberRepository;
+    private final ConversationListQueryRepository listQueryRepository;
+
+    public record BatchResult(UUID lastMemberId, int scanned, int repaired) {}
+
+    /**
+     * @param upTo 이 시각 이하 메시지만 센다 (보통 now - PENDING_GRACE)
+     * @return 다음 배치 시작 id 와 처리 결과 (scanned 가 batchSize 보다 작으면 끝)
+     */
+    @Transactional
+    public BatchResult reconcileBatch(UUID afterMemberId, int batchSize, LocalDateTime upTo) {
+        List<ConversationMember> members =
+                memberRepository.findActiveAfter(afterMemberId, PageRequest.of(0, batchSize));
+        if (members.isEmpty()) return new BatchResult(afterMemberId, 0, 0);
+
+        List<UUID> memberIds = members.stream().map(ConversationMember::getId).toList();
+        Map<UUID, Long> actual = listQueryRepository.countUnreadByMemberIds(memberIds, upTo);
+
+        int repaired = 0;
+        for (ConversationMember member : members) {
+            // ✅ 기준 시각 이후 메시지까지 반영된 카운터는 센 범위와 달라 비교 불가 → 다음 실행에서 다시 봄
+            LocalDateTime countedAt = member.getUnreadCountedAt();
+            if (countedAt != null && countedAt.isAfter(upTo)) continue;
+
+            int expected = actual.getOrDefault(member.getId(), 0L).intValue();
+            if (member.getUnreadCount() != expected) {
+                // ✅ 엔티티 dirty checking 대신 조건부 update → 센 뒤 반영된 증가/초기화를 덮어쓰지 않음
+                repaired += memberRepository.reconcileUnread(member.getId(), member.getUnreadCount(), expected, upTo);
+            }
+        }
+
+        return new BatchResult(members.get(members.size() - 1).getId(), members.size(), repaired);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.backend.service.message;
+
+import com.example.backend.repository.message.ConversationMemberRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대화방 멤버 안읽은 수(conversation_members.unread_count) 증가 배치
+ *
+ * - 메시지 전송(커밋 후)마다 바로 update 하지 않고 (대화방, 보낸 사람) 단위로 메시지 시각을 모아 둔다
+ * - flush 주기(app.message.unread-flush-ms)마다 묶음당 update 한 번으로 반영
+ *   (flush 전에 묶음 중간까지 읽은 멤버가 있으면 그 멤버들만 메시지 시각별로 나눠 더함)
+ * - 반영한 가장 최신 메시지 시각(unread_counted_at)도 같이 기록 → 읽음 처리가 아직 안 읽은 수를 지우지 않게 함
+ */
+@Slf4j
+@Component
+public class UnreadCounterUpdater {
+
+    private final Map<Key, Pending> pending = new ConcurrentHashMap<>();
+    private final ConversationMemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public UnreadCounterUpdater(
+            ConversationMemberRepository memberRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.memberRepository = memberRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    record Key(UUID conversationId, UUID senderId) {}
+
+    // 메시지 시각 → 그 시각 메시지 수
+    record Pending(TreeMap<LocalDateTime, Integer> sentAt) {
+        static Pending of(LocalDateTime createdAt) {
+            TreeMap<LocalDateTime, Integer> sentAt = new TreeMap<>();
+            sentAt.put(createdAt, 1);
+            return new Pending(sentAt);
+        }
+
+        Pending plus(Pending other) {
+            TreeMap<LocalDateTime, Integer> merged = new TreeMap<>(sentAt);
+            other.sentAt.forEach((at, n) -> merged.merge(at, n, Integer::sum));
+            return new Pending(merged);
+        }
+
+        int count() {
+            int total = 0;
+            for (int n : sentAt.values()) total += n;
+            return total;
+        }
+    }
+
+    public void onMessageSent(UUID conversationId, UUID senderId, LocalDateTime createdAt) {
+        if (conversationId == null || senderId == null || createdAt == null) return;
+        pending.merge(new Key(conversationId, senderId), Pending.of(createdAt), Pending::plus);
+    }
+
+    /**
+     * @return 갱신된 멤버 row 수
+     */
+    public int flush() {
+        if (pending.isEmpty()) return 0;
+
+        Map<Key, Pending> drained = new HashMap<>();
+        for (Key key : new ArrayList<>(pending.keySet())) {
+            Pending p = pending.remove(key);
+            if (p != null) {
+                drained.put(key, p);
+            }
+        }
+        if (drained.isEmpty()) return 0;
+
+        try {
+            Integer updated = transactionTemplate.execute(status -> {
+                int rows = 0;
+                for (Map.Entry<Key, Pending> e : drained.entrySet()) {
+                    Key k = e.getKey();
+                    Pending p = e.getValue();
+                    LocalDateTime earliest = p.sentAt().firstKey();
+                    rows += memberRepository.incrementUnread(
+                            k.conversationId(), k.senderId(), p.count(), earliest, p.sentAt().lastKey());
+
+                    // 묶음 중간까지 읽은 멤버 → 읽음 위치 이후 메시지만 (시각별로 +n, 해당 멤버가 없으면 0 row)
+                    for (Map.Entry<LocalDateTime, Integer> at : p.sentAt().tailMap(earliest, false).entrySet()) {
+                        memberRepository.incrementUnreadReadBetween(
+                                k.conversationId(), k.senderId(), at.getValue(), earliest, at.getKey());
+                    }
+                }
+                return rows;
+            });
+            return updated == null ? 0 : updated;
+        } catch (RuntimeException e) {
+            // 실패분은 다시 합쳐서 다음 flush 에 반영
+            drained.forEach((k, p) -> pending.merge(k, p, Pending::plus));
+            throw e;
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    // 이 대화방에 아직 반영 안 된 증가분이 있는지 (읽음 재계산 중복 방지용)
+    public boolean hasPending(UUID conversationId) {
+        for (Key key : pending.keySet()) {
+            if (key.conversationId().equals(conversationId)) return true;
+        }
+        return false;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("unread counter flush on shutdown failed | pending={}", pending.size(), e);
+        }
+    }
+}
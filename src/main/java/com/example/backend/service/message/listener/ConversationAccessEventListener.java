@@ -0,0 +1,24 @@
+package com.example.backend.service.message.listener;
+
+import com.example.backend.domain.message.event.ConversationAccessChangedEvent;
+import com.example.backend.service.message.ConversationAccessCache;
+import com.example.backend.service.message.ConversationAccessInvalidationBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ConversationAccessEventListener {
+
+    private final ConversationAccessCache accessCache;
+    private final ConversationAccessInvalidationBus invalidationBus;
+
+    // ✅ 커밋 후 무효화 → 다음 조회는 변경된 상태를 읽음 (커밋 전에 지우면 이전 상태가 다시 캐싱될 수 있음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAccessChanged(ConversationAccessChangedEvent event) {
+        accessCache.invalidate(event.conversationId(), event.userId());
+        invalidationBus.publish(event.conversationId(), event.userId());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.backend.service.message.listener;
+
+import com.example.backend.domain.message.event.MessageDeletedEvent;
+import com.example.backend.domain.message.event.MessageHiddenEvent;
+import com.example.backend.domain.message.event.MessageUpdatedEvent;
+import com.example.backend.domain.playback.event.PlaybackSessionCreatedEvent;
+import com.example.backend.service.message.RecentMessageCache;
+import com.example.backend.service.message.RecentMessageInvalidationBus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 최근 메시지 창 갱신 (모두 커밋 후)
+ * - 이 노드 창은 바로 반영, 다른 노드 창은 pub/sub 으로 무효화
+ * - 새 메시지는 MessageCommandService 가 커밋 후 이 노드 창에 추가하고 다른 노드에도 item 을 보냄 (무효화 안 함)
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentMessageCacheEventListener {
+
+    private final RecentMessageCache recentMessageCache;
+    private final RecentMessageInvalidationBus invalidationBus;
+
+    // 수정은 핀 후보도 다시 감지되므로 창을 버리고 다시 채움
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUpdated(MessageUpdatedEvent event) {
+        recentMessageCache.invalidate(event.conversationId());
+        invalidationBus.publish(event.conversationId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDeleted(MessageDeletedEvent event) {
+        recentMessageCache.remove(event.conversationId(), event.messageId());
+        invalidationBus.publish(event.conversationId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onHidden(MessageHiddenEvent event) {
+        recentMessageCache.hide(event.conversationId(), event.messageId(), event.userId());
+        invalidationBus.publish(event.conversationId());
+    }
+
+    // 세션 메시지는 전송 경로를 거치지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPlaybackSessionCreated(PlaybackSessionCreatedEvent event) {
+        recentMessageCache.invalidate(event.conversationId());
+        invalidationBus.publish(event.conversationId());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.backend.service.message.listener;
+
+import com.example.backend.domain.message.event.MessageSentEvent;
+import com.example.backend.domain.playback.event.PlaybackSessionCreatedEvent;
+import com.example.backend.service.message.UnreadCounterUpdater;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class UnreadCounterEventListener {
+
+    private final UnreadCounterUpdater unreadCounterUpdater;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMessageSent(MessageSentEvent event) {
+        unreadCounterUpdater.onMessageSent(event.conversationId(), event.senderId(), event.createdAt());
+    }
+
+    // 공동 플레이 세션 메시지도 대화방 메시지로 집계
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPlaybackSessionCreated(PlaybackSessionCreatedEvent event) {
+        unreadCounterUpdater.onMessageSent(event.conversationId(), event.actorId(), event.createdAt());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.backend.service.pin;
 
+import com.example.backend.common.PinCandidatePayloads;
 import com.example.backend.controller.message.dto.ConversationPinResponse;
 import com.example.backend.controller.message.dto.PinCandidateResponse;
 import com.example.backend.domain.pin.ConversationPin;
@@ -38,10 +39,14 @@ public class ConversationPinService {
     private final ConversationMemberRepository memberRepository;
     private final SearchIndexingService searchIndexingService;
 
-    public List<PinCandidateResponse> detectCandidates(UUID messageId, String messageContent) {
+    /**
+     * 저장된 후보가 없는 메시지의 즉석 감지
+     * - 오늘/내일/M월 D일 등은 메시지를 보낸 날 기준 (sentAt 이 null 이면 오늘)
+     */
+    public List<PinCandidateResponse> detectCandidates(UUID messageId, String messageContent, LocalDateTime sentAt) {
         if (messageContent == null || messageContent.isBlank()) return List.of();
 
-        Optional<PinDetectionService.DetectionResult> detected = detectionService.detect(messageContent);
+        Optional<PinDetectionService.DetectionResult> detected = detect(messageContent, sentAt);
         if (detected.isEmpty()) return List.of();
 
         PinDetectionService.DetectionResult r = detected.get();
@@ -58,6 +63,25 @@ public class ConversationPinService {
         ));
     }
 
+    /**
+     * 메시지 작성/수정/backfill 시 한 번만 감지해 messages.pin_candidate_json 에 저장할 값
+     * - 오늘/내일/M월 D일 등은 writtenAt 이 속한 날 기준 (backfill 은 메시지 작성 시각, null 이면 오늘)
+     *
+     * @return 후보가 없으면 null
+     */
+    public String detectCandidateJson(String messageContent, LocalDateTime writtenAt) {
+        if (messageContent == null || messageContent.isBlank()) return null;
+
+        return detect(messageContent, writtenAt)
+                .map(r -> PinCandidatePayloads.encode(r.type(), r.title(), r.placeText(), r.startAt(), r.remindAt()))
+                .orElse(null);
+    }
+
+    private Optional<PinDetectionService.DetectionResult> detect(String messageContent, LocalDateTime writtenAt) {
+        if (writtenAt == null) return detectionService.detect(messageContent);
+        return detectionService.detect(messageContent, PinDetectionService.ZONE, writtenAt.toLocalDate());
+    }
+
     @Transactional
     public ConversationPinResponse confirmFromMessage(
             UUID meId,
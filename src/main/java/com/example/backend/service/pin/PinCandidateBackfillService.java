@@ -0,0 +1,45 @@
+package com.example.backend.service.pin;
+
+import com.example.backend.domain.message.Message;
+import com.example.backend.repository.message.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 핀 후보가 저장되지 않은 기존 메시지(pin_scanned = false)를 배치로 감지해 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PinCandidateBackfillService {
+
+    private final MessageRepository messageRepository;
+    private final ConversationPinService pinService;
+
+    /**
+     * @return 이번 배치에서 처리한 메시지 수 (batchSize 보다 작으면 남은 대상 없음)
+     */
+    @Transactional
+    public int backfillBatch(int batchSize) {
+        List<Message> targets = messageRepository.findPinUnscanned(PageRequest.of(0, batchSize));
+
+        for (Message message : targets) {
+            String pinCandidateJson = null;
+            try {
+                // 오늘/내일 등은 backfill 하는 날이 아니라 메시지를 보낸 날 기준
+                pinCandidateJson = pinService.detectCandidateJson(message.getContent(), message.getCreatedAt());
+            } catch (Exception e) {
+                // 감지 실패 메시지는 후보 없음으로 확정 (매 배치마다 재시도하지 않도록)
+                log.warn("[PinBackfill] 감지 실패 (후보 없음 처리) | messageId={}", message.getId(), e);
+            }
+            message.updatePinCandidate(pinCandidateJson);
+        }
+
+        return targets.size();
+    }
+}
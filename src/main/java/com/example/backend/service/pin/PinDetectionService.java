@@ -39,12 +39,12 @@ public class PinDetectionService {
             LocalDateTime remindAt  // nullable
     ) {}
 
+    // 서버는 KST 기준으로 동작한다고 가정(프로젝트가 KR 서비스)
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
     // ✅ 기존 호출부(ConversationPinService)가 쓰는 시그니처 유지
     public Optional<DetectionResult> detect(String message) {
-        // 서버는 KST 기준으로 동작한다고 가정(프로젝트가 KR 서비스)
-        ZoneId zoneId = ZoneId.of("Asia/Seoul");
-        LocalDate today = LocalDate.now(zoneId);
-        return detect(message, zoneId, today);
+        return detect(message, ZONE, LocalDate.now(ZONE));
     }
 
     // ✅ 새 로직(테스트 주입 가능)
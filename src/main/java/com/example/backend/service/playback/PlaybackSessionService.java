@@ -18,6 +18,7 @@ import com.example.backend.repository.message.ConversationRepository;
 import com.example.backend.repository.message.MessageRepository;
 import com.example.backend.repository.playback.PlaybackSessionParticipantRepository;
 import com.example.backend.repository.playback.PlaybackSessionRepository;
+import com.example.backend.service.message.ConversationSummaryUpdater;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -45,6 +46,7 @@ public class PlaybackSessionService {
     private final MessageRepository messageRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper;
+    private final ConversationSummaryUpdater summaryUpdater;
 
     @Transactional(readOnly = true)
     public PlaybackSessionListResponse list(UUID conversationId, UUID meId) {
@@ -57,7 +59,7 @@ public class PlaybackSessionService {
     }
 
     public PlaybackSessionResponse create(UUID conversationId, UUID meId, PlaybackSessionCreateRequest request) {
-        Conversation conversation = ensureConversationMember(conversationId, meId);
+        ensureConversationMember(conversationId, meId);
 
         PlaybackSession session = playbackSessionRepository.save(PlaybackSession.create(
                 conversationId,
@@ -89,7 +91,7 @@ public class PlaybackSessionService {
         session.attachMessage(message.getId());
 
         String preview = sessionSummaryText(session);
-        conversation.updateLastMessage(message.getId(), message.getCreatedAt(), preview.length() > 200 ? preview.substring(0, 200) : preview);
+        summaryUpdater.submit(conversationId, message.getId(), message.getCreatedAt(), preview.length() > 200 ? preview.substring(0, 200) : preview);
 
         eventPublisher.publishEvent(new PlaybackSessionCreatedEvent(
                 session.getId(),
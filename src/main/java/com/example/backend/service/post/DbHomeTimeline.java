@@ -0,0 +1,39 @@
+package com.example.backend.service.post;
+
+import com.example.backend.domain.post.event.PostCreatedEvent;
+import com.example.backend.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * test 프로필: Redis 없이 기존 조회 쿼리로 타임라인을 만든다
+ */
+@Component
+@Profile("test")
+@RequiredArgsConstructor
+public class DbHomeTimeline implements HomeTimeline {
+
+    private final PostRepository postRepository;
+
+    @Override
+    public List<UUID> findPage(UUID meId, LocalDateTime cursorCreatedAt, UUID cursorId, int limit) {
+        return (cursorCreatedAt == null)
+                ? postRepository.findFollowingFeedIdsFirstPage(meId, limit)
+                : postRepository.findFollowingFeedIdsNextPage(meId, cursorCreatedAt, cursorId, limit);
+    }
+
+    @Override
+    public void onPostCreated(PostCreatedEvent event) {
+        // 읽을 때 DB 에서 바로 조회하므로 미리 쌓아 둘 것 없음
+    }
+
+    @Override
+    public void onFollowed(UUID followerId, UUID followingId) {
+        // 위와 같음
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.backend.service.post;
+
+import com.example.backend.controller.post.dto.FeedResponse;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 피드 item 조립용 캐시 (게시글 렌더 정보 / 작성자 프로필)
+ * - 요청마다 달라지는 likedByMe / distanceKm 는 캐싱하지 않음
+ * - 없는 키는 결과 Map 에서 빠짐 → 호출자가 DB 에서 채워 put
+ */
+public interface FeedRenderCache {
+
+    record PostRender(
+            UUID postId,
+            UUID authorId,
+            String content,
+            List<String> imageUrls,
+            List<FeedResponse.MediaItem> mediaItems,
+            String visibility,
+            LocalDateTime createdAt,
+            long likeCount,
+            long commentCount,
+            Double latitude,
+            Double longitude,
+            String placeName
+    ) {}
+
+    record AuthorRender(UUID userId, String handle, String name) {}
+
+    Map<UUID, PostRender> getPosts(Collection<UUID> postIds);
+
+    void putPosts(Collection<PostRender> posts);
+
+    void evictPost(UUID postId);
+
+    Map<UUID, AuthorRender> getAuthors(Collection<UUID> userIds);
+
+    void putAuthors(Collection<AuthorRender> authors);
+
+    void evictAuthor(UUID userId);
+}
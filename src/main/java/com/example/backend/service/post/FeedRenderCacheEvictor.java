@@ -0,0 +1,26 @@
+package com.example.backend.service.post;
+
+import com.example.backend.common.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * 피드 렌더 캐시 무효화 (트랜잭션 안이면 커밋 후)
+ * - 커밋 전에 지우면 다른 요청이 이전 상태를 다시 캐싱할 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedRenderCacheEvictor {
+
+    private final FeedRenderCache renderCache;
+
+    public void evictPost(UUID postId) {
+        AfterCommit.run(() -> renderCache.evictPost(postId));
+    }
+
+    public void evictAuthor(UUID userId) {
+        AfterCommit.run(() -> renderCache.evictAuthor(userId));
+    }
+}
@@ -4,36 +4,65 @@ import com.example.backend.common.MediaPayloads;
 import com.example.backend.controller.post.dto.FeedResponse;
 import com.example.backend.domain.post.Post;
 import com.example.backend.domain.post.PostImage;
-import com.example.backend.domain.user.User;
-import com.example.backend.repository.like.PostLikeRepository;
+import com.example.backend.repository.post.PostQueryRepository;
 import com.example.backend.repository.post.PostRepository;
 import com.example.backend.repository.user.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.service.like.LikeCountAggregator;
+import com.example.backend.service.like.PostLikeState;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * 팔로잉/근처 피드
+ * - 트랜잭션은 DB 조회 구간에만 (readOnly TransactionTemplate)
+ * - 타임라인/좋아요 상태는 트랜잭션 밖에서 조회 → 재구성이 자기 트랜잭션을 열어도 커넥션을 동시에 두 개 잡지 않음
+ */
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class FeedService {
 
     private final PostRepository postRepository;
-    private final PostLikeRepository postLikeRepository;
+    private final PostLikeState postLikeState;
     private final UserRepository userRepository;
+    private final HomeTimeline homeTimeline;
+    private final FeedRenderCache renderCache;
+    private final LikeCountAggregator likeCountAggregator;
+    private final TransactionTemplate readTransaction;
+
+    private static final double DEFAULT_NEARBY_RADIUS_KM = 10.0;
+    private static final double MAX_NEARBY_RADIUS_KM = 100.0;
+
+    public FeedService(
+            PostRepository postRepository,
+            PostLikeState postLikeState,
+            UserRepository userRepository,
+            HomeTimeline homeTimeline,
+            FeedRenderCache renderCache,
+            LikeCountAggregator likeCountAggregator,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.postRepository = postRepository;
+        this.postLikeState = postLikeState;
+        this.userRepository = userRepository;
+        this.homeTimeline = homeTimeline;
+        this.renderCache = renderCache;
+        this.likeCountAggregator = likeCountAggregator;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
 
     public FeedResponse getFollowingFeed(UUID meId, String cursor, int size) {
         int pageSize = normalizeSize(size);
         Cursor parsed = parseCursor(cursor);
         int limit = pageSize + 1;
 
-        List<UUID> ids = (parsed.createdAt() == null)
-                ? postRepository.findFollowingFeedIdsFirstPage(meId, limit)
-                : postRepository.findFollowingFeedIdsNextPage(meId, parsed.createdAt(), parsed.postId(), limit);
+        // ✅ 글 작성 시 쌓아 둔 타임라인에서 읽음 (posts 전체를 훑는 조회 대신)
+        // - 트랜잭션 밖에서 호출: 타임라인 재구성은 자기 트랜잭션(새 스냅샷)으로 조회
+        List<UUID> ids = homeTimeline.findPage(meId, parsed.createdAt(), parsed.postId(), limit);
 
         boolean hasNext = ids.size() > pageSize;
         List<UUID> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
@@ -47,56 +76,79 @@ public class FeedService {
         return new FeedResponse(response.items(), nextCursor, hasNext);
     }
 
-    public FeedResponse getNearbyFeed(UUID meId, double lat, double lng, int size) {
+    /**
+     * 근처 피드: 반경 안의 글을 거리순으로, cursor 형식 "distanceKm|postId"
+     */
+    public FeedResponse getNearbyFeed(UUID meId, double lat, double lng, double radiusKm, String cursor, int size) {
         int pageSize = normalizeSize(size);
         if (!isValidCoordinate(lat, lng)) {
             return new FeedResponse(List.of(), null, false);
         }
+        double radius = normalizeRadius(radiusKm);
+        NearbyCursor parsed = parseNearbyCursor(cursor);
 
-        List<UUID> ids = postRepository.findNearbyFeedIds(meId, Math.max(pageSize * 4, pageSize));
-        FeedResponse response = buildFeedResponse(meId, ids, new Point(lat, lng), false);
-        List<FeedResponse.FeedItem> sorted = response.items().stream()
-                .sorted(Comparator
-                        .comparing((FeedResponse.FeedItem item) -> Optional.ofNullable(item.distanceKm()).orElse(Double.MAX_VALUE))
-                        .thenComparing(FeedResponse.FeedItem::createdAt, Comparator.nullsLast(Comparator.reverseOrder())))
-                .limit(pageSize)
-                .toList();
-        return new FeedResponse(sorted, null, false);
+        List<PostQueryRepository.NearbyEntry> entries = readTransaction.execute(status -> postRepository.findNearbyFeed(
+                meId, lat, lng, radius, parsed.distanceKm(), parsed.postId(), pageSize + 1));
+
+        boolean hasNext = entries.size() > pageSize;
+        List<PostQueryRepository.NearbyEntry> page = hasNext ? entries.subList(0, pageSize) : entries;
+        List<UUID> pageIds = page.stream().map(PostQueryRepository.NearbyEntry::postId).toList();
+        FeedResponse response = buildFeedResponse(meId, pageIds, new Point(lat, lng), hasNext);
+
+        // 커서는 DB 가 계산한 거리 그대로 (응답의 distanceKm 는 반올림 값이라 keyset 에 못 씀)
+        String nextCursor = null;
+        if (hasNext && !page.isEmpty()) {
+            PostQueryRepository.NearbyEntry last = page.get(page.size() - 1);
+            nextCursor = last.distanceKm() + "|" + last.postId();
+        }
+        return new FeedResponse(response.items(), nextCursor, hasNext);
     }
 
+    /**
+     * 페이지 item 조립
+     * - 게시글 렌더 정보 / 작성자 프로필은 렌더 캐시에서 읽고, 없는 것만 DB 조회 후 채움
+     * - 요청마다 달라지는 likedByMe 는 사용자별 좋아요 상태 캐시에서 (트랜잭션 밖)
+     */
     private FeedResponse buildFeedResponse(UUID meId, List<UUID> pageIds, Point origin, boolean hasNext) {
         if (pageIds == null || pageIds.isEmpty()) return new FeedResponse(List.of(), null, hasNext);
 
-        List<Post> posts = postRepository.findAllWithImagesByIdIn(pageIds);
-        Map<UUID, Post> byId = posts.stream().collect(Collectors.toMap(Post::getId, Function.identity(), (a, b) -> a));
-        List<Post> ordered = pageIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        Map<UUID, FeedRenderCache.PostRender> posts = new HashMap<>(renderCache.getPosts(pageIds));
+        List<UUID> missingPosts = pageIds.stream().filter(id -> !posts.containsKey(id)).distinct().toList();
+        if (!missingPosts.isEmpty()) {
+            List<FeedRenderCache.PostRender> loaded = readTransaction.execute(status ->
+                    postRepository.findAllWithImagesByIdIn(missingPosts).stream()
+                            .map(this::toPostRender)
+                            .toList());
+            loaded.forEach(r -> posts.put(r.postId(), r));
+            renderCache.putPosts(loaded);
+        }
+        List<FeedRenderCache.PostRender> ordered = pageIds.stream().map(posts::get).filter(Objects::nonNull).toList();
 
-        Set<UUID> authorIds = ordered.stream().map(Post::getAuthorId).collect(Collectors.toSet());
-        Map<UUID, User> users = userRepository.findAllById(authorIds).stream()
-                .collect(Collectors.toMap(User::getId, Function.identity(), (a, b) -> a));
+        Set<UUID> authorIds = ordered.stream().map(FeedRenderCache.PostRender::authorId).collect(Collectors.toSet());
+        Map<UUID, FeedRenderCache.AuthorRender> authors = new HashMap<>(renderCache.getAuthors(authorIds));
+        List<UUID> missingAuthors = authorIds.stream().filter(id -> !authors.containsKey(id)).toList();
+        if (!missingAuthors.isEmpty()) {
+            List<FeedRenderCache.AuthorRender> loaded = readTransaction.execute(status ->
+                    userRepository.findAllById(missingAuthors).stream()
+                            .map(u -> new FeedRenderCache.AuthorRender(u.getId(), u.getHandle(), u.getName()))
+                            .toList());
+            loaded.forEach(a -> authors.put(a.userId(), a));
+            renderCache.putAuthors(loaded);
+        }
 
-        Set<UUID> liked = postLikeRepository.findAllByUserIdAndPostIdIn(meId, pageIds)
-                .stream()
-                .map(pl -> pl.getPostId())
-                .collect(Collectors.toSet());
+        Set<UUID> liked = postLikeState.likedAmong(meId, pageIds);
 
         List<FeedResponse.FeedItem> items = ordered.stream()
-                .map(p -> toFeedItem(p, users.get(p.getAuthorId()), liked.contains(p.getId()), origin))
+                .map(r -> toFeedItem(r, authors.get(r.authorId()), liked.contains(r.postId()), origin))
                 .toList();
 
         return new FeedResponse(items, null, hasNext);
     }
 
-    private FeedResponse.FeedItem toFeedItem(Post p, User u, boolean likedByMe, Point origin) {
-        String handle = (u != null) ? u.getHandle() : null;
-        String name = (u != null) ? u.getName() : null;
-        Double distanceKm = distanceKm(origin, p.getLatitude(), p.getLongitude());
-
-        return new FeedResponse.FeedItem(
+    private FeedRenderCache.PostRender toPostRender(Post p) {
+        return new FeedRenderCache.PostRender(
                 p.getId(),
                 p.getAuthorId(),
-                handle,
-                name,
                 p.getContent(),
                 p.getImages().stream()
                         .filter(img -> String.valueOf(img.getMediaType()).equals("IMAGE"))
@@ -120,10 +172,34 @@ public class FeedService {
                 p.getCreatedAt(),
                 p.getLikeCount(),
                 p.getCommentCount(),
-                likedByMe,
                 p.getLatitude(),
                 p.getLongitude(),
-                p.getPlaceName(),
+                p.getPlaceName()
+        );
+    }
+
+    private FeedResponse.FeedItem toFeedItem(FeedRenderCache.PostRender p, FeedRenderCache.AuthorRender author,
+                                             boolean likedByMe, Point origin) {
+        String handle = (author != null) ? author.handle() : null;
+        String name = (author != null) ? author.name() : null;
+        Double distanceKm = distanceKm(origin, p.latitude(), p.longitude());
+
+        return new FeedResponse.FeedItem(
+                p.postId(),
+                p.authorId(),
+                handle,
+                name,
+                p.content(),
+                p.imageUrls(),
+                p.mediaItems(),
+                p.visibility(),
+                p.createdAt(),
+                p.likeCount() + likeCountAggregator.pendingPostDelta(p.postId()),
+                p.commentCount(),
+                likedByMe,
+                p.latitude(),
+                p.longitude(),
+                p.placeName(),
                 distanceKm
         );
     }
@@ -135,6 +211,11 @@ public class FeedService {
         return v;
     }
 
+    private double normalizeRadius(double radiusKm) {
+        if (Double.isNaN(radiusKm) || radiusKm <= 0) return DEFAULT_NEARBY_RADIUS_KM;
+        return Math.min(radiusKm, MAX_NEARBY_RADIUS_KM);
+    }
+
     private boolean isValidCoordinate(double lat, double lng) {
         return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
     }
@@ -170,6 +251,19 @@ public class FeedService {
         return createdAt + "|" + postId;
     }
 
+    private NearbyCursor parseNearbyCursor(String raw) {
+        if (raw == null || raw.isBlank()) return new NearbyCursor(null, null);
+        String[] parts = raw.split("\\|");
+        if (parts.length != 2) return new NearbyCursor(null, null);
+
+        try {
+            return new NearbyCursor(Double.parseDouble(parts[0]), UUID.fromString(parts[1]));
+        } catch (Exception e) {
+            return new NearbyCursor(null, null);
+        }
+    }
+
     private record Cursor(LocalDateTime createdAt, UUID postId) {}
+    private record NearbyCursor(Double distanceKm, UUID postId) {}
     private record Point(double lat, double lng) {}
 }
@@ -0,0 +1,21 @@
+package com.example.backend.service.post;
+
+import com.example.backend.domain.post.event.PostCreatedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 팔로잉 피드 타임라인
+ * - 피드 순서(최신순)대로 postId 를 돌려준다. 커서는 FeedService 의 (createdAt, postId) 형식
+ * - findPage 는 트랜잭션 밖에서 호출 (타임라인 재구성이 새 트랜잭션으로 조회하므로 커넥션을 두 개 잡지 않도록)
+ */
+public interface HomeTimeline {
+
+    List<UUID> findPage(UUID meId, LocalDateTime cursorCreatedAt, UUID cursorId, int limit);
+
+    void onPostCreated(PostCreatedEvent event);
+
+    void onFollowed(UUID followerId, UUID followingId);
+}
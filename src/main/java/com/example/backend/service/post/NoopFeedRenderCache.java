@@ -0,0 +1,41 @@
+package com.example.backend.service.post;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@Profile("test")
+public class NoopFeedRenderCache implements FeedRenderCache {
+
+    // test 프로필은 항상 DB 에서 조립
+
+    @Override
+    public Map<UUID, PostRender> getPosts(Collection<UUID> postIds) {
+        return Map.of();
+    }
+
+    @Override
+    public void putPosts(Collection<PostRender> posts) {
+    }
+
+    @Override
+    public void evictPost(UUID postId) {
+    }
+
+    @Override
+    public Map<UUID, AuthorRender> getAuthors(Collection<UUID> userIds) {
+        return Map.of();
+    }
+
+    @Override
+    public void putAuthors(Collection<AuthorRender> authors) {
+    }
+
+    @Override
+    public void evictAuthor(UUID userId) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.service.post;
+
+import com.example.backend.domain.post.Post;
+import com.example.backend.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * geohash 가 없는 기존 위치 게시글을 배치로 채운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostGeohashBackfillService {
+
+    private final PostRepository postRepository;
+
+    /**
+     * @return 이번 배치에서 처리한 게시글 수 (batchSize 보다 작으면 남은 대상 없음)
+     */
+    @Transactional
+    public int backfillBatch(int batchSize) {
+        List<Post> targets = postRepository.findGeohashMissing(PageRequest.of(0, batchSize));
+        for (Post post : targets) {
+            post.assignGeohash();
+        }
+        return targets.size();
+    }
+}
@@ -7,6 +7,7 @@ import com.example.backend.controller.post.dto.PostCreateResponse;
 import com.example.backend.controller.post.dto.PostUpdateRequest;
 import com.example.backend.domain.post.Post;
 import com.example.backend.domain.post.PostImage;
+import com.example.backend.domain.post.event.PostCreatedEvent;
 import com.example.backend.exception.BusinessException;
 import com.example.backend.exception.ErrorCode;
 import com.example.backend.repository.file.UploadedFileRepository;
@@ -15,16 +16,18 @@ import com.example.backend.repository.post.PostRepository;
 import com.example.backend.repository.user.UserRepository;
 import com.example.backend.security.ContentSanitizer;
 import com.example.backend.search.index.SearchIndexingService;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.service.like.LikeCountAggregator;
+import com.example.backend.service.like.PostLikeState;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PostService {
 
     private final PostRepository postRepository;
@@ -32,6 +35,36 @@ public class PostService {
     private final UploadedFileRepository uploadedFileRepository;
     private final PostLikeRepository postLikeRepository;
     private final SearchIndexingService searchIndexingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FeedRenderCacheEvictor renderCacheEvictor;
+    private final LikeCountAggregator likeCountAggregator;
+    private final PostLikeState postLikeState;
+    private final TransactionTemplate readTransaction;
+
+    public PostService(
+            PostRepository postRepository,
+            UserRepository userRepository,
+            UploadedFileRepository uploadedFileRepository,
+            PostLikeRepository postLikeRepository,
+            SearchIndexingService searchIndexingService,
+            ApplicationEventPublisher eventPublisher,
+            FeedRenderCacheEvictor renderCacheEvictor,
+            LikeCountAggregator likeCountAggregator,
+            PostLikeState postLikeState,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.uploadedFileRepository = uploadedFileRepository;
+        this.postLikeRepository = postLikeRepository;
+        this.searchIndexingService = searchIndexingService;
+        this.eventPublisher = eventPublisher;
+        this.renderCacheEvictor = renderCacheEvictor;
+        this.likeCountAggregator = likeCountAggregator;
+        this.postLikeState = postLikeState;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
 
     @Transactional
     public PostCreateResponse createPost(UUID meId, PostCreateRequest request) {
@@ -67,6 +100,14 @@ public class PostService {
         Post saved = postRepository.save(post);
         searchIndexingService.indexPost(saved);
 
+        // ✅ 커밋 후 팔로워 타임라인 fan-out
+        eventPublisher.publishEvent(new PostCreatedEvent(
+                saved.getId(),
+                saved.getAuthorId(),
+                saved.getVisibility(),
+                saved.getCreatedAt()
+        ));
+
         var author = userRepository.findById(saved.getAuthorId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
@@ -117,6 +158,7 @@ public class PostService {
 
         post.update(ContentSanitizer.minimal(request.content()), request.visibility());
         searchIndexingService.indexPost(post);
+        renderCacheEvictor.evictPost(postId);
 
         var author = userRepository.findById(post.getAuthorId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -149,7 +191,7 @@ public class PostService {
                         .toList(),
                 post.getVisibility(),
                 post.getCreatedAt(),
-                post.getLikeCount(),
+                post.getLikeCount() + likeCountAggregator.pendingPostDelta(post.getId()),
                 post.getCommentCount(),
                 likedByMe,
                 post.getLatitude(),
@@ -159,15 +201,23 @@ public class PostService {
         );
     }
 
+    /**
+     * 게시글 상세
+     * - likedByMe 는 트랜잭션 밖에서 먼저 (좋아요 상태 재구성이 자기 트랜잭션을 열어도 커넥션을 두 개 잡지 않음)
+     * - 게시글/작성자 조회는 readOnly 트랜잭션
+     */
     public PostCreateResponse getPost(UUID postId, UUID meId) {
+        boolean likedByMe = postLikeState.likedAmong(meId, List.of(postId)).contains(postId);
+        return readTransaction.execute(status -> toDetail(postId, likedByMe));
+    }
+
+    private PostCreateResponse toDetail(UUID postId, boolean likedByMe) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
         var author = userRepository.findById(post.getAuthorId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
-        boolean likedByMe = meId != null && postLikeRepository.findByPostIdAndUserId(postId, meId).isPresent();
-
         return new PostCreateResponse(
                 post.getId(),
                 post.getAuthorId(),
@@ -194,7 +244,7 @@ public class PostService {
                         .toList(),
                 post.getVisibility(),
                 post.getCreatedAt(),
-                post.getLikeCount(),
+                post.getLikeCount() + likeCountAggregator.pendingPostDelta(post.getId()),
                 post.getCommentCount(),
                 likedByMe,
                 post.getLatitude(),
@@ -215,5 +265,6 @@ public class PostService {
 
         post.delete();
         searchIndexingService.remove("POSTS", post.getId());
+        renderCacheEvictor.evictPost(postId);
     }
 }
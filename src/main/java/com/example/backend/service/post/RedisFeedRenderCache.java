@@ -0,0 +1,135 @@
+package com.example.backend.service.post;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Redis 기반 피드 렌더 캐시
+ * - 키: feed:render:post:{postId} / feed:render:user:{userId}, 값: json
+ * - 페이지 단위 MGET 한 번 조회, 채울 때는 pipeline SET EX 한 번
+ * - 게시글은 수정/삭제/좋아요/댓글, 작성자는 프로필 수정 커밋 후 삭제 (FeedRenderCacheEvictor)
+ *   커밋 직전 스냅샷으로 다시 채워지는 경우는 TTL 로 회복
+ * - Redis 장애 시 miss 로 처리 (DB 조립)
+ */
+@Slf4j
+@Profile("!test")
+@Component
+public class RedisFeedRenderCache implements FeedRenderCache {
+
+    private static final String POST_PREFIX = "feed:render:post:";
+    private static final String USER_PREFIX = "feed:render:user:";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final Duration postTtl;
+    private final Duration authorTtl;
+
+    public RedisFeedRenderCache(
+            StringRedisTemplate redis,
+            ObjectMapper objectMapper,
+            @Value("${app.feed.render-post-ttl-seconds:60}") long postTtlSeconds,
+            @Value("${app.feed.render-author-ttl-seconds:1800}") long authorTtlSeconds
+    ) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.postTtl = Duration.ofSeconds(postTtlSeconds);
+        this.authorTtl = Duration.ofSeconds(authorTtlSeconds);
+    }
+
+    @Override
+    public Map<UUID, PostRender> getPosts(Collection<UUID> postIds) {
+        return getAll(POST_PREFIX, postIds, PostRender.class);
+    }
+
+    @Override
+    public void putPosts(Collection<PostRender> posts) {
+        putAll(POST_PREFIX, posts, PostRender::postId, postTtl);
+    }
+
+    @Override
+    public void evictPost(UUID postId) {
+        evict(POST_PREFIX + postId);
+    }
+
+    @Override
+    public Map<UUID, AuthorRender> getAuthors(Collection<UUID> userIds) {
+        return getAll(USER_PREFIX, userIds, AuthorRender.class);
+    }
+
+    @Override
+    public void putAuthors(Collection<AuthorRender> authors) {
+        putAll(USER_PREFIX, authors, AuthorRender::userId, authorTtl);
+    }
+
+    @Override
+    public void evictAuthor(UUID userId) {
+        evict(USER_PREFIX + userId);
+    }
+
+    private <T> Map<UUID, T> getAll(String prefix, Collection<UUID> ids, Class<T> type) {
+        if (ids == null || ids.isEmpty()) return Map.of();
+
+        List<UUID> idList = new ArrayList<>(ids);
+        List<String> keys = idList.stream().map(id -> prefix + id).toList();
+        try {
+            List<String> values = redis.opsForValue().multiGet(keys);
+            if (values == null) return Map.of();
+
+            Map<UUID, T> out = new HashMap<>();
+            for (int i = 0; i < idList.size() && i < values.size(); i++) {
+                String json = values.get(i);
+                if (json != null) {
+                    out.put(idList.get(i), objectMapper.readValue(json, type));
+                }
+            }
+            return out;
+        } catch (Exception e) {
+            log.warn("feed render cache lookup failed | prefix={}", prefix, e);
+            return Map.of();
+        }
+    }
+
+    private <T> void putAll(String prefix, Collection<T> values, Function<T, UUID> idOf, Duration ttl) {
+        if (values == null || values.isEmpty()) return;
+
+        try {
+            Map<String, String> entries = new HashMap<>();
+            for (T value : values) {
+                entries.put(prefix + idOf.apply(value), objectMapper.writeValueAsString(value));
+            }
+            Expiration expiration = Expiration.from(ttl);
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                entries.forEach((k, v) -> conn.set(k, v, expiration, RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("feed render cache store failed | prefix={}", prefix, e);
+        }
+    }
+
+    private void evict(String key) {
+        try {
+            redis.delete(key);
+        } catch (Exception e) {
+            log.warn("feed render cache evict failed | key={}", key, e);
+        }
+    }
+}
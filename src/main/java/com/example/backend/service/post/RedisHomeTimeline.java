@@ -0,0 +1,313 @@
+package com.example.backend.service.post;
+
+import com.example.backend.domain.post.PostVisibility;
+import com.example.backend.domain.post.event.PostCreatedEvent;
+import com.example.backend.domain.user.FollowerTier;
+import com.example.backend.repository.follow.FollowRepository;
+import com.example.backend.repository.post.PostQueryRepository;
+import com.example.backend.repository.post.PostQueryRepository.TimelineEntry;
+import com.example.backend.repository.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Redis ZSET 기반 팔로잉 타임라인 (fan-out-on-write + 대형 작성자 pull-on-read)
+ *
+ * - feed:home:{userId}     : 내 글 + 팔로우한 작성자의 글 (작성 시 팔로워마다 push)
+ * - feed:author:{authorId} : 작성자의 비공개 아닌 글 (GOLD/PLATINUM 작성자는 fan-out 없이 읽을 때 여기서 당겨옴)
+ * - feed:public            : 전체 공개 글 (팔로우하지 않은 사람의 ALL 글도 피드에 노출)
+ * - member: postId / score: createdAt(ms) → 같은 ms 안에서는 postId 문자열 역순 (UUID 바이트 순서와 같음)
+ *
+ * - 키마다 ":seeded" 표시가 있는 타임라인에만 push, 표시가 없으면 처음 읽을 때 DB 에서 다시 만든다
+ *   (안 들어오는 사용자 타임라인은 TTL 로 사라지고 fan-out 대상에서도 빠짐)
+ * - 삭제/공개범위 변경/언팔로우는 읽을 때 DB 로 걸러냄 → ZSET 에서 지우지 않음
+ * - 타임라인 길이는 app.feed.timeline-max-size 까지 (더 오래된 글은 피드 끝)
+ */
+@Slf4j
+@Profile("!test")
+@Component
+public class RedisHomeTimeline implements HomeTimeline {
+
+    private static final String HOME_PREFIX = "feed:home:";
+    private static final String AUTHOR_PREFIX = "feed:author:";
+    private static final String PUBLIC_KEY = "feed:public";
+    private static final String SEEDED_SUFFIX = ":seeded";
+
+    private static final int FANOUT_BATCH = 1000;
+    // 후보가 보이지 않는 글(삭제 등)로만 채워졌을 때 더 읽어 보는 횟수
+    private static final int MAX_READ_ROUNDS = 3;
+
+    private static final Comparator<Position> FEED_ORDER = Comparator
+            .comparingDouble(Position::score)
+            .thenComparing(Position::member)
+            .reversed();
+
+    private final StringRedisTemplate redis;
+    private final PostQueryRepository postQueryRepository;
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate seedTransaction;
+    private final int maxSize;
+    private final int publicMaxSize;
+    private final int backfillSize;
+    private final Duration ttl;
+
+    public RedisHomeTimeline(
+            StringRedisTemplate redis,
+            PostQueryRepository postQueryRepository,
+            FollowRepository followRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.feed.timeline-max-size:800}") int maxSize,
+            @Value("${app.feed.public-timeline-max-size:5000}") int publicMaxSize,
+            @Value("${app.feed.follow-backfill-size:50}") int backfillSize,
+            @Value("${app.feed.timeline-ttl-hours:72}") long ttlHours
+    ) {
+        this.redis = redis;
+        this.postQueryRepository = postQueryRepository;
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        // 재구성은 새 트랜잭션(새 스냅샷)에서 → ":seeded" 표시 이후 커밋된 글은 fan-out 으로, 이전 글은 조회로 들어옴
+        // (findPage 호출자는 트랜잭션 밖 → 커넥션을 동시에 두 개 잡지 않음)
+        this.seedTransaction = new TransactionTemplate(transactionManager);
+        this.seedTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.seedTransaction.setReadOnly(true);
+        this.maxSize = maxSize;
+        this.publicMaxSize = publicMaxSize;
+        this.backfillSize = backfillSize;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    // 타임라인 안의 위치 (score desc, member desc 순서)
+    private record Position(double score, String member) {}
+
+    @Override
+    public List<UUID> findPage(UUID meId, LocalDateTime cursorCreatedAt, UUID cursorId, int limit) {
+        List<String> keys = new ArrayList<>();
+
+        String home = homeKey(meId);
+        ensureSeeded(home, maxSize, () -> postQueryRepository.findHomeTimelineSeed(meId, maxSize));
+        keys.add(home);
+
+        ensureSeeded(PUBLIC_KEY, publicMaxSize, () -> postQueryRepository.findPublicTimelineSeed(publicMaxSize));
+        keys.add(PUBLIC_KEY);
+
+        // ✅ 팔로워가 많은 작성자는 push 하지 않았으므로 작성자 타임라인에서 당겨옴
+        for (UUID authorId : followRepository.findFollowingIdsWithMinFollowers(meId, FollowerTier.GOLD.getMinFollowers())) {
+            String author = authorKey(authorId);
+            ensureSeeded(author, maxSize, () -> postQueryRepository.findAuthorTimelineSeed(authorId, maxSize));
+            keys.add(author);
+        }
+
+        Position cursor = (cursorCreatedAt == null || cursorId == null)
+                ? null
+                : new Position(score(cursorCreatedAt), cursorId.toString());
+
+        List<UUID> result = new ArrayList<>(limit);
+        for (int round = 0; round < MAX_READ_ROUNDS && result.size() < limit; round++) {
+            List<Position> candidates = readMerged(keys, cursor, limit);
+            if (candidates.isEmpty()) break;
+
+            List<UUID> ids = candidates.stream().map(c -> UUID.fromString(c.member())).toList();
+            Set<UUID> visible = new HashSet<>(postQueryRepository.findVisibleFeedIds(meId, ids));
+            for (UUID id : ids) {
+                if (visible.contains(id)) {
+                    result.add(id);
+                    if (result.size() >= limit) break;
+                }
+            }
+
+            if (candidates.size() < limit) break;
+            cursor = candidates.get(candidates.size() - 1);
+        }
+        return result;
+    }
+
+    @Override
+    public void onPostCreated(PostCreatedEvent event) {
+        String member = event.postId().toString();
+        double score = score(event.createdAt());
+
+        // 내 타임라인에는 공개범위와 관계없이
+        List<String> own = new ArrayList<>(2);
+        own.add(homeKey(event.authorId()));
+        if (event.visibility() != PostVisibility.PRIVATE) {
+            own.add(authorKey(event.authorId()));
+        }
+        appendToSeeded(own, member, score, maxSize);
+
+        if (event.visibility() == PostVisibility.ALL) {
+            appendToSeeded(List.of(PUBLIC_KEY), member, score, publicMaxSize);
+        }
+        if (event.visibility() == PostVisibility.PRIVATE) return;
+
+        FollowerTier tier = userRepository.findById(event.authorId())
+                .map(u -> FollowerTier.of(u.getFollowerCount()))
+                .orElse(FollowerTier.NONE);
+        if (tier.isPullOnRead()) return;
+
+        // ✅ 팔로워를 batch 단위로 읽어 pipeline 한 번씩 push
+        UUID after = new UUID(0L, 0L);
+        while (true) {
+            List<UUID> followerIds = followRepository.findFollowerIdsAfter(
+                    event.authorId(), after, PageRequest.of(0, FANOUT_BATCH));
+            if (followerIds.isEmpty()) break;
+
+            appendToSeeded(followerIds.stream().map(RedisHomeTimeline::homeKey).toList(), member, score, maxSize);
+
+            if (followerIds.size() < FANOUT_BATCH) break;
+            after = followerIds.get(followerIds.size() - 1);
+        }
+    }
+
+    @Override
+    public void onFollowed(UUID followerId, UUID followingId) {
+        FollowerTier tier = userRepository.findById(followingId)
+                .map(u -> FollowerTier.of(u.getFollowerCount()))
+                .orElse(FollowerTier.NONE);
+        if (tier.isPullOnRead()) return;
+
+        String home = homeKey(followerId);
+        if (!Boolean.TRUE.equals(redis.hasKey(home + SEEDED_SUFFIX))) return;
+
+        // 새로 팔로우한 작성자의 최근 글을 내 타임라인에 채움 (그 이전 글은 피드에 없음)
+        List<TimelineEntry> entries = seedTransaction.execute(
+                status -> postQueryRepository.findAuthorTimelineSeed(followingId, backfillSize));
+        addAll(home, entries, maxSize);
+    }
+
+    /**
+     * 표시가 없는 타임라인을 DB 에서 다시 만든다
+     * - 표시를 먼저 세워 재구성 도중 작성된 글도 fan-out 으로 들어오게 함 (중복은 ZSET 이 합침)
+     */
+    private void ensureSeeded(String key, int max, Supplier<List<TimelineEntry>> loader) {
+        String flag = key + SEEDED_SUFFIX;
+        if (!Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(flag, "1", ttl))) return;
+
+        try {
+            List<TimelineEntry> entries = seedTransaction.execute(status -> loader.get());
+            addAll(key, entries, max);
+            redis.expire(key, ttl);
+        } catch (RuntimeException e) {
+            redis.delete(flag);
+            throw e;
+        }
+    }
+
+    private void addAll(String key, List<TimelineEntry> entries, int max) {
+        if (entries == null || entries.isEmpty()) return;
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (TimelineEntry e : entries) {
+            tuples.add(new DefaultTypedTuple<>(e.postId().toString(), score(e.createdAt())));
+        }
+        redis.opsForZSet().add(key, tuples);
+        redis.opsForZSet().removeRange(key, 0, -(max + 1L));
+    }
+
+    // 재구성된(":seeded") 타임라인에만 추가 + 길이 제한
+    private void appendToSeeded(List<String> keys, String member, double score, int max) {
+        List<Object> seeded = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String key : keys) {
+                conn.exists(key + SEEDED_SUFFIX);
+            }
+            return null;
+        });
+
+        List<String> targets = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            if (Boolean.TRUE.equals(seeded.get(i))) targets.add(keys.get(i));
+        }
+        if (targets.isEmpty()) return;
+
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (String key : targets) {
+                conn.zAdd(key, score, member);
+                conn.zRemRange(key, 0, -(max + 1L));
+            }
+            return null;
+        });
+    }
+
+    // 여러 타임라인에서 cursor 다음 위치부터 count 개씩 읽어 피드 순서로 합침 (같은 글은 하나로)
+    private List<Position> readMerged(List<String> keys, Position cursor, int count) {
+        TreeSet<Position> merged = new TreeSet<>(FEED_ORDER);
+        for (String key : keys) {
+            merged.addAll(read(key, cursor, count));
+        }
+
+        List<Position> page = new ArrayList<>(Math.min(count, merged.size()));
+        for (Position p : merged) {
+            if (page.size() >= count) break;
+            page.add(p);
+        }
+        return page;
+    }
+
+    private List<Position> read(String key, Position cursor, int count) {
+        ZSetOperations<String, String> zset = redis.opsForZSet();
+        List<Position> out = new ArrayList<>();
+
+        if (cursor == null) {
+            collect(zset.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, 0, count), out);
+            return out;
+        }
+
+        // 같은 ms 는 member 로 이어서, 그보다 오래된 것은 score 로
+        Set<ZSetOperations.TypedTuple<String>> sameScore = zset.rangeByScoreWithScores(key, cursor.score(), cursor.score());
+        if (sameScore != null) {
+            for (ZSetOperations.TypedTuple<String> t : sameScore) {
+                if (t.getValue() != null && t.getValue().compareTo(cursor.member()) < 0) {
+                    out.add(new Position(cursor.score(), t.getValue()));
+                }
+            }
+        }
+        collect(zset.reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, cursor.score() - 1, 0, count), out);
+        return out;
+    }
+
+    private void collect(Set<ZSetOperations.TypedTuple<String>> tuples, List<Position> out) {
+        if (tuples == null) return;
+        for (ZSetOperations.TypedTuple<String> t : tuples) {
+            if (t.getValue() == null || t.getScore() == null) continue;
+            out.add(new Position(t.getScore(), t.getValue()));
+        }
+    }
+
+    private static double score(LocalDateTime createdAt) {
+        return createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static String homeKey(UUID userId) {
+        return HOME_PREFIX + userId;
+    }
+
+    private static String authorKey(UUID authorId) {
+        return AUTHOR_PREFIX + authorId;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.backend.service.post.listener;
+
+import com.example.backend.domain.post.event.PostCreatedEvent;
+import com.example.backend.service.follow.FollowService;
+import com.example.backend.service.post.HomeTimeline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import static org.springframework.transaction.event.TransactionPhase.AFTER_COMMIT;
+
+/**
+ * 타임라인 fan-out / 팔로우 backfill
+ * - 팔로워 수만큼 Redis 쓰기가 생기므로 요청 스레드가 아닌 비동기로 처리
+ * - 실패해도 글/팔로우는 이미 커밋됨 → 타임라인은 TTL 만료 후 DB 에서 다시 만들어짐
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeTimelineEventListener {
+
+    private final HomeTimeline homeTimeline;
+
+    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onPostCreated(PostCreatedEvent event) {
+        try {
+            homeTimeline.onPostCreated(event);
+        } catch (Exception e) {
+            log.warn("타임라인 fan-out 실패 | postId={}", event.postId(), e);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = AFTER_COMMIT)
+    public void onFollowed(FollowService.UserFollowedEvent event) {
+        try {
+            homeTimeline.onFollowed(event.followerId(), event.targetUserId());
+        } catch (Exception e) {
+            log.warn("타임라인 backfill 실패 | followerId={} followingId={}", event.followerId(), event.targetUserId(), e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.backend.service.sse;
+
+import com.example.backend.config.SseProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고빈도 SSE 이벤트 합치기(coalescing)
+ *
+ * - 같은 key 로 window 안에 들어온 이벤트는 마지막 것만 전송 (latest-wins)
+ * - key 의 첫 이벤트가 들어올 때 window 후 flush 를 예약하고, 이후 이벤트는 값만 교체
+ * - 멤버 조회/push 도 window 당 한 번으로 줄어든다
+ */
+@Slf4j
+@Component
+public class SseEventCoalescer {
+
+    private final Map<String, Runnable> latestByKey = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public SseEventCoalescer(SseProperties properties) {
+        this.windowMillis = Math.max(0, properties.getPlaybackCoalesceWindowMs());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sse-coalesce");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void submit(String key, Runnable delivery) {
+        if (windowMillis == 0) {
+            deliver(key, delivery);
+            return;
+        }
+
+        // put 결과가 null 이면 이 key 의 첫 이벤트 → flush 예약
+        if (latestByKey.put(key, delivery) != null) return;
+
+        try {
+            scheduler.schedule(() -> flush(key), windowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flush(key);
+        }
+    }
+
+    /**
+     * 아직 전송되지 않은 key 의 이벤트를 버린다. (예: 세션 종료 후 늦게 도착하는 상태 변경 방지)
+     */
+    public void discard(String key) {
+        latestByKey.remove(key);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        latestByKey.keySet().forEach(this::flush);
+    }
+
+    private void flush(String key) {
+        Runnable latest = latestByKey.remove(key);
+        if (latest != null) {
+            deliver(key, latest);
+        }
+    }
+
+    private void deliver(String key, Runnable delivery) {
+        try {
+            delivery.run();
+        } catch (Exception e) {
+            log.warn("SSE coalesced delivery failed | key={}", key, e);
+        }
+    }
+}
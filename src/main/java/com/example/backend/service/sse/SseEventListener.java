@@ -31,6 +31,7 @@ public class SseEventListener {
 
     private final SsePushPort pushService;
     private final ConversationMemberRepository memberRepository;
+    private final SseEventCoalescer coalescer;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onMessageSent(MessageSentEvent event) {
@@ -48,9 +49,7 @@ public class SseEventListener {
                 "createdAt", event.createdAt().toString()
         );
 
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "message-created", payload, event.messageId().toString());
-        }
+        pushService.pushMany(targets, "message-created", payload, event.messageId().toString());
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -79,9 +78,7 @@ public class SseEventListener {
                 "deletedAt", event.deletedAt().toString()
         );
 
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "message-deleted", payload, event.messageId().toString());
-        }
+        pushService.pushMany(targets, "message-deleted", payload, event.messageId().toString());
     }
 
     // ✅ NEW: pin-created (핀은 "나 포함 전원"에게 보내야 UX가 바로 반영됨)
@@ -103,9 +100,7 @@ public class SseEventListener {
         payload.put("status", event.status());
         payload.put("createdAt", event.createdAt().toString());
 
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "pin-created", payload, event.pinId().toString());
-        }
+        pushService.pushMany(targets, "pin-created", payload, event.pinId().toString());
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -127,9 +122,7 @@ public class SseEventListener {
         payload.put("remindAt", event.remindAt() == null ? null : event.remindAt().toString());
         payload.put("updatedAt", event.updatedAt().toString());
 
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "pin-updated", payload, event.pinId().toString());
-        }
+        pushService.pushMany(targets, "pin-updated", payload, event.pinId().toString());
     }
 
 
@@ -152,13 +145,16 @@ public class SseEventListener {
         payload.put("createdAt", event.createdAt().toString());
         payload.put("messageId", event.messageId() == null ? null : event.messageId().toString());
 
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "playback-session-created", payload, event.sessionId().toString());
-        }
+        pushService.pushMany(targets, "playback-session-created", payload, event.sessionId().toString());
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onPlaybackSessionUpdated(PlaybackSessionUpdatedEvent event) {
+        // ✅ seek/재생 토글이 연달아 오면 window 안에서는 마지막 상태만 전송
+        coalescer.submit("playback-updated:" + event.sessionId(), () -> pushPlaybackSessionUpdated(event));
+    }
+
+    private void pushPlaybackSessionUpdated(PlaybackSessionUpdatedEvent event) {
 
         List<UUID> targets = memberRepository.findUserIdsByConversationId(event.conversationId());
 
@@ -172,13 +168,13 @@ public class SseEventListener {
         payload.put("updatedAt", event.updatedAt().toString());
 
         String eventId = event.sessionId() + ":" + event.updatedAt();
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "playback-session-updated", payload, eventId);
-        }
+        pushService.pushMany(targets, "playback-session-updated", payload, eventId);
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onPlaybackSessionEnded(PlaybackSessionEndedEvent event) {
+        // 종료 뒤에 합쳐둔 상태 변경이 도착하지 않도록 대기 중인 건은 버림
+        coalescer.discard("playback-updated:" + event.sessionId());
 
         List<UUID> targets = memberRepository.findUserIdsByConversationId(event.conversationId());
 
@@ -190,13 +186,17 @@ public class SseEventListener {
         payload.put("endedAt", event.endedAt().toString());
 
         String eventId = event.sessionId() + ":ended:" + event.endedAt();
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "playback-session-ended", payload, eventId);
-        }
+        pushService.pushMany(targets, "playback-session-ended", payload, eventId);
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onPlaybackSessionPresence(PlaybackSessionPresenceEvent event) {
+        // ✅ presence 는 유저별 최신 lastSeenAt 만 의미가 있으므로 (session, user) 단위로 합침
+        coalescer.submit("playback-presence:" + event.sessionId() + ":" + event.userId(),
+                () -> pushPlaybackSessionPresence(event));
+    }
+
+    private void pushPlaybackSessionPresence(PlaybackSessionPresenceEvent event) {
 
         List<UUID> targets = memberRepository.findUserIdsByConversationId(event.conversationId());
 
@@ -206,10 +206,8 @@ public class SseEventListener {
         payload.put("userId", event.userId().toString());
         payload.put("lastSeenAt", event.lastSeenAt().toString());
 
-        String eventId = event.sessionId() + ":presence:" + event.userId() + ":" + event.lastSeenAt();
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "playback-session-presence", payload, eventId);
-        }
+        // presence 는 재연결 시 다시 받을 필요가 없음 → replay 로그에 저장하지 않음
+        pushService.pushManyTransient(targets, "playback-session-presence", payload);
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -228,9 +226,7 @@ public class SseEventListener {
 
         String eventId = event.conversationId() + ":" + event.userId() + ":" + (event.lastReadAt() == null ? "null" : event.lastReadAt());
 
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "conversation-read", payload, eventId);
-        }
+        pushService.pushMany(targets, "conversation-read", payload, eventId);
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -249,8 +245,6 @@ public class SseEventListener {
 
         String eventId = event.messageId() + ":" + (event.editedAt() == null ? "null" : event.editedAt());
 
-        for (UUID targetId : targets) {
-            pushService.push(targetId, "message-updated", payload, eventId);
-        }
+        pushService.pushMany(targets, "message-updated", payload, eventId);
     }
 }
\ No newline at end of file
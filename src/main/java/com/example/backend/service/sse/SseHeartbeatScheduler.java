@@ -1,5 +1,6 @@
 package com.example.backend.service.sse;
 
+import com.example.backend.sse.SseConnectionDirectory;
 import com.example.backend.sse.SseEmitterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,10 +13,22 @@ import org.springframework.stereotype.Component;
 public class SseHeartbeatScheduler {
 
     private final SseEmitterRegistry registry;
+    private final SseConnectionDirectory connectionDirectory;
 
-    // 25초마다 ping (너무 짧게 하면 트래픽 증가, 너무 길면 중간에 끊길 수 있음)
-    @Scheduled(fixedDelay = 25_000)
+    // 연결당 25초마다 ping (너무 짧게 하면 트래픽 증가, 너무 길면 중간에 끊길 수 있음)
+    // - 한 번에 전체를 훑지 않고 tick(기본 1초)마다 timing wheel 한 칸씩만 처리
+    @Scheduled(fixedRateString = "${app.sse.heartbeat-tick-ms:1000}")
     public void heartbeat() {
-        registry.broadcastPing();
+        registry.heartbeatTick();
     }
-}
\ No newline at end of file
+
+    // 연결 소유 디렉토리 갱신 (app.sse.directory-ttl-seconds 보다 충분히 짧게)
+    @Scheduled(fixedDelayString = "${app.sse.directory-refresh-ms:30000}")
+    public void refreshConnectionDirectory() {
+        try {
+            connectionDirectory.refresh(registry.connectedUserIds());
+        } catch (Exception e) {
+            log.warn("SSE connection directory refresh failed", e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.backend.service.sse;
+
+import com.example.backend.config.SseProperties;
+import com.example.backend.sse.SseEmitterRegistry;
+import com.example.backend.sse.SseEventStore;
+import com.example.backend.sse.SseFrame;
+import com.example.backend.sse.SseReplay;
+import com.example.backend.sse.SseStoredEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재연결(Last-Event-ID) replay
+ *
+ * - 요청 스레드가 아닌 replay 전용 스레드에서 조회/인코딩/전송
+ * - chunk 단위로 송신 큐에 넣고, 앞 chunk 가 빠진 뒤 다음 chunk (큐 overflow / 스레드 독점 방지)
+ * - 누락 구간이 잘렸거나(gap) 이벤트 수/바이트 예산을 넘으면 replay 대신 resync-required 한 건만 보냄
+ *   → 클라이언트는 REST 로 현재 상태를 다시 받는다
+ * - 연결은 live 프레임을 잡아 둔 채 등록됨 → 어떤 경로로 끝나든 마지막에 releaseLive 로 풀어줌
+ *   (live 가 replay 보다 먼저 나가지 않고, replay 로 보낸 id 는 live 에서 빠짐)
+ */
+@Slf4j
+@Component
+public class SseReplayService {
+
+    static final String RESYNC_EVENT = "resync-required";
+
+    // 앞 chunk 가 아직 송신 큐에 남아 있을 때 다음 시도까지 대기(ms)
+    private static final long CHUNK_RETRY_MS = 50;
+
+    private final SseEmitterRegistry registry;
+    private final SseEventStore eventStore;
+    private final SseProperties properties;
+    private final ScheduledExecutorService executor;
+
+    public SseReplayService(SseEmitterRegistry registry, SseEventStore eventStore, SseProperties properties) {
+        this.registry = registry;
+        this.eventStore = eventStore;
+        this.properties = properties;
+        AtomicInteger seq = new AtomicInteger(0);
+        this.executor = Executors.newScheduledThreadPool(Math.max(1, properties.getReplayThreads()), r -> {
+            Thread t = new Thread(r, "sse-replay-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * lastEventId 이후 누락분을 비동기로 replay 한다. (이 emitter 에만 보냄)
+     * - 끝나면 잡아 둔 live 프레임을 풀어줌
+     */
+    public void replayAsync(UUID userId, SseEmitter emitter, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            registry.releaseLive(emitter, Set.of());
+            return;
+        }
+
+        try {
+            executor.execute(() -> replay(userId, emitter, lastEventId));
+        } catch (RejectedExecutionException e) {
+            log.debug("SSE replay skipped, executor shut down | userId={}", userId);
+            registry.releaseLive(emitter, Set.of());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void replay(UUID userId, SseEmitter emitter, String lastEventId) {
+        SseReplay replay;
+        try {
+            replay = eventStore.replay(userId, lastEventId);
+        } catch (Exception ex) {
+            // replay 실패는 구독 자체를 실패시키지 않는 편이 UX에 좋음
+            log.warn("SSE replay failed. userId={} lastEventId={}", userId, lastEventId, ex);
+            registry.releaseLive(emitter, Set.of());
+            return;
+        }
+
+        List<SseStoredEvent> events = replay.events();
+        if (replay.gap()) {
+            sendResync(emitter, "gap", events);
+            return;
+        }
+        if (events.isEmpty()) {
+            registry.releaseLive(emitter, Set.of());
+            return;
+        }
+
+        if (events.size() > properties.getReplayMaxEvents()) {
+            sendResync(emitter, "too-many-events", events);
+            return;
+        }
+
+        // 저장된 json 을 Map 으로 되살리지 않고 그대로 프레임으로 인코딩 (바이트 예산은 인코딩 결과 기준)
+        List<Set<ResponseBodyEmitter.DataWithMediaType>> frames = new ArrayList<>(events.size());
+        Set<String> ids = new HashSet<>();
+        long totalBytes = 0;
+        for (SseStoredEvent e : events) {
+            SseFrame frame = SseFrame.of(e.name(), e.json());
+            totalBytes += frame.size();
+            if (totalBytes > properties.getReplayMaxBytes()) {
+                sendResync(emitter, "too-large", events);
+                return;
+            }
+            frames.add(frame.withId(e.id()));
+            if (e.id() != null) ids.add(e.id());
+        }
+
+        sendChunk(emitter, frames, ids, 0);
+    }
+
+    private void sendChunk(SseEmitter emitter, List<Set<ResponseBodyEmitter.DataWithMediaType>> frames,
+                           Set<String> ids, int from) {
+        int pending = registry.pendingFrames(emitter);
+        if (pending < 0) return; // 연결 종료
+
+        int chunkSize = Math.max(1, properties.getReplayChunkSize());
+        if (pending >= chunkSize) {
+            schedule(() -> sendChunk(emitter, frames, ids, from), CHUNK_RETRY_MS);
+            return;
+        }
+
+        int to = Math.min(frames.size(), from + chunkSize);
+        for (int i = from; i < to; i++) {
+            if (!registry.sendFrameTo(emitter, frames.get(i))) return;
+        }
+
+        // ✅ 다음 chunk 는 다시 큐에 넣어 다른 연결의 replay 와 번갈아 처리
+        if (to < frames.size()) {
+            schedule(() -> sendChunk(emitter, frames, ids, to), 0);
+            return;
+        }
+
+        // ✅ 마지막 chunk 뒤에 잡아 둔 live 프레임 (replay 와 겹치는 id 제외)
+        registry.releaseLive(emitter, ids);
+    }
+
+    /**
+     * replay 를 포기하고 resync-required 를 보낸다.
+     * - id 는 보관분의 마지막 이벤트로 → 다음 재연결이 같은 구간을 다시 replay 하지 않음
+     * - 보관분에 있는 live 프레임은 resync 로 다시 받으므로 버리고, 그 뒤 것만 풀어줌
+     */
+    private void sendResync(SseEmitter emitter, String reason, List<SseStoredEvent> available) {
+        String lastId = available.isEmpty() ? null : available.get(available.size() - 1).id();
+        registry.sendFrameTo(emitter, SseFrame.of(RESYNC_EVENT, "{\"reason\":\"" + reason + "\"}").withId(lastId));
+
+        Set<String> ids = new HashSet<>();
+        for (SseStoredEvent e : available) {
+            if (e.id() != null) ids.add(e.id());
+        }
+        registry.releaseLive(emitter, ids);
+    }
+
+    private void schedule(Runnable task, long delayMillis) {
+        try {
+            executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignore) {
+            // 종료 중
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.example.backend.exception.ErrorCode;
 import com.example.backend.repository.file.UploadedFileRepository;
 import com.example.backend.repository.follow.FollowRepository;
 import com.example.backend.repository.user.UserRepository;
+import com.example.backend.service.post.FeedRenderCacheEvictor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +25,7 @@ public class UserProfileService {
     private final UploadedFileRepository uploadedFileRepository;
     private final FollowRepository followRepository;
     private final PublicUrlBuilder urlBuilder;
+    private final FeedRenderCacheEvictor renderCacheEvictor;
 
     @Transactional(readOnly = true)
     public ProfileResponse getProfileByHandle(String handle, UUID meId) {
@@ -54,6 +56,8 @@ public class UserProfileService {
         }
 
         me.updateProfile(request.name(), request.bio(), request.website(), newFileId);
+        // ✅ 피드 item 의 작성자 이름이 바로 바뀌도록 렌더 캐시 제거
+        renderCacheEvictor.evictAuthor(meId);
         return toProfile(me, meId);
     }
 
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -20,7 +22,28 @@ public class LocalSsePushService implements SsePushPort {
 
         // test 프로필에서는 보통 Noop이라 실제 저장은 안 하지만,
         // 인터페이스 규칙은 동일하게 맞춰두는 게 유지보수에 좋음
-        eventStore.append(userId, eventName, formattedId, payload);
-        registry.send(userId, eventName, payload, formattedId);
+        String sseId = eventStore.append(userId, eventName, formattedId, payload);
+        registry.send(userId, eventName, payload, sseId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void pushMany(Collection<UUID> userIds, String eventName, Object payload, String eventId) {
+        if (userIds == null || userIds.isEmpty()) return;
+
+        String formattedId = SseEventIds.format(eventName, eventId);
+
+        Map<UUID, String> sseIds = eventStore.appendMany(userIds, eventName, formattedId, payload);
+        for (UUID userId : userIds) {
+            registry.send(userId, eventName, payload, sseIds.getOrDefault(userId, formattedId));
+        }
+    }
+
+    @Override
+    public void pushManyTransient(Collection<UUID> userIds, String eventName, Object payload) {
+        if (userIds == null || userIds.isEmpty()) return;
+
+        for (UUID userId : userIds) {
+            registry.send(userId, eventName, payload, null);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.backend.sse;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+@Profile("test")
+public class NoopSseConnectionDirectory implements SseConnectionDirectory {
+
+    @Override
+    public void onUserConnected(UUID userId) {
+        // test 프로필은 단일 노드(LocalSsePushService)라 디렉토리가 필요 없음
+    }
+
+    @Override
+    public void onUserDisconnected(UUID userId) {
+    }
+
+    @Override
+    public void refresh(Collection<UUID> userIds) {
+    }
+
+    @Override
+    public Set<String> nodesFor(UUID userId) {
+        return Set.of();
+    }
+
+    @Override
+    public Map<UUID, Set<String>> nodesForAll(Collection<UUID> userIds) {
+        return Map.of();
+    }
+}
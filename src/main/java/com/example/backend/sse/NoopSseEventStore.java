@@ -5,6 +5,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -34,7 +35,14 @@ public class NoopSseEventStore implements SseEventStore {
     }
 
     @Override
-    public void append(UUID userId, String eventName, String eventId, Object payload) {
+    public String append(UUID userId, String eventName, String eventId, Object payload) {
         // test 프로필에서는 저장하지 않음 (replay 테스트가 필요하면 별도 fake 구현으로 교체)
+        return eventId;
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<UUID, String> appendMany(Collection<UUID> userIds, String eventName, String eventId, Object payload) {
+        // test 프로필에서는 저장하지 않음
+        return Map.of();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.backend.sse;
+
+import com.example.backend.config.SseProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis ZSET 기반 연결 소유 디렉토리
+ *
+ * - 키: sse:conn:{userId}
+ * - member: nodeId / score: 마지막 갱신 시각(ms)
+ * - score 가 TTL 보다 오래된 노드는 죽은 노드로 보고 조회에서 제외
+ *   + 등록/갱신 때 같이 지움 (nodeId 는 프로세스마다 새로 만들어지므로 재시작마다 남는 member 정리)
+ */
+@Slf4j
+@Profile("!test")
+@Component
+@RequiredArgsConstructor
+public class RedisSseConnectionDirectory implements SseConnectionDirectory {
+
+    private final StringRedisTemplate redis;
+    private final SseNodeId nodeId;
+    private final SseProperties properties;
+
+    private static String key(UUID userId) {
+        return "sse:conn:" + userId;
+    }
+
+    @Override
+    public void onUserConnected(UUID userId) {
+        try {
+            String k = key(userId);
+            long now = System.currentTimeMillis();
+            redis.opsForZSet().add(k, nodeId.value(), now);
+            redis.opsForZSet().removeRangeByScore(k, Double.NEGATIVE_INFINITY, staleBefore(now));
+            redis.expire(k, Duration.ofSeconds(keyTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("SSE directory register failed | userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void onUserDisconnected(UUID userId) {
+        try {
+            redis.opsForZSet().remove(key(userId), nodeId.value());
+        } catch (Exception e) {
+            log.warn("SSE directory remove failed | userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void refresh(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        long ttl = keyTtlSeconds();
+        double stale = staleBefore(now);
+        String node = nodeId.value();
+
+        // ✅ 연결 수만큼 왕복하지 않도록 pipeline 한 번으로 갱신
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : userIds) {
+                String k = key(userId);
+                conn.zAdd(k, now, node);
+                conn.zRemRangeByScore(k, Double.NEGATIVE_INFINITY, stale);
+                conn.expire(k, ttl);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public Set<String> nodesFor(UUID userId) {
+        long minScore = System.currentTimeMillis() - properties.getDirectoryTtlSeconds() * 1000L;
+        Set<String> nodes = redis.opsForZSet().rangeByScore(key(userId), minScore, Double.POSITIVE_INFINITY);
+        return nodes == null ? Set.of() : nodes;
+    }
+
+    @Override
+    public Map<UUID, Set<String>> nodesForAll(Collection<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) return Map.of();
+
+        List<UUID> ordered = new ArrayList<>(userIds);
+        long minScore = System.currentTimeMillis() - properties.getDirectoryTtlSeconds() * 1000L;
+
+        // ✅ 수신자 수만큼 왕복하지 않도록 ZRANGEBYSCORE 를 pipeline 으로 묶음
+        List<Object> results = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : ordered) {
+                conn.zRangeByScore(key(userId), minScore, Double.POSITIVE_INFINITY);
+            }
+            return null;
+        });
+
+        Map<UUID, Set<String>> nodesByUser = new HashMap<>();
+        for (int i = 0; i < ordered.size() && i < results.size(); i++) {
+            if (!(results.get(i) instanceof Collection<?> nodes) || nodes.isEmpty()) continue;
+
+            Set<String> set = new LinkedHashSet<>(nodes.size());
+            for (Object node : nodes) {
+                set.add(String.valueOf(node));
+            }
+            nodesByUser.put(ordered.get(i), set);
+        }
+        return nodesByUser;
+    }
+
+    // 조회 기준(score >= now - TTL)에서 빠지는 가장 큰 score (score 는 ms 정수)
+    private double staleBefore(long now) {
+        return now - properties.getDirectoryTtlSeconds() * 1000L - 1;
+    }
+
+    private long keyTtlSeconds() {
+        // 키 자체는 항목 TTL의 2배만큼 유지 (모든 노드가 사라지면 자연 소멸)
+        return properties.getDirectoryTtlSeconds() * 2;
+    }
+}
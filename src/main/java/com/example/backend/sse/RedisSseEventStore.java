@@ -3,18 +3,27 @@ package com.example.backend.sse;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Redis List 기반 replay 저장소 (app.sse.event-store=list)
+ * - 기본값은 Streams 구현(RedisStreamSseEventStore), 롤백용으로 유지
+ */
 @Profile("!test")
 @Component
+@ConditionalOnProperty(prefix = "app.sse", name = "event-store", havingValue = "list")
 @RequiredArgsConstructor
 public class RedisSseEventStore implements SseEventStore {
 
@@ -40,39 +49,46 @@ public class RedisSseEventStore implements SseEventStore {
             long ts      // 저장 시각
     ) {}
     @Override
-    public void append(UUID userId, String eventName, String eventId, Object payload) {
-        if (eventId == null || eventId.isBlank()) return;
+    public String append(UUID userId, String eventName, String eventId, Object payload) {
+        appendMany(List.of(userId), eventName, eventId, payload);
+        return eventId;
+    }
 
-        String payloadJson;
-        try {
-            payloadJson = objectMapper.writeValueAsString(payload);
-        } catch (Exception e) {
-            return;
-        }
+    @Override
+    public Map<UUID, String> appendMany(Collection<UUID> userIds, String eventName, String eventId, Object payload) {
+        if (userIds == null || userIds.isEmpty()) return Map.of();
+        if (eventId == null || eventId.isBlank()) return Map.of();
+
+        // ✅ 수신자 수와 무관하게 직렬화는 한 번
+        String serialized = serialize(eventName, eventId, payload);
+        if (serialized == null) return Map.of();
+
+        long ttlSeconds = TimeUnit.DAYS.toSeconds(3);
+
+        // ✅ RPUSH + LTRIM(최근 MAX개) + EXPIRE 를 pipeline 한 번으로 (LLEN 왕복 제거)
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : userIds) {
+                String k = key(userId);
+                conn.rPush(k, serialized);
+                conn.lTrim(k, -MAX_EVENTS_PER_USER, -1);
+                conn.expire(k, ttlSeconds);
+            }
+            return null;
+        });
 
-        StoredEvent se = new StoredEvent(eventId, eventName, payloadJson, System.currentTimeMillis());
+        // 리스트 저장소는 SSE id를 그대로 쓰므로 유저별 id가 없음
+        return Map.of();
+    }
 
-        String serialized;
+    private String serialize(String eventName, String eventId, Object payload) {
         try {
-            serialized = objectMapper.writeValueAsString(se);
+            String payloadJson = objectMapper.writeValueAsString(payload);
+            StoredEvent se = new StoredEvent(eventId, eventName, payloadJson, System.currentTimeMillis());
+            return objectMapper.writeValueAsString(se);
         } catch (Exception e) {
-            return;
-        }
-
-        String k = key(userId);
-
-        // ✅ 순서 유지: RPUSH(오래된 것 -> 새 것)
-        redis.opsForList().rightPush(k, serialized);
-
-        // ✅ 최근 MAX개만 유지 (왼쪽이 오래된 것)
-        Long size = redis.opsForList().size(k);
-        if (size != null && size > MAX_EVENTS_PER_USER) {
-            long trimStart = Math.max(0, size - MAX_EVENTS_PER_USER);
-            redis.opsForList().trim(k, trimStart, -1);
+            return null;
         }
-
-        // ✅ TTL: 3일 보관
-        redis.expire(k, 3, TimeUnit.DAYS);
     }
 
     /**
@@ -81,10 +97,18 @@ public class RedisSseEventStore implements SseEventStore {
      */
     @Override
     public List<SseStoredEvent> replayAfter(UUID userId, String lastEventId) {
-        if (lastEventId == null || lastEventId.isBlank()) return List.of();
+        return replay(userId, lastEventId).events();
+    }
+
+    /**
+     * lastEventId 를 보관분에서 못 찾으면(trim/만료) 남은 이벤트 전체를 gap 으로 반환
+     */
+    @Override
+    public SseReplay replay(UUID userId, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return SseReplay.of(List.of());
 
         List<String> raw = redis.opsForList().range(key(userId), 0, -1);
-        if (raw == null || raw.isEmpty()) return List.of();
+        if (raw == null || raw.isEmpty()) return SseReplay.gap(List.of());
 
         List<StoredEvent> events = new ArrayList<>(raw.size());
         for (String s : raw) {
@@ -103,8 +127,6 @@ public class RedisSseEventStore implements SseEventStore {
                 break;
             }
         }
-        if (idx < 0) return List.of();
-
         List<StoredEvent> missed = events.subList(idx + 1, events.size());
 
         // ✅ 외부로는 SseStoredEvent 타입으로 내보내기
@@ -112,7 +134,7 @@ public class RedisSseEventStore implements SseEventStore {
         for (StoredEvent e : missed) {
             result.add(new SseStoredEvent(e.id(), e.name(), e.json()));
         }
-        return result;
+        return idx < 0 ? SseReplay.gap(result) : SseReplay.of(result);
     }
 
     @Override
@@ -1,23 +1,56 @@
 package com.example.backend.sse;
 
+import com.example.backend.config.SseProperties;
+import com.example.backend.monitoring.support.SseHealthTracker;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisSsePubSub {
 
+    /**
+     * 구버전 전역 브로드캐스트 채널
+     * - 롤링 배포 중 구버전 노드가 보내는 메시지를 받기 위해 구독 유지
+     * - app.sse.legacy-broadcast=true 인 동안은 구버전 노드에 연결된 유저를 위해 이 채널로만 발행
+     */
     public static final String CHANNEL = "sse:push";
 
     private final StringRedisTemplate redis;
     private final ObjectMapper objectMapper;
+    private final SseConnectionDirectory connectionDirectory;
+    private final SseEnvelopeCodec envelopeCodec;
+    private final SseProperties properties;
+    private final SseHealthTracker sseHealthTracker;
 
-    // ✅ Jackson-friendly DTO
+    // ✅ 구버전 JSON envelope (롤링 배포 중 수신 fallback 용, 새로 발행하지 않음)
+    // - 단건: userId / fan-out: userIds (같은 노드의 수신자를 envelope 하나로 묶음)
+    // - eventIds: 수신자별 SSE id (replay 커서가 유저마다 다를 때만, userIds와 같은 순서)
     public record PushMessage(
+            String userId,
+            List<String> userIds,
+            String eventName,
+            String eventId,
+            List<String> eventIds,
+            String payloadJson
+    ) {}
+
+    // ✅ 구버전 노드가 읽는 형식 그대로 (필드를 더하면 구버전 ObjectMapper 가 unknown property 로 실패)
+    record LegacyPushMessage(
             String userId,
             String eventName,
             String eventId,
@@ -26,12 +59,96 @@ public class RedisSsePubSub {
 
     public void publish(UUID userId, String eventName, String eventId, Object payload) {
         try {
-            String payloadJson = objectMapper.writeValueAsString(payload);
-            PushMessage msg = new PushMessage(userId.toString(), eventName, eventId, payloadJson);
-            redis.convertAndSend(CHANNEL, objectMapper.writeValueAsString(msg));
+            if (properties.isLegacyBroadcast()) {
+                publishLegacy(userId, eventName, eventId, objectMapper.writeValueAsString(payload));
+                return;
+            }
+
+            // ✅ 유저 연결을 가진 노드에만 전송 (연결이 없으면 replay 저장만으로 충분)
+            Set<String> nodes = connectionDirectory.nodesFor(userId);
+            if (nodes.isEmpty()) return;
+
+            byte[] body = envelopeCodec.encode(new SsePushEnvelope(
+                    List.of(userId),
+                    eventName,
+                    eventId,
+                    null,
+                    objectMapper.writeValueAsBytes(payload)
+            ));
+
+            for (String node : nodes) {
+                send(node, body);
+            }
+        } catch (Exception e) {
+            // 디렉토리 조회 / 인코딩 / 발행 실패 → live 전송 누락 (replay 저장분으로만 복구되므로 신호를 남김)
+            log.warn("SSE publish failed | userId={} event={} eventId={}", userId, eventName, eventId, e);
+            sseHealthTracker.onFailure(e);
+        }
+    }
+
+    public void publishMany(
+            Collection<UUID> userIds,
+            String eventName,
+            String eventId,
+            Map<UUID, String> eventIdsByUser,
+            Object payload
+    ) {
+        try {
+            boolean perUserIds = eventIdsByUser != null && !eventIdsByUser.isEmpty();
+
+            if (properties.isLegacyBroadcast()) {
+                String payloadJson = objectMapper.writeValueAsString(payload);
+                for (UUID userId : userIds) {
+                    publishLegacy(userId, eventName,
+                            perUserIds ? eventIdsByUser.getOrDefault(userId, eventId) : eventId, payloadJson);
+                }
+                return;
+            }
+
+            // ✅ 노드 → 해당 노드에 연결된 수신자 목록 (+ 수신자별 id)
+            Map<String, List<UUID>> recipientsByNode = new HashMap<>();
+            Map<String, List<String>> eventIdsByNode = new HashMap<>();
+            connectionDirectory.nodesForAll(userIds).forEach((userId, nodes) -> {
+                for (String node : nodes) {
+                    recipientsByNode.computeIfAbsent(node, k -> new ArrayList<>()).add(userId);
+                    if (perUserIds) {
+                        eventIdsByNode.computeIfAbsent(node, k -> new ArrayList<>())
+                                .add(eventIdsByUser.getOrDefault(userId, eventId));
+                    }
+                }
+            });
+            if (recipientsByNode.isEmpty()) return;
+
+            // ✅ payload 직렬화는 노드 수와 무관하게 한 번
+            byte[] payloadJson = objectMapper.writeValueAsBytes(payload);
+
+            for (Map.Entry<String, List<UUID>> entry : recipientsByNode.entrySet()) {
+                byte[] body = envelopeCodec.encode(new SsePushEnvelope(
+                        entry.getValue(),
+                        eventName,
+                        eventId,
+                        eventIdsByNode.get(entry.getKey()),
+                        payloadJson
+                ));
+                send(entry.getKey(), body);
+            }
         } catch (Exception e) {
-            // 개발 중엔 로그 찍어두는 게 좋아
-            // log.warn("Redis publish failed", e);
+            // 디렉토리 조회 / 인코딩 / 발행 실패 → 이번 fan-out 전체가 live 로 못 감
+            log.warn("SSE fan-out publish failed | recipients={} event={} eventId={}",
+                    userIds.size(), eventName, eventId, e);
+            sseHealthTracker.onFailure(e);
         }
     }
-}
\ No newline at end of file
+
+    // 구버전 노드는 단건 envelope 만 읽으므로 수신자마다 한 건
+    private void publishLegacy(UUID userId, String eventName, String eventId, String payloadJson) throws Exception {
+        byte[] channel = CHANNEL.getBytes(StandardCharsets.UTF_8);
+        byte[] body = objectMapper.writeValueAsBytes(new LegacyPushMessage(userId.toString(), eventName, eventId, payloadJson));
+        redis.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+    }
+
+    private void send(String node, byte[] body) {
+        byte[] channel = SseNodeId.channelOf(node).getBytes(StandardCharsets.UTF_8);
+        redis.execute((RedisCallback<Long>) connection -> connection.publish(channel, body));
+    }
+}
@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
@@ -24,12 +26,44 @@ public class RedisSsePushService implements SsePushPort {
         String formattedId = SseEventIds.format(eventName, eventId);
 
         try {
-            // ✅ 2) replay(Last-Event-ID)용 저장
-            eventStore.append(userId, eventName, formattedId, payload);
+            // ✅ 2) replay(Last-Event-ID)용 저장 (저장소가 replay 커서를 붙인 id를 돌려줌)
+            String sseId = eventStore.append(userId, eventName, formattedId, payload);
 
             // ✅ 3) 실시간 전송 (멀티 인스턴스 fan-out)
-            log.info("🟠 SSE publish | userId={} event={} eventId={}", userId, eventName, formattedId);
-            pubSub.publish(userId, eventName, formattedId, payload);
+            log.info("🟠 SSE publish | userId={} event={} eventId={}", userId, eventName, sseId);
+            pubSub.publish(userId, eventName, sseId, payload);
+        } catch (RuntimeException e) {
+            sseHealthTracker.onFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void pushMany(Collection<UUID> userIds, String eventName, Object payload, String eventId) {
+        if (userIds == null || userIds.isEmpty()) return;
+
+        String formattedId = SseEventIds.format(eventName, eventId);
+
+        try {
+            // ✅ 1) 수신자 전원의 replay 로그를 pipeline 한 번으로 저장
+            Map<UUID, String> sseIds = eventStore.appendMany(userIds, eventName, formattedId, payload);
+
+            // ✅ 2) 노드별로 수신자 목록을 묶어 envelope 1개씩만 발행
+            log.info("🟠 SSE publish many | recipients={} event={} eventId={}", userIds.size(), eventName, formattedId);
+            pubSub.publishMany(userIds, eventName, formattedId, sseIds, payload);
+        } catch (RuntimeException e) {
+            sseHealthTracker.onFailure(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void pushManyTransient(Collection<UUID> userIds, String eventName, Object payload) {
+        if (userIds == null || userIds.isEmpty()) return;
+
+        try {
+            // ✅ replay 저장 없이 실시간 전송만
+            pubSub.publishMany(userIds, eventName, null, Map.of(), payload);
         } catch (RuntimeException e) {
             sseHealthTracker.onFailure(e);
             throw e;
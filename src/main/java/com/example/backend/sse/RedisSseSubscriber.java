@@ -1,7 +1,6 @@
 package com.example.backend.sse;
 
 import com.example.backend.monitoring.support.SseHealthTracker;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,7 +11,7 @@ import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -22,9 +21,10 @@ import java.util.UUID;
 public class RedisSseSubscriber {
 
     private final RedisMessageListenerContainer container;
-    private final ObjectMapper objectMapper;
+    private final SseEnvelopeCodec envelopeCodec;
     private final SseEmitterRegistry registry;
     private final SseHealthTracker sseHealthTracker;
+    private final SseNodeId nodeId;
 
     @PostConstruct
     public void register() {
@@ -32,26 +32,38 @@ public class RedisSseSubscriber {
             @Override
             public void onMessage(Message message, byte[] pattern) {
                 try {
-                    String body = new String(message.getBody());
+                    byte[] body = message.getBody();
 
-                    RedisSsePubSub.PushMessage pm =
-                            objectMapper.readValue(body, RedisSsePubSub.PushMessage.class);
+                    // ✅ 바이너리 envelope 단일 패스 디코딩 (구버전 JSON 은 codec 이 fallback 처리)
+                    long startedAt = System.nanoTime();
+                    SsePushEnvelope envelope = envelopeCodec.decode(body);
+                    sseHealthTracker.onEnvelopeDecoded(body.length, System.nanoTime() - startedAt);
 
-                    UUID userId = UUID.fromString(pm.userId());
-                    Map<String, Object> payload =
-                            objectMapper.readValue(pm.payloadJson(), Map.class);
+                    // ✅ payload 는 파싱하지 않고 프레임 바이트로 한 번만 인코딩 → 수신자/탭 전원이 공유
+                    SseFrame frame = SseFrame.of(envelope.eventName(), envelope.payload());
+                    List<UUID> recipients = envelope.recipients();
 
-                    log.info("🔴 Redis pubsub received | userId={} event={} eventId={}",
-                            userId, pm.eventName(), pm.eventId());
+                    log.info("🔴 Redis pubsub received | recipients={} event={} eventId={}",
+                            recipients.size(), envelope.eventName(), envelope.eventId());
 
-                    registry.send(userId, pm.eventName(), payload, pm.eventId());
+                    var sharedFrame = frame.withId(envelope.eventId());
+                    for (int i = 0; i < recipients.size(); i++) {
+                        String recipientId = envelope.eventIds() != null ? envelope.eventIdFor(i) : envelope.eventId();
+                        var recipientFrame = envelope.eventIds() != null
+                                ? frame.withId(recipientId)
+                                : sharedFrame;
+                        registry.sendFrame(recipients.get(i), recipientId, recipientFrame);
+                    }
                 } catch (Exception e) {
                     sseHealthTracker.onFailure(e);
                     log.warn("Redis pubsub handle failed", e);
                 }
             }
-        }, new ChannelTopic(RedisSsePubSub.CHANNEL));
+        }, List.of(
+                new ChannelTopic(nodeId.channel()),
+                new ChannelTopic(RedisSsePubSub.CHANNEL) // 롤링 배포 중 구버전 노드 호환
+        ));
 
-        log.info("🔴 Redis pubsub listener registered | channel={}", RedisSsePubSub.CHANNEL);
+        log.info("🔴 Redis pubsub listener registered | channels={}, {}", nodeId.channel(), RedisSsePubSub.CHANNEL);
     }
 }
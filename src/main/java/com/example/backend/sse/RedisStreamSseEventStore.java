@@ -0,0 +1,201 @@
+package com.example.backend.sse;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.connection.stream.StringRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Streams 기반 replay 저장소 (기본값, app.sse.event-store=stream)
+ *
+ * - 키: sse:stream:{userId}
+ * - XADD MAXLEN ~ 200 으로 저장과 trim을 한 번에 처리
+ * - 클라이언트에 보내는 SSE id 뒤에 stream id를 붙여(SseEventIds.withCursor)
+ *   재연결 시 XRANGE (cursor + 로 누락분만 바로 읽는다. (리스트 전체 decode/선형 탐색 없음)
+ */
+@Profile("!test")
+@Component
+@ConditionalOnProperty(prefix = "app.sse", name = "event-store", havingValue = "stream", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisStreamSseEventStore implements SseEventStore {
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+
+    // 유저당 보관 이벤트 수 (근사 trim 이라 실제로는 약간 더 남을 수 있음)
+    private static final int MAX_EVENTS_PER_USER = 200;
+
+    private static final long TTL_SECONDS = TimeUnit.DAYS.toSeconds(3);
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_JSON = "json";
+
+    // 키: sse:stream:{userId}
+    private static String key(UUID userId) {
+        return "sse:stream:" + userId;
+    }
+
+    @Override
+    public String append(UUID userId, String eventName, String eventId, Object payload) {
+        Map<UUID, String> ids = appendMany(List.of(userId), eventName, eventId, payload);
+        return ids.getOrDefault(userId, eventId);
+    }
+
+    @Override
+    public Map<UUID, String> appendMany(Collection<UUID> userIds, String eventName, String eventId, Object payload) {
+        if (userIds == null || userIds.isEmpty()) return Map.of();
+        if (eventId == null || eventId.isBlank()) return Map.of();
+
+        // ✅ 수신자 수와 무관하게 직렬화는 한 번
+        String payloadJson;
+        try {
+            payloadJson = objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            return Map.of();
+        }
+
+        Map<String, String> fields = Map.of(
+                FIELD_ID, eventId,
+                FIELD_NAME, eventName,
+                FIELD_JSON, payloadJson
+        );
+        XAddOptions options = XAddOptions.maxlen(MAX_EVENTS_PER_USER).approximateTrimming(true);
+        List<UUID> ordered = new ArrayList<>(userIds);
+
+        // ✅ XADD(MAXLEN ~) + EXPIRE 를 수신자 전원분 pipeline 한 번으로
+        List<Object> results = redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (UUID userId : ordered) {
+                String k = key(userId);
+                StringRecord record = StreamRecords.string(fields).withStreamKey(k);
+                conn.xAdd(record, options);
+                conn.expire(k, TTL_SECONDS);
+            }
+            return null;
+        });
+
+        // 결과: [RecordId, Boolean, RecordId, Boolean, ...]
+        Map<UUID, String> sseIds = new HashMap<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            int idx = i * 2;
+            if (idx >= results.size()) break;
+
+            Object result = results.get(idx);
+            String cursor = (result instanceof RecordId recordId) ? recordId.getValue()
+                    : (result != null ? result.toString() : null);
+            sseIds.put(ordered.get(i), SseEventIds.withCursor(eventId, cursor));
+        }
+        return sseIds;
+    }
+
+    @Override
+    public List<SseStoredEvent> replayAfter(UUID userId, String lastEventId) {
+        return replay(userId, lastEventId).events();
+    }
+
+    @Override
+    public SseReplay replay(UUID userId, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return SseReplay.of(List.of());
+
+        String cursor = SseEventIds.cursorOf(lastEventId);
+        if (cursor == null) {
+            return replayAfterLegacyId(userId, lastEventId);
+        }
+
+        // ✅ XRANGE key [cursor + COUNT MAX+2 → 첫 레코드가 cursor 자신이면 누락 없이 이어짐
+        //    (cursor 가 trim/만료로 사라졌으면 첫 레코드가 더 뒤 id → gap)
+        //    근사 trim 이라 cursor 뒤로 MAX 개보다 많이 남아 있을 수 있음 → 한 개 더 읽어 넘치는지 확인
+        List<MapRecord<String, Object, Object>> records = redis.opsForStream().range(
+                key(userId),
+                Range.rightUnbounded(Range.Bound.inclusive(cursor)),
+                Limit.limit().count(MAX_EVENTS_PER_USER + 2)
+        );
+        if (records == null || records.isEmpty()) return SseReplay.gap(List.of());
+
+        if (!cursor.equals(records.get(0).getId().getValue())) {
+            return SseReplay.gap(toStoredEvents(records));
+        }
+
+        // cursor 뒤가 MAX 개를 넘으면 앞쪽 MAX 개만 보내고 gap (나머지는 클라이언트가 다시 불러옴)
+        if (records.size() > MAX_EVENTS_PER_USER + 1) {
+            return SseReplay.gap(toStoredEvents(records.subList(1, MAX_EVENTS_PER_USER + 1)));
+        }
+        return SseReplay.of(toStoredEvents(records.subList(1, records.size())));
+    }
+
+    /**
+     * 커서가 없는 id(배포 전 발급된 id 등)는 보관분을 역순으로 훑어 찾는다.
+     * - 보관 개수(MAX)로 상한이 있고, 전환 기간에만 타는 경로
+     */
+    private SseReplay replayAfterLegacyId(UUID userId, String lastEventId) {
+        List<MapRecord<String, Object, Object>> recent = redis.opsForStream().reverseRange(
+                key(userId),
+                Range.unbounded(),
+                Limit.limit().count(MAX_EVENTS_PER_USER)
+        );
+        if (recent == null || recent.isEmpty()) return SseReplay.gap(List.of());
+
+        List<MapRecord<String, Object, Object>> missed = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : recent) {
+            if (lastEventId.equals(String.valueOf(record.getValue().get(FIELD_ID)))) {
+                Collections.reverse(missed);
+                return SseReplay.of(toStoredEvents(missed));
+            }
+            missed.add(record);
+        }
+        Collections.reverse(missed);
+        return SseReplay.gap(toStoredEvents(missed));
+    }
+
+    private List<SseStoredEvent> toStoredEvents(List<MapRecord<String, Object, Object>> records) {
+        if (records == null || records.isEmpty()) return List.of();
+
+        List<SseStoredEvent> result = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            Object id = value.get(FIELD_ID);
+            Object name = value.get(FIELD_NAME);
+            Object json = value.get(FIELD_JSON);
+            if (id == null || name == null) continue; // skip broken row
+
+            result.add(new SseStoredEvent(
+                    SseEventIds.withCursor(id.toString(), record.getId().getValue()),
+                    name.toString(),
+                    json == null ? null : json.toString()
+            ));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> payloadToMap(String payloadJson) {
+        try {
+            if (payloadJson == null || payloadJson.isBlank()) return Map.of();
+            return objectMapper.readValue(payloadJson, new TypeReference<Map<String, Object>>() {});
+        } catch (Exception e) {
+            return Map.of("raw", payloadJson);
+        }
+    }
+}
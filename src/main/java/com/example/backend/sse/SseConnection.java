@@ -0,0 +1,173 @@
+package com.example.backend.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * SseEmitter 1개 + 전용 송신 큐
+ *
+ * - 호출 스레드(pub/sub listener 등)는 큐에 넣기만 하고, 실제 write는 송신 executor가 담당
+ * - 큐는 capacity 로 제한 (느린 클라이언트가 메모리를 무한히 잡지 않도록)
+ * - draining 플래그로 연결당 동시에 하나의 drain 작업만 돌도록 보장 (이벤트 순서 유지)
+ * - replay 중인 연결은 live 프레임을 따로 잡아 두고 replay 가 끝나면 큐로 (replay 보다 먼저 나가지 않도록)
+ */
+final class SseConnection {
+
+    private final UUID userId;
+    private final SseEmitter emitter;
+    private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger(0);
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final int heartbeatSlot;
+    private volatile long lastSentAtMillis;
+
+    // replay 가 끝날 때까지 잡아 둔 live 프레임 (this 로 동기화, null 이면 잡지 않음)
+    private List<Held> held;
+    private volatile boolean holding;
+    // 유저 상한으로 밀려나 evicted 프레임만 보내고 닫을 연결이면 닫을 기한(ms), 아니면 0
+    private volatile long evictDeadlineMillis;
+
+    record Held(String eventId, Set<ResponseBodyEmitter.DataWithMediaType> frame) {}
+
+    SseConnection(UUID userId, SseEmitter emitter, int heartbeatSlot, boolean holdLive) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.heartbeatSlot = heartbeatSlot;
+        this.lastSentAtMillis = System.currentTimeMillis();
+        if (holdLive) {
+            this.held = new ArrayList<>();
+            this.holding = true;
+        }
+    }
+
+    UUID userId() {
+        return userId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    int heartbeatSlot() {
+        return heartbeatSlot;
+    }
+
+    long lastSentAtMillis() {
+        return lastSentAtMillis;
+    }
+
+    void markSent() {
+        this.lastSentAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * @return capacity 초과로 넣지 못했으면 false
+     */
+    boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> frame, int capacity) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        queue.offer(frame);
+        return true;
+    }
+
+    /**
+     * replay 중이면 live 프레임을 잡아 둔다
+     *
+     * @return 잡아 둔 프레임 수, replay 중이 아니면 -1 (호출자가 바로 큐에 넣음)
+     */
+    int hold(String eventId, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (!holding) return -1;
+        synchronized (this) {
+            if (held == null) return -1;
+            held.add(new Held(eventId, frame));
+            return held.size();
+        }
+    }
+
+    /**
+     * 잡아 두기를 끝내고 잡아 둔 프레임을 (들어온 순서대로) 넘긴다
+     * - this 로 동기화된 상태에서 sink 를 부름 → 그 사이 들어온 live 프레임은 hold 에서 대기 후 sink 뒤에 큐로 들어감
+     * - holding 은 sink 가 끝난 뒤에 내림 (먼저 내리면 hold 의 fast path 가 잡아 둔 프레임보다 앞서 큐에 넣음)
+     */
+    synchronized void release(Consumer<List<Held>> sink) {
+        if (held == null) return;
+        List<Held> frames = held;
+        held = null;
+        try {
+            sink.accept(frames);
+        } finally {
+            holding = false;
+        }
+    }
+
+    boolean isHolding() {
+        return holding;
+    }
+
+    void markEvicting(long deadlineMillis) {
+        this.evictDeadlineMillis = deadlineMillis;
+    }
+
+    boolean isEvicting() {
+        return evictDeadlineMillis > 0;
+    }
+
+    long evictDeadlineMillis() {
+        return evictDeadlineMillis;
+    }
+
+    Set<ResponseBodyEmitter.DataWithMediaType> poll() {
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = queue.poll();
+        if (frame != null) {
+            size.decrementAndGet();
+        }
+        return frame;
+    }
+
+    /**
+     * 남은 프레임을 모두 버리고 버린 개수를 반환한다.
+     */
+    int clear() {
+        int cleared = 0;
+        while (poll() != null) {
+            cleared++;
+        }
+        return cleared;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    void endDrain() {
+        draining.set(false);
+    }
+
+    /**
+     * @return 이번 호출로 처음 닫혔으면 true
+     */
+    boolean close() {
+        return closed.compareAndSet(false, true);
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.backend.sse;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 유저 → (SSE 연결을 보유한) 노드 id 디렉토리
+ * push 시 전체 브로드캐스트 대신 연결을 가진 노드 채널로만 보내기 위해 사용한다.
+ */
+public interface SseConnectionDirectory {
+
+    /**
+     * 이 노드에서 해당 유저의 첫 연결이 생겼을 때 호출한다.
+     */
+    void onUserConnected(UUID userId);
+
+    /**
+     * 이 노드에서 해당 유저의 마지막 연결이 끊겼을 때 호출한다.
+     */
+    void onUserDisconnected(UUID userId);
+
+    /**
+     * 이 노드가 연결을 보유한 유저 목록으로 디렉토리 항목을 갱신한다. (heartbeat)
+     */
+    void refresh(Collection<UUID> userIds);
+
+    /**
+     * 유저의 연결을 보유한 (살아있는) 노드 id 목록
+     */
+    Set<String> nodesFor(UUID userId);
+
+    /**
+     * 여러 유저의 노드 목록을 한 번에 조회한다. (연결이 없는 유저는 결과에서 제외)
+     */
+    Map<UUID, Set<String>> nodesForAll(Collection<UUID> userIds);
+}
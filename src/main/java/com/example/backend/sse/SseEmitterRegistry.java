@@ -1,45 +1,129 @@
 package com.example.backend.sse;
 
+import com.example.backend.config.SseProperties;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ErrorCode;
 import com.example.backend.monitoring.support.SseHealthTracker;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Component
 public class SseEmitterRegistry {
 
-    private final Map<UUID, List<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    // drain 1회당 최대 전송 프레임 수 (한 연결이 송신 스레드를 오래 독점하지 않도록)
+    private static final int DRAIN_BATCH = 32;
+    // 밀려난 연결이 evicted 프레임을 다 보내지 못해도 닫는 기한 (느리거나 죽은 클라이언트)
+    private static final long EVICT_DRAIN_TIMEOUT_MS = 5_000;
+    // 유저 상한으로 밀려난 연결에 보내는 마지막 이벤트 (id 없음 → Last-Event-ID 유지)
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> EVICTED_FRAME =
+            SseFrame.of("evicted", "{\"reason\":\"too-many-connections\"}").withoutId();
+
+    // 유저별 연결 (등록 순서 유지 → 상한 초과 시 가장 오래된 연결부터 정리)
+    private final Map<UUID, ConcurrentLinkedDeque<SseConnection>> connectionsByUser = new ConcurrentHashMap<>();
+    // emitter → 연결 (replay 처럼 특정 탭 하나에만 보내야 하는 경우)
+    private final Map<SseEmitter, SseConnection> connectionsByEmitter = new ConcurrentHashMap<>();
+    // 이 노드의 전체 연결 수 (노드 상한 admission 용)
+    private final AtomicInteger nodeConnections = new AtomicInteger(0);
+    // heartbeat timing wheel: 연결을 slot 에 분산시켜 tick 마다 한 slot 만 ping
+    private final List<Set<SseConnection>> heartbeatWheel;
+    private final AtomicLong heartbeatTicks = new AtomicLong(0);
+    // evicted 프레임을 보내는 중인 연결 (큐가 비면 drain 이 닫고, 기한이 지나면 heartbeat tick 이 닫음)
+    private final Set<SseConnection> evicting = ConcurrentHashMap.newKeySet();
     private final SseHealthTracker sseHealthTracker;
+    private final SseConnectionDirectory connectionDirectory;
+    private final SseProperties properties;
+    private final ExecutorService sendExecutor;
 
-    public SseEmitterRegistry(SseHealthTracker sseHealthTracker) {
+    public SseEmitterRegistry(
+            SseHealthTracker sseHealthTracker,
+            SseConnectionDirectory connectionDirectory,
+            SseProperties properties
+    ) {
         this.sseHealthTracker = sseHealthTracker;
+        this.connectionDirectory = connectionDirectory;
+        this.properties = properties;
+        this.sendExecutor = Executors.newFixedThreadPool(Math.max(1, properties.getSendThreads()), namedThreads());
+
+        int slots = heartbeatSlots(properties);
+        List<Set<SseConnection>> wheel = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+        this.heartbeatWheel = List.copyOf(wheel);
     }
 
+    /**
+     * 연결 등록
+     * - 노드 상한(max-connections-per-node) 초과 시 새 연결 거절 (기존 연결은 유지)
+     * - 유저 상한(max-connections-per-user) 초과 시 가장 오래된 연결을 끊고 새 연결을 받음
+     */
     public SseEmitter register(UUID userId, long timeoutMillis) {
+        return register(userId, timeoutMillis, false);
+    }
+
+    /**
+     * 연결 등록 (holdLive: replay 가 끝날 때까지 live 프레임을 잡아 둠 → releaseLive 로 풀어줌)
+     */
+    public SseEmitter register(UUID userId, long timeoutMillis, boolean holdLive) {
+        // ✅ 유저 상한에 걸려 있으면 오래된 연결이 빠질 자리이므로 노드 상한 검사 대상이 아님
+        boolean replacing = userConnectionCount(userId) >= maxConnectionsPerUser();
+        if (!admit(replacing)) {
+            sseHealthTracker.onConnectionRejected();
+            log.warn("SSE connection rejected, node limit reached | userId={} nodeConnections={}",
+                    userId, nodeConnections.get());
+            throw new BusinessException(ErrorCode.SSE_CONNECTION_LIMIT);
+        }
+
         SseEmitter emitter = new SseEmitter(timeoutMillis);
+        // ✅ slot 을 랜덤 배정 (동시에 붙은 연결들도 서로 다른 시점에 ping → 쓰기 버스트 분산)
+        int slot = ThreadLocalRandom.current().nextInt(heartbeatWheel.size());
+        SseConnection connection = new SseConnection(userId, emitter, slot, holdLive);
+        heartbeatWheel.get(slot).add(connection);
+        connectionsByEmitter.put(emitter, connection);
 
-        emittersByUser.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+        // ✅ compute 로 원자적으로 추가 (배열 복사 없음, remove 의 빈 deque 정리와 경합하지 않음)
+        boolean[] firstConnection = {false};
+        connectionsByUser.compute(userId, (k, connections) -> {
+            if (connections == null) {
+                connections = new ConcurrentLinkedDeque<>();
+                firstConnection[0] = true;
+            }
+            connections.addLast(connection);
+            return connections;
+        });
         sseHealthTracker.onConnected();
 
-        emitter.onCompletion(() -> remove(userId, emitter));
-        emitter.onTimeout(() -> {
-            remove(userId, emitter);
-            try { emitter.complete(); } catch (Exception ignore) {}
-        });
-        emitter.onError(e -> {
-            remove(userId, emitter);
-            try { emitter.complete(); } catch (Exception ignore) {}
-        });
+        // ✅ 이 노드의 첫 연결이면 디렉토리에 등록 → 이후 push가 이 노드 채널로 라우팅됨
+        if (firstConnection[0]) {
+            connectionDirectory.onUserConnected(userId);
+        }
+
+        emitter.onCompletion(() -> close(connection));
+        emitter.onTimeout(() -> close(connection));
+        emitter.onError(e -> close(connection));
 
-        log.info("🟢 SSE registered | userId={} connections={}", userId,
-                emittersByUser.getOrDefault(userId, List.of()).size());
+        evictOverflow(userId);
+
+        log.debug("SSE registered | userId={} nodeConnections={}", userId, nodeConnections.get());
 
         return emitter;
     }
@@ -48,53 +132,358 @@ public class SseEmitterRegistry {
         send(userId, eventName, data, null);
     }
 
+    /**
+     * 유저의 모든 연결 큐에 이벤트를 넣는다. (실제 write는 송신 executor에서 비동기로)
+     * - 이벤트 프레임은 한 번만 만들어 같은 유저의 여러 탭이 공유
+     */
     public void send(UUID userId, String eventName, Object data, String eventId) {
-        List<SseEmitter> emitters = emittersByUser.getOrDefault(userId, List.of());
-        if (emitters.isEmpty()) return;
+        ConcurrentLinkedDeque<SseConnection> connections = connectionsByUser.get(userId);
+        if (connections == null) return;
+
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(eventName);
+        if (eventId != null && !eventId.isBlank()) {
+            event.id(eventId);
+        }
+        event.data(data);
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = event.build();
+
+        for (SseConnection connection : connections) {
+            enqueueLive(connection, eventId, frame);
+        }
+    }
+
+    /**
+     * 미리 인코딩된 프레임(SseFrame)을 그대로 큐에 넣는다. (직렬화 없이 같은 바이트를 공유)
+     * - eventId 는 프레임에 붙은 id (replay 와 겹치는 live 프레임을 거르는 데 사용)
+     */
+    public void sendFrame(UUID userId, String eventId, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        ConcurrentLinkedDeque<SseConnection> connections = connectionsByUser.get(userId);
+        if (connections == null) return;
+
+        for (SseConnection connection : connections) {
+            enqueueLive(connection, eventId, frame);
+        }
+    }
+
+    /**
+     * replay 가 끝난 연결의 잡아 둔 live 프레임을 큐로 넘긴다
+     * - replay 로 이미 보낸 id(replayedIds)는 버림 (replay 조회 전후로 저장과 live 전송이 겹친 이벤트)
+     * - 이후 live 프레임은 바로 큐로
+     */
+    public void releaseLive(SseEmitter emitter, Set<String> replayedIds) {
+        SseConnection connection = connectionsByEmitter.get(emitter);
+        if (connection == null) return;
+
+        connection.release(frames -> {
+            for (SseConnection.Held h : frames) {
+                if (h.eventId() != null && replayedIds.contains(h.eventId())) continue;
+                enqueue(connection, h.frame());
+            }
+        });
+    }
+
+    /**
+     * 특정 연결(emitter) 하나에만 프레임을 넣는다. (replay 는 재연결한 탭에만 보냄)
+     *
+     * @return 연결이 이미 닫혔으면 false
+     */
+    public boolean sendFrameTo(SseEmitter emitter, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        SseConnection connection = connectionsByEmitter.get(emitter);
+        if (connection == null || connection.isClosed()) return false;
+
+        enqueue(connection, frame);
+        return !connection.isClosed();
+    }
+
+    /**
+     * 특정 연결 하나에만 이벤트를 넣는다. (live 잡아 두기와 무관하게 바로 큐로 → 연결 확인 이벤트용)
+     */
+    public boolean sendTo(SseEmitter emitter, String eventName, Object data) {
+        return sendFrameTo(emitter, SseEmitter.event().name(eventName).data(data).build());
+    }
+
+    /**
+     * 연결의 송신 대기 프레임 수, 닫힌 연결이면 -1
+     */
+    public int pendingFrames(SseEmitter emitter) {
+        SseConnection connection = connectionsByEmitter.get(emitter);
+        if (connection == null || connection.isClosed()) return -1;
+        return connection.size();
+    }
+
+    /**
+     * 이 노드에 연결이 살아있는 유저 id 목록 (디렉토리 heartbeat 용)
+     */
+    public Set<UUID> connectedUserIds() {
+        return Set.copyOf(connectionsByUser.keySet());
+    }
+
+    /**
+     * heartbeat timing wheel 한 칸 진행
+     * - 이번 slot 연결에만 ping (전체 연결은 heartbeat-interval-ms 동안 한 바퀴)
+     * - ping 프레임은 tick 당 한 번만 만들어 공유
+     * - interval 안에 실제 이벤트가 나간 연결, 송신 대기 중인 연결은 건너뜀
+     */
+    public void heartbeatTick() {
+        closeExpiredEvictions();
+
+        Set<SseConnection> slot = heartbeatWheel.get((int) (heartbeatTicks.getAndIncrement() % heartbeatWheel.size()));
+        if (slot.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        long idleThreshold = now - properties.getHeartbeatIntervalMs();
+        Set<ResponseBodyEmitter.DataWithMediaType> pingFrame = null;
+
+        for (SseConnection connection : slot) {
+            // replay 중인 연결은 곧 replay 프레임이 나가므로 ping 불필요
+            if (connection.lastSentAtMillis() > idleThreshold || connection.size() > 0 || connection.isHolding()) continue;
+
+            if (pingFrame == null) {
+                // id 없이 보냄 → 브라우저의 Last-Event-ID 가 ping 으로 덮이지 않음
+                pingFrame = SseFrame.of("ping", "{\"ts\":" + now + "}").withoutId();
+            }
+            enqueue(connection, pingFrame);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    /**
+     * live 프레임 전송: replay 중인 연결이면 잡아 두고, 아니면 바로 큐로
+     * - 잡아 둔 프레임이 송신 큐 용량을 넘으면 연결을 끊음 → 클라이언트가 Last-Event-ID 로 재연결해 replay 로 복구
+     */
+    private void enqueueLive(SseConnection connection, String eventId, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (connection.isClosed()) return;
+
+        int held = connection.hold(eventId, frame);
+        if (held < 0) {
+            enqueue(connection, frame);
+            return;
+        }
+        if (held > properties.getSendQueueCapacity()) {
+            log.warn("SSE live frames overflowed during replay, disconnecting | userId={} held={}",
+                    connection.userId(), held);
+            sseHealthTracker.onOverflowDisconnected();
+            close(connection);
+        }
+    }
 
-        for (SseEmitter emitter : emitters) {
-            try {
-                SseEmitter.SseEventBuilder event = SseEmitter.event().name(eventName);
+    private void enqueue(SseConnection connection, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (connection.isClosed()) return;
 
-                if (eventId != null && !eventId.isBlank()) {
-                    event.id(eventId);
+        if (!connection.offer(frame, properties.getSendQueueCapacity()) && !handleOverflow(connection, frame)) {
+            return;
+        }
+
+        sseHealthTracker.onQueued();
+
+        // offer 직후 다른 스레드에서 닫혔으면 방금 넣은 프레임까지 정리
+        if (connection.isClosed()) {
+            int cleared = connection.clear();
+            if (cleared > 0) {
+                sseHealthTracker.onDequeued(cleared);
+            }
+            return;
+        }
+
+        scheduleDrain(connection);
+    }
+
+    /**
+     * 큐가 가득 찬 연결 처리
+     *
+     * @return frame 을 큐에 넣었으면 true
+     */
+    private boolean handleOverflow(SseConnection connection, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        switch (properties.getOverflowPolicy()) {
+            case DROP_NEWEST -> {
+                sseHealthTracker.onDropped(1);
+                return false;
+            }
+            case DROP_OLDEST -> {
+                if (connection.poll() != null) {
+                    sseHealthTracker.onDequeued(1);
+                    sseHealthTracker.onDropped(1);
+                }
+                if (connection.offer(frame, properties.getSendQueueCapacity())) {
+                    return true;
                 }
+                sseHealthTracker.onDropped(1);
+                return false;
+            }
+            default -> {
+                // DISCONNECT: 끊으면 클라이언트가 Last-Event-ID 로 재연결 → 누락분은 replay 로 복구
+                log.warn("SSE send queue overflow, disconnecting | userId={} queued={}",
+                        connection.userId(), connection.size());
+                sseHealthTracker.onOverflowDisconnected();
+                sseHealthTracker.onDropped(1);
+                close(connection);
+                return false;
+            }
+        }
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        if (!connection.tryStartDrain()) return;
 
-                event.data(data);
-                emitter.send(event);
-                sseHealthTracker.onEventSent();
+        try {
+            sendExecutor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.endDrain();
+        }
+    }
 
-            } catch (Exception ex) {
-                sseHealthTracker.onFailure(ex);
-                remove(userId, emitter);
-                try { emitter.complete(); } catch (Exception ignore) {}
+    private void drain(SseConnection connection) {
+        try {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                Set<ResponseBodyEmitter.DataWithMediaType> frame = connection.poll();
+                if (frame == null) break;
+
+                sseHealthTracker.onDequeued(1);
+                if (connection.isClosed()) continue;
+
+                try {
+                    connection.emitter().send(frame);
+                    connection.markSent();
+                    sseHealthTracker.onEventSent();
+                } catch (Exception ex) {
+                    sseHealthTracker.onFailure(ex);
+                    close(connection);
+                }
             }
+        } finally {
+            connection.endDrain();
+        }
+
+        // 남은 프레임(배치 초과분 / drain 종료 직전에 들어온 것)이 있으면 다시 예약
+        if (connection.size() > 0 && !connection.isClosed()) {
+            scheduleDrain(connection);
+            return;
+        }
+
+        // 밀려난 연결은 evicted 프레임까지 다 보냈으면 닫음
+        if (connection.isEvicting() && connection.size() == 0) {
+            close(connection);
         }
     }
 
-    public void broadcastPing() {
-        String id = String.valueOf(System.currentTimeMillis());
-        Map<String, Object> payload = Map.of("ts", System.currentTimeMillis());
+    private void close(SseConnection connection) {
+        if (!connection.close()) return;
 
-        for (UUID userId : emittersByUser.keySet()) {
-            send(userId, "ping", payload, id);
+        evicting.remove(connection);
+        connection.release(frames -> {}); // 잡아 둔 live 프레임도 버림
+        int cleared = connection.clear();
+        if (cleared > 0) {
+            sseHealthTracker.onDequeued(cleared);
         }
+
+        remove(connection);
+        try { connection.emitter().complete(); } catch (Exception ignore) {}
     }
 
-    private void remove(UUID userId, SseEmitter emitter) {
-        List<SseEmitter> emitters = emittersByUser.get(userId);
-        if (emitters == null) return;
+    private void remove(SseConnection connection) {
+        heartbeatWheel.get(connection.heartbeatSlot()).remove(connection);
+        connectionsByEmitter.remove(connection.emitter(), connection);
 
-        boolean removed = emitters.remove(emitter);
-        if (removed) {
+        UUID userId = connection.userId();
+        boolean[] removed = {false};
+        boolean[] lastConnection = {false};
+        connectionsByUser.computeIfPresent(userId, (k, connections) -> {
+            removed[0] = connections.remove(connection);
+            if (connections.isEmpty()) {
+                lastConnection[0] = true;
+                return null;
+            }
+            return connections;
+        });
+
+        if (removed[0]) {
+            nodeConnections.decrementAndGet();
             sseHealthTracker.onDisconnected();
         }
 
-        if (emitters.isEmpty()) {
-            emittersByUser.remove(userId);
+        if (lastConnection[0]) {
+            connectionDirectory.onUserDisconnected(userId);
         }
 
-        log.info("🔴 SSE removed | userId={} remaining={}", userId,
-                emittersByUser.getOrDefault(userId, List.of()).size());
+        log.debug("SSE removed | userId={} nodeConnections={}", userId, nodeConnections.get());
+    }
+
+    /**
+     * 노드 상한 admission
+     * - replacing 이면 곧 오래된 연결이 빠지므로 상한과 무관하게 통과 (일시적으로 +1)
+     */
+    private boolean admit(boolean replacing) {
+        int limit = properties.getMaxConnectionsPerNode();
+        while (true) {
+            int current = nodeConnections.get();
+            if (!replacing && limit > 0 && current >= limit) {
+                return false;
+            }
+            if (nodeConnections.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 유저 상한을 넘은 만큼 가장 오래된 연결부터 끊는다.
+     * - 끊기 전에 evicted 이벤트를 보내 클라이언트가 자동 재연결 루프에 빠지지 않게 함
+     * - evicted 프레임은 연결 송신 큐로 (등록 요청 스레드에서 직접 write 하지 않음 → 느린 클라이언트가 subscribe 를 막지 않음)
+     * - 유저 연결 목록에서는 바로 빼고(이후 live 프레임 없음), 큐가 비면 drain 이 닫고 기한이 지나면 heartbeat tick 이 닫음
+     */
+    private void evictOverflow(UUID userId) {
+        ConcurrentLinkedDeque<SseConnection> connections = connectionsByUser.get(userId);
+        if (connections == null) return;
+
+        int limit = maxConnectionsPerUser();
+        while (connections.size() > limit) {
+            SseConnection oldest = connections.peekFirst();
+            if (oldest == null) return;
+
+            sseHealthTracker.onConnectionEvicted();
+            log.debug("SSE connection evicted, user limit reached | userId={} limit={}", userId, limit);
+
+            oldest.markEvicting(System.currentTimeMillis() + EVICT_DRAIN_TIMEOUT_MS);
+            evicting.add(oldest);
+            remove(oldest);
+            enqueue(oldest, EVICTED_FRAME);
+        }
+    }
+
+    private void closeExpiredEvictions() {
+        if (evicting.isEmpty()) return;
+
+        long now = System.currentTimeMillis();
+        for (SseConnection connection : evicting) {
+            if (connection.evictDeadlineMillis() <= now) close(connection);
+        }
+    }
+
+    private int userConnectionCount(UUID userId) {
+        ConcurrentLinkedDeque<SseConnection> connections = connectionsByUser.get(userId);
+        return connections == null ? 0 : connections.size();
+    }
+
+    private int maxConnectionsPerUser() {
+        int limit = properties.getMaxConnectionsPerUser();
+        return limit > 0 ? limit : Integer.MAX_VALUE;
+    }
+
+    private static int heartbeatSlots(SseProperties properties) {
+        long tick = Math.max(1, properties.getHeartbeatTickMs());
+        return (int) Math.max(1, properties.getHeartbeatIntervalMs() / tick);
+    }
+
+    private static ThreadFactory namedThreads() {
+        AtomicInteger seq = new AtomicInteger(0);
+        return r -> {
+            Thread t = new Thread(r, "sse-send-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
     }
 }
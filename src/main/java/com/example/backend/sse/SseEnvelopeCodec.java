@@ -0,0 +1,220 @@
+package com.example.backend.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 노드 간 SSE pub/sub envelope 바이너리 코덱
+ *
+ * v1 레이아웃 (big-endian)
+ * <pre>
+ * byte    version (= 1)
+ * byte    flags   (bit0: 수신자별 eventId 포함)
+ * byte    eventCode (0 이면 뒤에 short len + UTF-8 이벤트명)
+ * short   eventId 길이 (-1 = null) + UTF-8
+ * int     수신자 수, 이후 수신자당 16바이트 UUID
+ * [flag]  수신자당 short len + UTF-8 eventId
+ * int     payload 길이 + payload(UTF-8 json)
+ * </pre>
+ *
+ * - 첫 바이트가 '{' 면 구버전 JSON(PushMessage)으로 보고 fallback 디코딩 (롤링 배포 호환)
+ * - EVENT_CODES 는 append-only (순서를 바꾸면 배포 중인 노드끼리 이벤트명이 어긋남)
+ */
+@Component
+@RequiredArgsConstructor
+public class SseEnvelopeCodec {
+
+    static final byte VERSION_1 = 1;
+    private static final byte FLAG_PER_RECIPIENT_IDS = 0x01;
+
+    private static final List<String> EVENT_CODES = List.of(
+            "message-created",
+            "message-deleted",
+            "message-updated",
+            "notification-created",
+            "pin-created",
+            "pin-updated",
+            "playback-session-created",
+            "playback-session-updated",
+            "playback-session-ended",
+            "playback-session-presence",
+            "conversation-read"
+    );
+    private static final Map<String, Byte> CODE_BY_EVENT = new HashMap<>();
+
+    static {
+        for (int i = 0; i < EVENT_CODES.size(); i++) {
+            CODE_BY_EVENT.put(EVENT_CODES.get(i), (byte) (i + 1));
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(SsePushEnvelope envelope) {
+        byte[] eventNameBytes = null;
+        Byte code = CODE_BY_EVENT.get(envelope.eventName());
+        if (code == null) {
+            eventNameBytes = utf8(envelope.eventName());
+        }
+        byte[] eventIdBytes = envelope.eventId() == null ? null : utf8(envelope.eventId());
+        List<byte[]> perRecipientIds = null;
+        if (envelope.eventIds() != null) {
+            perRecipientIds = new ArrayList<>(envelope.eventIds().size());
+            for (String id : envelope.eventIds()) {
+                perRecipientIds.add(utf8(id == null ? "" : id));
+            }
+        }
+        byte[] payload = envelope.payload() == null ? new byte[0] : envelope.payload();
+
+        int size = 3
+                + (eventNameBytes == null ? 0 : 2 + eventNameBytes.length)
+                + 2 + (eventIdBytes == null ? 0 : eventIdBytes.length)
+                + 4 + envelope.recipients().size() * 16
+                + 4 + payload.length;
+        if (perRecipientIds != null) {
+            for (byte[] id : perRecipientIds) {
+                size += 2 + id.length;
+            }
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size);
+        buf.put(VERSION_1);
+        buf.put(perRecipientIds == null ? 0 : FLAG_PER_RECIPIENT_IDS);
+        if (code != null) {
+            buf.put(code);
+        } else {
+            buf.put((byte) 0);
+            putShortString(buf, eventNameBytes);
+        }
+        putShortString(buf, eventIdBytes);
+
+        buf.putInt(envelope.recipients().size());
+        for (UUID recipient : envelope.recipients()) {
+            buf.putLong(recipient.getMostSignificantBits());
+            buf.putLong(recipient.getLeastSignificantBits());
+        }
+        if (perRecipientIds != null) {
+            for (byte[] id : perRecipientIds) {
+                putShortString(buf, id);
+            }
+        }
+
+        buf.putInt(payload.length);
+        buf.put(payload);
+        return buf.array();
+    }
+
+    public SsePushEnvelope decode(byte[] body) throws IOException {
+        if (body == null || body.length == 0) {
+            throw new IOException("empty SSE envelope");
+        }
+        if (body[0] == '{') {
+            return decodeLegacyJson(body);
+        }
+        if (body[0] != VERSION_1) {
+            throw new IOException("unsupported SSE envelope version: " + body[0]);
+        }
+
+        try {
+            ByteBuffer buf = ByteBuffer.wrap(body);
+            buf.get(); // version
+            byte flags = buf.get();
+
+            int code = buf.get() & 0xFF;
+            String eventName;
+            if (code == 0) {
+                eventName = getShortString(buf);
+            } else if (code <= EVENT_CODES.size()) {
+                eventName = EVENT_CODES.get(code - 1);
+            } else {
+                throw new IOException("unknown SSE event code: " + code);
+            }
+            String eventId = getShortString(buf);
+
+            int count = buf.getInt();
+            if (count < 0 || count > buf.remaining() / 16) {
+                throw new IOException("invalid SSE recipient count: " + count);
+            }
+            List<UUID> recipients = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                recipients.add(new UUID(buf.getLong(), buf.getLong()));
+            }
+
+            List<String> eventIds = null;
+            if ((flags & FLAG_PER_RECIPIENT_IDS) != 0) {
+                eventIds = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    eventIds.add(getShortString(buf));
+                }
+            }
+
+            int payloadLength = buf.getInt();
+            if (payloadLength < 0 || payloadLength > buf.remaining()) {
+                throw new IOException("invalid SSE payload length: " + payloadLength);
+            }
+            byte[] payload = new byte[payloadLength];
+            buf.get(payload);
+
+            return new SsePushEnvelope(recipients, eventName, eventId, eventIds, payload);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("truncated SSE envelope", e);
+        }
+    }
+
+    /**
+     * 구버전 노드가 sse:push 채널로 보내는 JSON envelope
+     */
+    private SsePushEnvelope decodeLegacyJson(byte[] body) throws IOException {
+        RedisSsePubSub.PushMessage pm = objectMapper.readValue(body, RedisSsePubSub.PushMessage.class);
+
+        List<String> rawRecipients = (pm.userIds() != null && !pm.userIds().isEmpty())
+                ? pm.userIds()
+                : List.of(pm.userId());
+        List<UUID> recipients = new ArrayList<>(rawRecipients.size());
+        for (String raw : rawRecipients) {
+            recipients.add(UUID.fromString(raw));
+        }
+
+        byte[] payload = pm.payloadJson() == null ? new byte[0] : pm.payloadJson().getBytes(StandardCharsets.UTF_8);
+        return new SsePushEnvelope(recipients, pm.eventName(), pm.eventId(), pm.eventIds(), payload);
+    }
+
+    private static void putShortString(ByteBuffer buf, byte[] bytes) {
+        if (bytes == null) {
+            buf.putShort((short) -1);
+            return;
+        }
+        buf.putShort((short) bytes.length);
+        buf.put(bytes);
+    }
+
+    private static String getShortString(ByteBuffer buf) {
+        short length = buf.getShort();
+        if (length < 0) return null;
+        if (length > buf.remaining()) throw new BufferUnderflowException();
+
+        String value = new String(buf.array(), buf.arrayOffset() + buf.position(), length, StandardCharsets.UTF_8);
+        buf.position(buf.position() + length);
+        return value;
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            // 이벤트명/id 는 짧은 문자열만 허용 (payload 는 int 길이)
+            throw new IllegalArgumentException("SSE envelope string too long: " + bytes.length);
+        }
+        return bytes;
+    }
+}
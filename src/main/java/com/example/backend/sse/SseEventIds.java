@@ -10,9 +10,14 @@ package com.example.backend.sse;
  * - id만 봐도 어떤 이벤트인지 즉시 알 수 있음
  * - 서로 다른 이벤트 타입 간 id 충돌/혼동 방지
  * - Last-Event-ID가 "진짜 스트림 커서"처럼 명확해짐
+ *
+ * Streams 저장소를 쓰면 replay 커서(Redis stream id)가 뒤에 붙는다.
+ * - 예: msg:{uuid}@1718000000000-0
  */
 public final class SseEventIds {
 
+    private static final char CURSOR_SEPARATOR = '@';
+
     private SseEventIds() {}
 
     public static String format(String eventName, String rawId) {
@@ -25,4 +30,32 @@ public final class SseEventIds {
             default -> rawId; // 다른 이벤트는 그대로
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * SSE id 뒤에 replay 커서(stream id)를 붙인다.
+     */
+    public static String withCursor(String sseId, String cursor) {
+        if (sseId == null || cursor == null || cursor.isBlank()) return sseId;
+        return sseId + CURSOR_SEPARATOR + cursor;
+    }
+
+    /**
+     * Last-Event-ID에서 replay 커서(stream id)를 꺼낸다. 없거나 형식이 아니면 null.
+     */
+    public static String cursorOf(String sseId) {
+        if (sseId == null) return null;
+
+        int idx = sseId.lastIndexOf(CURSOR_SEPARATOR);
+        if (idx < 0 || idx == sseId.length() - 1) return null;
+
+        String cursor = sseId.substring(idx + 1);
+        int dash = cursor.indexOf('-');
+        if (dash <= 0 || dash == cursor.length() - 1) return null;
+
+        for (int i = 0; i < cursor.length(); i++) {
+            char c = cursor.charAt(i);
+            if (i != dash && (c < '0' || c > '9')) return null;
+        }
+        return cursor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.backend.sse;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -9,8 +10,18 @@ public interface SseEventStore {
     /**
      * Last-Event-ID 재전송(replay)을 위해 유저별 이벤트를 저장한다.
      * eventId는 SSE의 id 값(= prefix 적용된 값)으로 저장하는 것을 권장.
+     *
+     * @return 클라이언트에 실제로 보낼 SSE id (저장소가 replay 커서를 붙일 수 있음)
      */
-    void append(UUID userId, String eventName, String eventId, Object payload);
+    String append(UUID userId, String eventName, String eventId, Object payload);
+
+    /**
+     * 같은 이벤트를 여러 유저의 replay 로그에 한 번에 저장한다.
+     * payload는 한 번만 직렬화하고, 저장은 가능한 한 번의 배치로 처리한다.
+     *
+     * @return 유저별 SSE id. 수신자마다 id가 달라지는 저장소만 채우며, 비어 있으면 eventId를 그대로 쓴다.
+     */
+    Map<UUID, String> appendMany(Collection<UUID> userIds, String eventName, String eventId, Object payload);
 
     /**
      * lastEventId 이후의 이벤트들을 반환한다.
@@ -18,6 +29,14 @@ public interface SseEventStore {
      */
     List<SseStoredEvent> replayAfter(UUID userId, String lastEventId);
 
+    /**
+     * replayAfter 와 같지만, lastEventId 가 보관분에서 잘려 누락 구간이 있는지(gap)도 함께 알려준다.
+     * gap 이면 클라이언트는 replay 대신 전체 상태를 다시 받아야 한다. (resync-required)
+     */
+    default SseReplay replay(UUID userId, String lastEventId) {
+        return SseReplay.of(replayAfter(userId, lastEventId));
+    }
+
     /**
      * 저장된 JSON payload를 Map으로 변환한다.
      */
@@ -0,0 +1,98 @@
+package com.example.backend.sse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 미리 인코딩된 SSE 프레임 (event/data 라인을 UTF-8 바이트로 한 번만 만든다)
+ *
+ * - 여러 수신자/탭에 같은 바이트를 그대로 write → 수신자마다 Map 파싱 + Jackson 재직렬화 없음
+ * - 수신자별로 달라지는 id 라인만 따로 붙인다 (withId)
+ * - byte[] 는 ByteArrayHttpMessageConverter 가 변환 없이 그대로 쓴다
+ */
+public final class SseFrame {
+
+    private final byte[] body;
+    private final Set<DataWithMediaType> withoutId;
+
+    private SseFrame(byte[] body) {
+        this.body = body;
+        this.withoutId = Set.of(new DataWithMediaType(body, MediaType.TEXT_PLAIN));
+    }
+
+    /**
+     * @param dataJson 이미 직렬화된 payload (pub/sub envelope, replay 저장소의 json 그대로)
+     */
+    public static SseFrame of(String eventName, String dataJson) {
+        StringBuilder sb = new StringBuilder(32 + (dataJson == null ? 0 : dataJson.length()));
+        if (eventName != null && !eventName.isBlank()) {
+            sb.append("event:").append(eventName).append('\n');
+        }
+        appendData(sb, dataJson == null ? "" : dataJson);
+        sb.append('\n');
+        return new SseFrame(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param dataJsonUtf8 이미 UTF-8 로 인코딩된 payload (바이너리 envelope 의 payload 그대로)
+     */
+    public static SseFrame of(String eventName, byte[] dataJsonUtf8) {
+        byte[] data = dataJsonUtf8 == null ? new byte[0] : dataJsonUtf8;
+        for (byte b : data) {
+            if (b == '\n' || b == '\r') {
+                // 줄바꿈이 있으면 data: 라인 분리가 필요하므로 문자열 경로로
+                return of(eventName, new String(data, StandardCharsets.UTF_8));
+            }
+        }
+
+        // ✅ 문자열로 되돌리지 않고 바이트를 그대로 이어 붙임
+        byte[] prefix = ((eventName != null && !eventName.isBlank() ? "event:" + eventName + "\n" : "") + "data:")
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] body = new byte[prefix.length + data.length + 2];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(data, 0, body, prefix.length, data.length);
+        body[body.length - 2] = '\n';
+        body[body.length - 1] = '\n';
+        return new SseFrame(body);
+    }
+
+    public Set<DataWithMediaType> withoutId() {
+        return withoutId;
+    }
+
+    public Set<DataWithMediaType> withId(String eventId) {
+        if (eventId == null || eventId.isBlank()) return withoutId;
+
+        Set<DataWithMediaType> frame = new LinkedHashSet<>(2);
+        frame.add(new DataWithMediaType(("id:" + eventId + "\n").getBytes(StandardCharsets.UTF_8), MediaType.TEXT_PLAIN));
+        frame.add(new DataWithMediaType(body, MediaType.TEXT_PLAIN));
+        return frame;
+    }
+
+    /**
+     * 인코딩된 전체 프레임 크기 (id 라인 제외)
+     */
+    public int size() {
+        return body.length;
+    }
+
+    // SSE 규칙: data 안의 줄바꿈은 data: 라인을 여러 개로 나눈다
+    private static void appendData(StringBuilder sb, String data) {
+        int start = 0;
+        for (int i = 0; i < data.length(); i++) {
+            char c = data.charAt(i);
+            if (c == '\n' || c == '\r') {
+                sb.append("data:").append(data, start, i).append('\n');
+                if (c == '\r' && i + 1 < data.length() && data.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                start = i + 1;
+            }
+        }
+        sb.append("data:").append(data, start, data.length()).append('\n');
+    }
+}
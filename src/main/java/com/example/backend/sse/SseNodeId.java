@@ -0,0 +1,46 @@
+package com.example.backend.sse;
+
+import com.example.backend.config.SseProperties;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.UUID;
+
+/**
+ * 현재 인스턴스(노드)의 식별자
+ *
+ * - app.sse.node-id 가 지정되면 그대로 사용
+ * - 없으면 hostname + 랜덤 suffix (재기동 시 새 id → 이전 디렉토리 항목은 TTL로 자연 소멸)
+ */
+@Component
+public class SseNodeId {
+
+    private final String value;
+
+    public SseNodeId(SseProperties properties) {
+        String configured = properties.getNodeId();
+        this.value = (configured != null && !configured.isBlank())
+                ? configured.trim()
+                : hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public String channel() {
+        return channelOf(value);
+    }
+
+    public static String channelOf(String nodeId) {
+        return "sse:push:node:" + nodeId;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.backend.sse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 노드 간 pub/sub 으로 전달되는 SSE push 단위
+ *
+ * @param recipients 이 노드에서 받을 유저들
+ * @param eventIds   수신자별 SSE id (recipients 와 같은 순서, 모두 eventId 와 같으면 null)
+ * @param payload    이미 직렬화된 payload json (UTF-8)
+ */
+public record SsePushEnvelope(
+        List<UUID> recipients,
+        String eventName,
+        String eventId,
+        List<String> eventIds,
+        byte[] payload
+) {
+
+    public String eventIdFor(int recipientIndex) {
+        if (eventIds != null && recipientIndex < eventIds.size()) {
+            return eventIds.get(recipientIndex);
+        }
+        return eventId;
+    }
+}
@@ -1,7 +1,20 @@
 package com.example.backend.sse;
 
+import java.util.Collection;
 import java.util.UUID;
 
 public interface SsePushPort {
     void push(UUID userId, String eventName, Object payload, String eventId);
-}
\ No newline at end of file
+
+    /**
+     * 같은 이벤트를 여러 수신자에게 한 번에 보낸다.
+     * payload 직렬화 / replay 저장 / pub-sub 발행을 수신자 수와 무관하게 묶어서 처리한다.
+     */
+    void pushMany(Collection<UUID> userIds, String eventName, Object payload, String eventId);
+
+    /**
+     * replay 로그에 저장하지 않는 실시간 전용 이벤트 (presence 등)
+     * SSE id 도 붙이지 않으므로 클라이언트의 Last-Event-ID 를 덮어쓰지 않는다.
+     */
+    void pushManyTransient(Collection<UUID> userIds, String eventName, Object payload);
+}
@@ -0,0 +1,20 @@
+package com.example.backend.sse;
+
+import java.util.List;
+
+/**
+ * replay 조회 결과
+ *
+ * @param events lastEventId 이후 보관된 이벤트 (오래된 순)
+ * @param gap    lastEventId 가 보관분에서 이미 잘려(trim/만료) 누락 구간을 다 채울 수 없음
+ */
+public record SseReplay(List<SseStoredEvent> events, boolean gap) {
+
+    public static SseReplay of(List<SseStoredEvent> events) {
+        return new SseReplay(events, false);
+    }
+
+    public static SseReplay gap(List<SseStoredEvent> available) {
+        return new SseReplay(available, true);
+    }
+}
@@ -0,0 +1,6 @@
+ALTER TABLE messages
+    ADD COLUMN pin_candidate_json VARCHAR(1000) NULL,
+    ADD COLUMN pin_scanned TINYINT(1) NOT NULL DEFAULT 0;
+
+-- 기존 메시지 backfill 대상 조회용
+CREATE INDEX idx_messages_pin_scanned ON messages (pin_scanned, id);
@@ -0,0 +1,19 @@
+ALTER TABLE conversation_members
+    ADD COLUMN unread_count INT NOT NULL DEFAULT 0;
+
+-- 기존 멤버 초기값: 안읽은 메시지 수 (이후에는 증가/초기화로 유지, 정합성은 reconcile 작업이 보정)
+UPDATE conversation_members cm
+SET cm.unread_count = (
+    SELECT COUNT(*)
+    FROM messages m
+    WHERE m.conversation_id = cm.conversation_id
+      AND m.deleted = 0
+      AND m.sender_id <> cm.user_id
+      AND m.created_at > COALESCE(cm.last_read_at, '1970-01-01 00:00:00')
+      AND NOT EXISTS (
+          SELECT 1 FROM message_hidden h
+          WHERE h.message_id = m.id
+            AND h.user_id = cm.user_id
+      )
+)
+WHERE cm.deleted = 0;
@@ -0,0 +1,27 @@
+-- 오래된/삭제된 메시지 cold 보관 테이블 (MessageArchiveService 가 messages 에서 옮김)
+-- - 컬럼은 messages 와 동일 + archived_at
+-- - id 를 그대로 유지 → message_attachments / message_hidden 등 message_id 참조는 그대로 동작
+CREATE TABLE IF NOT EXISTS messages_archive (
+    id                 BINARY(16)    NOT NULL,
+    conversation_id    BINARY(16)    NOT NULL,
+    sender_id          BINARY(16)    NOT NULL,
+    type               VARCHAR(20)   NOT NULL,
+    content            TEXT          NULL,
+    metadata_json      TEXT          NULL,
+    locked_until       DATETIME(6)   NULL,
+    session_id         BINARY(16)    NULL,
+    deleted_at         DATETIME(6)   NULL,
+    edited_at          DATETIME(6)   NULL,
+    pin_candidate_json VARCHAR(1000) NULL,
+    pin_scanned        TINYINT(1)    NOT NULL DEFAULT 0,
+    deleted            TINYINT(1)    NOT NULL DEFAULT 0,
+    created_at         DATETIME(6)   NOT NULL,
+    update_at          DATETIME(6)   NOT NULL,
+    archived_at        DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_messages_archive_conv_deleted_created_id (conversation_id, deleted, created_at, id)
+);
+
+-- archiver 대상 조회용 (오래된 메시지 / 삭제된 메시지)
+CREATE INDEX idx_messages_created_at ON messages (created_at);
+CREATE INDEX idx_messages_deleted_deleted_at ON messages (deleted, deleted_at);
@@ -0,0 +1,10 @@
+-- 클라이언트 전송 키 (재시도 시 같은 메시지로 처리하기 위한 멱등 키)
+-- - (sender_id, client_message_key) unique: Redis dedup 캐시가 놓친 재시도의 최종 방어선
+-- - 키 없이 보낸 메시지는 NULL → unique 제약 대상 아님
+ALTER TABLE messages
+    ADD COLUMN client_message_key VARCHAR(64) NULL;
+
+CREATE UNIQUE INDEX uk_messages_sender_client_key ON messages (sender_id, client_message_key);
+
+ALTER TABLE messages_archive
+    ADD COLUMN client_message_key VARCHAR(64) NULL;
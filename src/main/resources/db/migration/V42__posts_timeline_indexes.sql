@@ -0,0 +1,5 @@
+-- 팔로잉 타임라인(Redis) 재구성 / 팔로우 backfill 조회용
+-- - 작성자별 최신 글: (author_id, deleted, created_at, id)
+-- - 전체 공개 최신 글: (visibility, deleted, created_at, id)
+CREATE INDEX idx_posts_author_deleted_created ON posts (author_id, deleted, created_at, id);
+CREATE INDEX idx_posts_visibility_deleted_created ON posts (visibility, deleted, created_at, id);
@@ -0,0 +1,6 @@
+-- 근처 피드 반경 검색: 위치를 geohash(9자리)로 저장하고 prefix 범위 조회
+-- - 기존 위치 게시글은 PostGeohashBackfillScheduler 가 채움
+ALTER TABLE posts
+    ADD COLUMN geohash VARCHAR(12) NULL;
+
+CREATE INDEX idx_posts_geohash ON posts (geohash);
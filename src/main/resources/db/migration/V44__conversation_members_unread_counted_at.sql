@@ -0,0 +1,3 @@
+-- unread_count 에 반영된 가장 최신 메시지 시각 (읽음 처리 시 이 시각까지 읽었을 때만 0 으로 초기화)
+ALTER TABLE conversation_members
+    ADD COLUMN unread_counted_at DATETIME(6) NULL;
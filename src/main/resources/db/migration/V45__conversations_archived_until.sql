@@ -0,0 +1,12 @@
+-- 대화방별 cold(messages_archive)에 옮겨진 (삭제 아닌) 메시지 중 가장 최신 시각
+-- - null 이면 보관된 메시지 없음 → 목록 조회가 messages_archive 를 보지 않음
+ALTER TABLE conversations
+    ADD COLUMN archived_until DATETIME(6) NULL;
+
+UPDATE conversations c
+SET c.archived_until = (
+    SELECT MAX(a.created_at)
+    FROM messages_archive a
+    WHERE a.conversation_id = c.id
+      AND a.deleted = 0
+);
@@ -0,0 +1,24 @@
+package com.example.backend.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeohashTest {
+
+    @Test
+    void 알려진_좌표를_인코딩한다() {
+        assertThat(Geohash.encode(57.64911, 10.40744, 9)).isEqualTo("u4pruydqq");
+    }
+
+    @Test
+    void 반경_셀은_반경_안의_점을_모두_덮는다() {
+        // 서울 시청 기준 반경 10km, 북동쪽 약 9km 지점
+        var cells = Geohash.coverCells(37.5665, 126.9780, 10.0);
+        String far = Geohash.encode(37.6235, 127.0500, Geohash.MAX_PRECISION);
+
+        assertThat(cells).hasSizeLessThanOrEqualTo(9);
+        assertThat(cells).anyMatch(far::startsWith);
+        assertThat(cells).anyMatch(Geohash.encode(37.5665, 126.9780, Geohash.MAX_PRECISION)::startsWith);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.backend.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PinCandidatePayloadsTest {
+
+    @Test
+    void 저장한_핀_후보를_그대로_복원한다() {
+        UUID messageId = UUID.randomUUID();
+        LocalDateTime startAt = LocalDateTime.of(2026, 2, 27, 19, 0);
+
+        String json = PinCandidatePayloads.encode("SCHEDULE", "약속", "홍대", startAt, startAt.minusHours(1));
+        var candidates = PinCandidatePayloads.decode(messageId, json);
+
+        assertThat(candidates).hasSize(1);
+        assertThat(candidates.get(0).candidateId()).isEqualTo("msg:" + messageId);
+        assertThat(candidates.get(0).placeText()).isEqualTo("홍대");
+        assertThat(candidates.get(0).startAt()).isEqualTo(startAt);
+        assertThat(candidates.get(0).reasonTags()).containsExactly("rule_based");
+    }
+
+    @Test
+    void 값이_없거나_깨졌으면_후보_없음() {
+        assertThat(PinCandidatePayloads.decode(UUID.randomUUID(), null)).isEmpty();
+        assertThat(PinCandidatePayloads.decode(UUID.randomUUID(), "{broken")).isEmpty();
+    }
+}
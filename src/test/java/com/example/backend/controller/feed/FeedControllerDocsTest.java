@@ -258,6 +258,8 @@ class FeedControllerDocsTest {
                         queryParameters(
                                 parameterWithName("lat").description("현재 위치 위도"),
                                 parameterWithName("lng").description("현재 위치 경도"),
+                                parameterWithName("radiusKm").optional().description("검색 반경(km, 기본 10, 최대 100)"),
+                                parameterWithName("cursor").optional().description("페이지 커서(distanceKm|id). 없으면 첫 페이지"),
                                 parameterWithName("size").optional().description("조회 개수(기본 30, 최대 50)")
                         ),
                         responseFields(
@@ -278,8 +280,8 @@ class FeedControllerDocsTest {
                                 fieldWithPath("items[].longitude").optional().type(NUMBER).description("게시글 위치 경도"),
                                 fieldWithPath("items[].placeName").optional().type(STRING).description("장소명"),
                                 fieldWithPath("items[].distanceKm").optional().type(NUMBER).description("현재 위치 기준 거리(km)"),
-                                fieldWithPath("nextCursor").optional().type(STRING).description("근처 피드는 현재 cursor를 사용하지 않으므로 null"),
-                                fieldWithPath("hasNext").type(BOOLEAN).description("근처 피드는 현재 단일 페이지 응답이므로 false")
+                                fieldWithPath("nextCursor").optional().type(STRING).description("다음 페이지 커서(없으면 null)"),
+                                fieldWithPath("hasNext").type(BOOLEAN).description("다음 페이지 존재 여부")
                         )
                 ));
     }
@@ -68,7 +68,7 @@ class MessageControllerDocsTest {
         UUID conversationId = conversationService.createOrGetDirect(me.getId(), target.getId());
 
         // controller DTO 그대로 사용
-        MessageSendRequest req = new MessageSendRequest("안녕! (REST Docs)", List.of());
+        MessageSendRequest req = new MessageSendRequest("안녕! (REST Docs)", List.of(), "c7f1e2d4-send-1");
 
         mockMvc.perform(post("/api/conversations/{conversationId}/messages", conversationId)
                         .header(HttpHeaders.AUTHORIZATION, DocsTestSupport.auth(token))
@@ -92,7 +92,8 @@ class MessageControllerDocsTest {
                         ),
                         requestFields(
                                 fieldWithPath("content").optional().type(STRING).description("메시지 내용(최대 5000자)"),
-                                fieldWithPath("attachmentIds").type(ARRAY).description("첨부 파일 ID 목록(없으면 빈 배열)")
+                                fieldWithPath("attachmentIds").type(ARRAY).description("첨부 파일 ID 목록(없으면 빈 배열)"),
+                                fieldWithPath("clientMessageKey").optional().type(STRING).description("클라이언트 전송 키(선택, 최대 64자). 같은 키로 재시도하면 처음 전송 응답을 그대로 반환")
                         ),
                         responseFields(
                                 fieldWithPath("messageId").type(STRING).description("메시지 ID"),
@@ -119,6 +120,36 @@ class MessageControllerDocsTest {
                 ));
     }
 
+    @Test
+    void 같은_전송키로_재시도하면_같은_메시지를_돌려준다(RestDocumentationContextProvider restDocumentation) throws Exception {
+        MockMvc mockMvc = mockMvc(restDocumentation);
+
+        var me = docs.saveUser("retryme", "나");
+        var target = docs.saveUser("retrytarget", "상대");
+        String token = docs.issueTokenFor(me);
+
+        UUID conversationId = conversationService.createOrGetDirect(me.getId(), target.getId());
+        MessageSendRequest req = new MessageSendRequest("재시도 메시지", List.of(), "retry-key-1");
+
+        String first = mockMvc.perform(post("/api/conversations/{conversationId}/messages", conversationId)
+                        .header(HttpHeaders.AUTHORIZATION, DocsTestSupport.auth(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String messageId = objectMapper.readTree(first).get("messageId").asText();
+
+        mockMvc.perform(post("/api/conversations/{conversationId}/messages", conversationId)
+                        .header(HttpHeaders.AUTHORIZATION, DocsTestSupport.auth(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.messageId").value(messageId));
+    }
+
     @Test
     void 메시지수정_200(RestDocumentationContextProvider restDocumentation) throws Exception {
         MockMvc mockMvc = mockMvc(restDocumentation);
@@ -0,0 +1,17 @@
+package com.example.backend.domain.user;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowerTierTest {
+
+    @Test
+    void 골드_이상만_읽을때_당겨오는_작성자다() {
+        assertThat(FollowerTier.of(499_999)).isEqualTo(FollowerTier.SILVER);
+        assertThat(FollowerTier.of(499_999).isPullOnRead()).isFalse();
+        assertThat(FollowerTier.of(500_000).isPullOnRead()).isTrue();
+        assertThat(FollowerTier.of(1_000_000)).isEqualTo(FollowerTier.PLATINUM);
+        assertThat(FollowerTier.PLATINUM.isPullOnRead()).isTrue();
+    }
+}
@@ -86,4 +86,22 @@ class RealtimeHealthServiceTest {
         assertThat(result.lastSseFailureMessage()).contains("redis publish failed");
         assertThat(result.sseFailureCount()).isEqualTo(1);
     }
+
+    @Test
+    void SSE_연결_거절과_정리_횟수를_노출한다() {
+        SseHealthTracker sseHealthTracker = new SseHealthTracker();
+        NotificationHealthTracker notificationHealthTracker = new NotificationHealthTracker();
+
+        sseHealthTracker.onConnectionRejected();
+        sseHealthTracker.onConnectionEvicted();
+        sseHealthTracker.onConnectionEvicted();
+
+        RealtimeHealthService service = new RealtimeHealthService(sseHealthTracker, notificationHealthTracker);
+
+        var result = service.getRealtimeHealth();
+
+        assertThat(result.sseRejectedConnectionCount()).isEqualTo(1);
+        assertThat(result.sseEvictedConnectionCount()).isEqualTo(2);
+        assertThat(result.notes()).anyMatch(note -> note.contains("거절"));
+    }
 }
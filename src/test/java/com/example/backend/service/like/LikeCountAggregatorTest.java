@@ -0,0 +1,102 @@
+package com.example.backend.service.like;
+
+import com.example.backend.repository.comment.CommentRepository;
+import com.example.backend.repository.post.PostRepository;
+import com.example.backend.service.post.FeedRenderCacheEvictor;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LikeCountAggregatorTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final FeedRenderCacheEvictor renderCacheEvictor = mock(FeedRenderCacheEvictor.class);
+    private final LikeCountAggregator sut = new LikeCountAggregator(
+            postRepository, commentRepository, renderCacheEvictor, mock(PlatformTransactionManager.class));
+
+    @Test
+    void 모인_증감을_대상당_한_번에_반영하고_상쇄된_대상은_건너뛴다() {
+        UUID hot = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        UUID comment = UUID.randomUUID();
+
+        sut.addPost(hot, 1);
+        sut.addPost(hot, 1);
+        sut.addPost(hot, 1);
+        sut.addPost(cancelled, 1);
+        sut.addPost(cancelled, -1);
+        sut.addComment(comment, -1);
+        assertThat(sut.pendingPostDelta(hot)).isEqualTo(3);
+
+        int flushed = sut.flush();
+
+        assertThat(flushed).isEqualTo(2);
+        verify(postRepository).addLikeCount(hot, 3L);
+        verify(postRepository, never()).addLikeCount(cancelled, 0L);
+        verify(commentRepository).addLikeCount(comment, -1L);
+        verify(renderCacheEvictor).evictPost(hot);
+        assertThat(sut.pendingCount()).isZero();
+        assertThat(sut.pendingPostDelta(hot)).isZero();
+    }
+
+    @Test
+    void 반영에_실패하면_증감을_다시_보관한다() {
+        UUID postId = UUID.randomUUID();
+        when(postRepository.addLikeCount(any(), anyLong())).thenThrow(new IllegalStateException("db down"));
+
+        sut.addPost(postId, 2);
+        assertThatThrownBy(sut::flush).isInstanceOf(IllegalStateException.class);
+        sut.addPost(postId, 1);
+
+        assertThat(sut.pendingPostDelta(postId)).isEqualTo(3);
+        verify(renderCacheEvictor, never()).evictPost(postId);
+    }
+
+    @Test
+    void 동시에_들어온_좋아요_증감을_잃지_않는다() throws Exception {
+        UUID hot = UUID.randomUUID();
+        int threads = 16;
+        int likesPerThread = 10_000;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < likesPerThread; i++) {
+                    sut.addPost(hot, 1);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> f : futures) f.get();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        long total = (long) threads * likesPerThread;
+        assertThat(sut.pendingPostDelta(hot)).isEqualTo(total);
+        sut.flush();
+        verify(postRepository).addLikeCount(hot, total);
+    }
+}
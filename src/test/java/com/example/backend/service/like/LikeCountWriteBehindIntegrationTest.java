@@ -0,0 +1,90 @@
+package com.example.backend.service.like;
+
+import com.example.backend.controller.DocsTestSupport;
+import com.example.backend.repository.like.LikeCountRow;
+import com.example.backend.repository.post.PostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 수 write-behind 를 실제 트랜잭션/H2 로 확인 (커밋 후 반영, 롤백 제외, reconcile 복구)
+ * - 커밋이 필요하므로 클래스 단위 @Transactional 을 쓰지 않는다
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LikeCountWriteBehindIntegrationTest {
+
+    @Autowired DocsTestSupport docs;
+    @Autowired PostLikeService postLikeService;
+    @Autowired LikeCountAggregator likeCountAggregator;
+    @Autowired LikeCountReconcileService reconcileService;
+    @Autowired PostRepository postRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+
+    @Test
+    void 커밋된_좋아요만_flush_후_like_count_에_반영된다() {
+        var author = docs.saveUser("likewbauthor", "작성자");
+        var liker = docs.saveUser("likewbliker", "좋아요유저");
+        var rolledBack = docs.saveUser("likewbrollback", "롤백유저");
+        UUID postId = docs.savePost(author.getId(), "write-behind 확인").getId();
+
+        postLikeService.like(liker.getId(), postId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            postLikeService.like(rolledBack.getId(), postId);
+            status.setRollbackOnly();
+        });
+
+        likeCountAggregator.flush();
+
+        assertThat(likeCount(postId)).isEqualTo(1);
+        assertThat(likeCountAggregator.pendingPostDelta(postId)).isZero();
+    }
+
+    @Test
+    void flush_전에_잃은_증감은_reconcile_이_좋아요_row_수로_복구한다() {
+        var author = docs.saveUser("likercauthor", "작성자");
+        var liker = docs.saveUser("likercliker", "좋아요유저");
+        UUID postId = docs.savePost(author.getId(), "reconcile 확인").getId();
+
+        postLikeService.like(liker.getId(), postId);
+        likeCountAggregator.flush();
+
+        // 노드가 flush 전에 죽은 상황: post_likes 는 있는데 like_count 는 그대로
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                postRepository.addLikeCount(postId, -1));
+        assertThat(likeCount(postId)).isZero();
+
+        Map<UUID, LikeCountRow> drifted = scanAll();
+        assertThat(drifted).containsKey(postId);
+
+        reconcileService.repairPosts(drifted);
+
+        assertThat(likeCount(postId)).isEqualTo(1);
+    }
+
+    private Map<UUID, LikeCountRow> scanAll() {
+        Map<UUID, LikeCountRow> drifted = new HashMap<>();
+        UUID after = LikeCountReconcileService.FIRST;
+        while (true) {
+            var result = reconcileService.scanPosts(after, 500);
+            drifted.putAll(result.drifted());
+            if (result.scanned() < 500) return drifted;
+            after = result.lastId();
+        }
+    }
+
+    private long likeCount(UUID postId) {
+        return postRepository.findById(postId).orElseThrow().getLikeCount();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.service.message;
+
+import com.example.backend.domain.message.ConversationMember;
+import com.example.backend.repository.message.ConversationMemberRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConversationAccessCacheTest {
+
+    private final ConversationMemberRepository memberRepository = mock(ConversationMemberRepository.class);
+    private final ConversationAccessCache sut = new ConversationAccessCache(memberRepository, 60_000, 100);
+
+    @Test
+    void 반복_확인은_DB를_한번만_조회한다() {
+        UUID conversationId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        when(memberRepository.findByConversationIdAndUserId(conversationId, userId))
+                .thenReturn(Optional.of(ConversationMember.join(conversationId, userId)));
+
+        assertThat(sut.isMember(conversationId, userId)).isTrue();
+        assertThat(sut.isMember(conversationId, userId)).isTrue();
+        assertThat(sut.get(conversationId, userId).lockEnabled()).isFalse();
+
+        verify(memberRepository, times(1)).findByConversationIdAndUserId(conversationId, userId);
+        assertThat(sut.getHitCount()).isEqualTo(2);
+        assertThat(sut.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 무효화하면_멤버_아님_캐시가_초대_후_상태로_바뀐다() {
+        UUID conversationId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        when(memberRepository.findByConversationIdAndUserId(conversationId, userId))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(ConversationMember.join(conversationId, userId)));
+
+        assertThat(sut.isMember(conversationId, userId)).isFalse();
+        assertThat(sut.isMember(conversationId, userId)).isFalse();
+
+        sut.invalidate(conversationId, userId);
+
+        assertThat(sut.isMember(conversationId, userId)).isTrue();
+        verify(memberRepository, times(2)).findByConversationIdAndUserId(conversationId, userId);
+    }
+}
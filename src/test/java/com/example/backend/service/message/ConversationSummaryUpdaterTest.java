@@ -0,0 +1,53 @@
+package com.example.backend.service.message;
+
+import com.example.backend.repository.message.ConversationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ConversationSummaryUpdaterTest {
+
+    private final ConversationRepository conversationRepository = mock(ConversationRepository.class);
+    private final ConversationSummaryUpdater sut =
+            new ConversationSummaryUpdater(conversationRepository, mock(PlatformTransactionManager.class));
+
+    @Test
+    void 같은_대화방은_가장_최신_요약만_반영한다() {
+        UUID conversationId = UUID.randomUUID();
+        UUID older = UUID.randomUUID();
+        UUID newer = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+        sut.submit(conversationId, newer, now, "newer");
+        sut.submit(conversationId, older, now.minusSeconds(1), "older");
+
+        assertThat(sut.pendingCount()).isEqualTo(1);
+
+        sut.flush();
+
+        verify(conversationRepository).updateLastMessageIfNewer(conversationId, newer, now, "newer");
+        verify(conversationRepository, times(1)).updateLastMessageIfNewer(any(), any(), any(), any());
+        assertThat(sut.pendingCount()).isZero();
+    }
+
+    @Test
+    void 같은_메시지_수정은_preview만_교체한다() {
+        UUID conversationId = UUID.randomUUID();
+        UUID messageId = UUID.randomUUID();
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+        sut.submit(conversationId, messageId, at, "before");
+        sut.submit(conversationId, messageId, at, "after");
+        sut.flush();
+
+        verify(conversationRepository).updateLastMessageIfNewer(conversationId, messageId, at, "after");
+    }
+}
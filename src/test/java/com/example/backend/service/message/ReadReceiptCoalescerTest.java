@@ -0,0 +1,98 @@
+package com.example.backend.service.message;
+
+import com.example.backend.domain.message.ConversationMember;
+import com.example.backend.domain.message.event.ConversationReadEvent;
+import com.example.backend.repository.message.ConversationMemberRepository;
+import com.example.backend.repository.message.MessageRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadReceiptCoalescerTest {
+
+    private final ConversationMemberRepository memberRepository = mock(ConversationMemberRepository.class);
+    private final MessageRepository messageRepository = mock(MessageRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final UnreadCounterUpdater unreadCounterUpdater = mock(UnreadCounterUpdater.class);
+    private final ReadReceiptCoalescer sut = new ReadReceiptCoalescer(
+            memberRepository, messageRepository, eventPublisher,
+            unreadCounterUpdater, mock(PlatformTransactionManager.class));
+
+    @Test
+    void 같은_방_반복_읽음은_가장_최신_위치로_한번만_반영하고_한번만_발행한다() {
+        UUID conversationId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID olderId = UUID.randomUUID();
+        UUID newestId = UUID.randomUUID();
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+        sut.submit(conversationId, userId, olderId, at, true);
+        sut.submit(conversationId, userId, newestId, at.plusSeconds(5), false);
+        sut.submit(conversationId, userId, olderId, at.plusSeconds(1), true);
+
+        assertThat(sut.pendingCount()).isEqualTo(1);
+        when(memberRepository.markReadIfLater(conversationId, userId, at.plusSeconds(5))).thenReturn(1);
+        when(memberRepository.markBroadcastRead(conversationId, userId, newestId)).thenReturn(1);
+
+        sut.flush();
+
+        verify(memberRepository).markReadIfLater(conversationId, userId, at.plusSeconds(5));
+        verify(eventPublisher, times(1)).publishEvent(any(ConversationReadEvent.class));
+        assertThat(sut.pendingCount()).isZero();
+    }
+
+    @Test
+    void 목록_조회_자동_읽음이_먼저_반영돼도_명시적_읽음은_발행한다() {
+        UUID conversationId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        UUID lastId = UUID.randomUUID();
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+        // 1) 방 입장(목록 조회) flush → last_read_at 이 이미 최신 메시지까지 이동
+        when(memberRepository.markReadIfLater(conversationId, userId, at)).thenReturn(1, 0);
+        sut.submit(conversationId, userId, lastId, at, false);
+        sut.flush();
+        verify(eventPublisher, never()).publishEvent(any(ConversationReadEvent.class));
+        verify(memberRepository, never()).markBroadcastRead(any(), any(), any());
+
+        // 2) 같은 메시지로 명시적 읽음 flush → last_read_at 은 그대로지만 읽음 SSE 는 발행
+        when(memberRepository.markBroadcastRead(conversationId, userId, lastId)).thenReturn(1);
+        sut.submit(conversationId, userId, lastId, at, true);
+        sut.flush();
+
+        verify(eventPublisher, times(1)).publishEvent(new ConversationReadEvent(conversationId, userId, at));
+    }
+
+    @Test
+    void 반영_안_된_안읽은_수_증가분이_있으면_먼저_반영하고_남으면_재계산을_건너뛴다() {
+        UUID conversationId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        LocalDateTime at = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+        ConversationMember member = mock(ConversationMember.class);
+        when(member.getUnreadCountedAt()).thenReturn(at.plusSeconds(10));
+        when(memberRepository.findByConversationIdAndUserId(conversationId, userId)).thenReturn(Optional.of(member));
+        when(memberRepository.markReadIfLater(conversationId, userId, at)).thenReturn(1);
+        when(unreadCounterUpdater.hasPending(conversationId)).thenReturn(true);
+
+        sut.submit(conversationId, userId, null, at, false);
+        sut.flush();
+
+        verify(unreadCounterUpdater).flush();
+        verify(messageRepository, never()).countUnreadBetween(any(), any(), any(), any());
+        verify(memberRepository, never()).setUnreadIfCountedAt(any(), any(), anyInt(), any());
+    }
+}
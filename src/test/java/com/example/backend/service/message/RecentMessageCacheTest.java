@@ -0,0 +1,62 @@
+package com.example.backend.service.message;
+
+import com.example.backend.controller.message.dto.MessageListResponse;
+import com.example.backend.domain.message.MessageHidden;
+import com.example.backend.repository.message.MessageHiddenRepository;
+import com.example.backend.repository.message.MessageQueryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecentMessageCacheTest {
+
+    private final MessageQueryRepository messageQueryRepository = mock(MessageQueryRepository.class);
+    private final MessageHiddenRepository hiddenRepository = mock(MessageHiddenRepository.class);
+    private final RecentMessageCache sut = new RecentMessageCache(
+            messageQueryRepository, hiddenRepository, mock(PlatformTransactionManager.class), 5, 1_000_000, 60_000);
+
+    private final LocalDateTime base = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+    @Test
+    void 첫_페이지는_창에서_숨김을_빼고_내주고_새_메시지는_DB_없이_반영된다() {
+        UUID conversationId = UUID.randomUUID();
+        UUID me = UUID.randomUUID();
+        var m3 = item(3);
+        var m2 = item(2);
+        var m1 = item(1);
+        when(messageQueryRepository.fetchPage(conversationId, null, null, null, 5)).thenReturn(List.of(m3, m2, m1));
+        when(hiddenRepository.findAllByMessageIdIn(any())).thenReturn(List.of(MessageHidden.hide(me, m2.messageId())));
+
+        var first = sut.firstPage(conversationId, me, 2);
+        assertThat(first).isPresent();
+        assertThat(first.get()).extracting(MessageListResponse.Item::messageId)
+                .containsExactly(m3.messageId(), m1.messageId());
+
+        var m4 = item(4);
+        sut.append(conversationId, m4);
+
+        var second = sut.firstPage(conversationId, me, 2);
+        assertThat(second.get()).extracting(MessageListResponse.Item::messageId)
+                .containsExactly(m4.messageId(), m3.messageId(), m1.messageId());
+
+        verify(messageQueryRepository, times(1)).fetchPage(conversationId, null, null, null, 5);
+        assertThat(sut.getHitCount()).isEqualTo(1);
+        assertThat(sut.getMissCount()).isEqualTo(1);
+    }
+
+    private MessageListResponse.Item item(int minute) {
+        return new MessageListResponse.Item(
+                UUID.randomUUID(), UUID.randomUUID(), "TEXT", "hi " + minute, null, null,
+                base.plusMinutes(minute), null, List.of(), List.of());
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.backend.service.message;
+
+import com.example.backend.repository.message.ConversationMemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class UnreadCounterUpdaterTest {
+
+    private final ConversationMemberRepository memberRepository = mock(ConversationMemberRepository.class);
+    private final UnreadCounterUpdater sut =
+            new UnreadCounterUpdater(memberRepository, mock(PlatformTransactionManager.class));
+
+    @Test
+    void 같은_대화방_같은_보낸사람의_메시지는_한번의_update로_합친다() {
+        UUID conversationId = UUID.randomUUID();
+        UUID senderId = UUID.randomUUID();
+        LocalDateTime first = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+        sut.onMessageSent(conversationId, senderId, first);
+        sut.onMessageSent(conversationId, senderId, first.plusSeconds(2));
+        sut.onMessageSent(conversationId, senderId, first.plusSeconds(1));
+
+        assertThat(sut.pendingCount()).isEqualTo(1);
+
+        sut.flush();
+
+        // 묶음보다 앞까지 읽은 멤버는 한 번에 +3
+        verify(memberRepository).incrementUnread(conversationId, senderId, 3, first, first.plusSeconds(2));
+        // 묶음 중간까지 읽은 멤버는 읽음 위치 이후 메시지만
+        verify(memberRepository).incrementUnreadReadBetween(conversationId, senderId, 1, first, first.plusSeconds(1));
+        verify(memberRepository).incrementUnreadReadBetween(conversationId, senderId, 1, first, first.plusSeconds(2));
+        assertThat(sut.pendingCount()).isZero();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.backend.service.post;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class FeedRenderCacheEvictorTest {
+
+    private final FeedRenderCache renderCache = mock(FeedRenderCache.class);
+    private final FeedRenderCacheEvictor sut = new FeedRenderCacheEvictor(renderCache);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋_후에_게시글_렌더_캐시를_지운다() {
+        UUID postId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        sut.evictPost(postId);
+        verify(renderCache, never()).evictPost(postId);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(renderCache).evictPost(postId);
+    }
+
+    @Test
+    void 트랜잭션_밖에서는_바로_지운다() {
+        UUID userId = UUID.randomUUID();
+
+        sut.evictAuthor(userId);
+
+        verify(renderCache).evictAuthor(userId);
+    }
+}
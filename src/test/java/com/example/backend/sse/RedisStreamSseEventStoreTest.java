@@ -0,0 +1,120 @@
+package com.example.backend.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisStreamSseEventStoreTest {
+
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final StreamOperations<String, Object, Object> stream = mock(StreamOperations.class);
+    private final RedisStreamSseEventStore sut = new RedisStreamSseEventStore(redis, new ObjectMapper());
+
+    private final UUID userId = UUID.randomUUID();
+    private final String key = "sse:stream:" + userId;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(stream).when(redis).opsForStream();
+    }
+
+    @Test
+    void 커서가_보관분에_있으면_그_뒤_이벤트만_gap_없이_돌려준다() {
+        when(stream.range(eq(key), any(), any())).thenReturn(List.of(
+                record("100-0", "msg:a"),
+                record("101-0", "msg:b"),
+                record("102-0", "msg:c")
+        ));
+
+        SseReplay replay = sut.replay(userId, "msg:a@100-0");
+
+        assertThat(replay.gap()).isFalse();
+        assertThat(replay.events()).extracting(SseStoredEvent::id)
+                .containsExactly("msg:b@101-0", "msg:c@102-0");
+    }
+
+    @Test
+    void 커서가_trim_으로_사라졌으면_남은_이벤트와_gap_을_돌려준다() {
+        when(stream.range(eq(key), any(), any())).thenReturn(List.of(
+                record("150-0", "msg:x"),
+                record("151-0", "msg:y")
+        ));
+
+        SseReplay replay = sut.replay(userId, "msg:a@100-0");
+
+        assertThat(replay.gap()).isTrue();
+        assertThat(replay.events()).extracting(SseStoredEvent::id)
+                .containsExactly("msg:x@150-0", "msg:y@151-0");
+    }
+
+    @Test
+    void 커서_뒤가_보관_개수를_넘으면_앞쪽만_보내고_gap_으로_알린다() {
+        List<MapRecord<String, Object, Object>> records = new ArrayList<>();
+        records.add(record("100-0", "msg:a"));
+        for (int i = 1; i <= 201; i++) {
+            records.add(record((100 + i) + "-0", "msg:" + i));
+        }
+        when(stream.range(eq(key), any(), any())).thenReturn(records);
+
+        SseReplay replay = sut.replay(userId, "msg:a@100-0");
+
+        assertThat(replay.gap()).isTrue();
+        assertThat(replay.events()).hasSize(200);
+        assertThat(replay.events().get(0).id()).isEqualTo("msg:1@101-0");
+    }
+
+    @Test
+    void 커서_없는_이전_id는_역순으로_찾아_그_뒤_이벤트를_오래된_순으로_돌려준다() {
+        when(stream.reverseRange(eq(key), any(), any())).thenReturn(List.of(
+                record("102-0", "msg:c"),
+                record("101-0", "msg:b"),
+                record("100-0", "msg:a")
+        ));
+
+        SseReplay replay = sut.replay(userId, "msg:a");
+
+        assertThat(replay.gap()).isFalse();
+        assertThat(replay.events()).extracting(SseStoredEvent::id)
+                .containsExactly("msg:b@101-0", "msg:c@102-0");
+        verify(stream, never()).range(any(), any(), any());
+    }
+
+    @Test
+    void 커서_없는_이전_id를_보관분에서_못_찾으면_전체와_gap_을_돌려준다() {
+        when(stream.reverseRange(eq(key), any(), any())).thenReturn(List.of(
+                record("102-0", "msg:c"),
+                record("101-0", "msg:b")
+        ));
+
+        SseReplay replay = sut.replay(userId, "msg:gone");
+
+        assertThat(replay.gap()).isTrue();
+        assertThat(replay.events()).extracting(SseStoredEvent::id)
+                .containsExactly("msg:b@101-0", "msg:c@102-0");
+    }
+
+    private MapRecord<String, Object, Object> record(String streamId, String eventId) {
+        Map<Object, Object> fields = Map.of("id", eventId, "name", "message-created", "json", "{}");
+        return StreamRecords.newRecord().in(key).withId(RecordId.of(streamId)).ofMap(fields);
+    }
+}
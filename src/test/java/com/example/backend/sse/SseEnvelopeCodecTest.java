@@ -0,0 +1,72 @@
+package com.example.backend.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SseEnvelopeCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SseEnvelopeCodec codec = new SseEnvelopeCodec(objectMapper);
+
+    @Test
+    void 바이너리_envelope를_그대로_복원한다() throws Exception {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        byte[] payload = "{\"content\":\"안녕\"}".getBytes(StandardCharsets.UTF_8);
+
+        byte[] body = codec.encode(new SsePushEnvelope(
+                List.of(a, b), "message-created", "msg:1", List.of("msg:1@1-0", "msg:1@2-0"), payload));
+        SsePushEnvelope decoded = codec.decode(body);
+
+        assertThat(body[0]).isEqualTo(SseEnvelopeCodec.VERSION_1);
+        assertThat(decoded.recipients()).containsExactly(a, b);
+        assertThat(decoded.eventName()).isEqualTo("message-created");
+        assertThat(decoded.eventId()).isEqualTo("msg:1");
+        assertThat(decoded.eventIdFor(1)).isEqualTo("msg:1@2-0");
+        assertThat(decoded.payload()).isEqualTo(payload);
+    }
+
+    @Test
+    void 코드표에_없는_이벤트명과_null_id도_처리한다() throws Exception {
+        UUID a = UUID.randomUUID();
+
+        SsePushEnvelope decoded = codec.decode(codec.encode(
+                new SsePushEnvelope(List.of(a), "custom-event", null, null, new byte[0])));
+
+        assertThat(decoded.eventName()).isEqualTo("custom-event");
+        assertThat(decoded.eventId()).isNull();
+        assertThat(decoded.eventIds()).isNull();
+        assertThat(decoded.eventIdFor(0)).isNull();
+    }
+
+    @Test
+    void 구버전_JSON_envelope는_fallback으로_읽는다() throws Exception {
+        UUID a = UUID.randomUUID();
+        byte[] legacy = objectMapper.writeValueAsBytes(new RedisSsePubSub.PushMessage(
+                a.toString(), null, "notification-created", "noti:1", null, "{\"body\":\"hi\"}"));
+
+        SsePushEnvelope decoded = codec.decode(legacy);
+
+        assertThat(decoded.recipients()).containsExactly(a);
+        assertThat(decoded.eventName()).isEqualTo("notification-created");
+        assertThat(new String(decoded.payload(), StandardCharsets.UTF_8)).isEqualTo("{\"body\":\"hi\"}");
+    }
+
+    @Test
+    void 잘린_envelope는_IOException() {
+        byte[] body = codec.encode(new SsePushEnvelope(
+                List.of(UUID.randomUUID()), "pin-created", "p1", null, "{}".getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(body, body.length - 3)))
+                .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.backend.sse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseEventIdsTest {
+
+    @Test
+    void 커서를_붙이고_다시_꺼낼_수_있다() {
+        String sseId = SseEventIds.withCursor("msg:7c9e6679-7425-40de-944b-e07fc1f90ae7", "1718000000000-3");
+
+        assertThat(sseId).isEqualTo("msg:7c9e6679-7425-40de-944b-e07fc1f90ae7@1718000000000-3");
+        assertThat(SseEventIds.cursorOf(sseId)).isEqualTo("1718000000000-3");
+    }
+
+    @Test
+    void 커서가_없거나_형식이_아니면_null() {
+        assertThat(SseEventIds.cursorOf(null)).isNull();
+        assertThat(SseEventIds.cursorOf("msg:7c9e6679-7425-40de-944b-e07fc1f90ae7")).isNull();
+        assertThat(SseEventIds.cursorOf("msg:abc@")).isNull();
+        assertThat(SseEventIds.cursorOf("msg:abc@1718000000000")).isNull();
+        assertThat(SseEventIds.cursorOf("msg:abc@17180x0000000-0")).isNull();
+    }
+
+    @Test
+    void 커서가_비어있으면_id를_그대로_둔다() {
+        assertThat(SseEventIds.withCursor("noti:abc", null)).isEqualTo("noti:abc");
+        assertThat(SseEventIds.withCursor(null, "1-0")).isNull();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.sse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseFrameTest {
+
+    @Test
+    void 이벤트명과_json을_SSE_라인으로_인코딩한다() {
+        SseFrame frame = SseFrame.of("message-created", "{\"content\":\"안녕\"}");
+
+        assertThat(text(frame.withoutId())).isEqualTo("event:message-created\ndata:{\"content\":\"안녕\"}\n\n");
+    }
+
+    @Test
+    void id는_수신자별로_앞에_붙고_본문_바이트는_공유한다() {
+        SseFrame frame = SseFrame.of("pin-created", "{}");
+
+        Set<DataWithMediaType> a = frame.withId("a@1-0");
+        Set<DataWithMediaType> b = frame.withId("b@2-0");
+
+        assertThat(text(a)).isEqualTo("id:a@1-0\nevent:pin-created\ndata:{}\n\n");
+        assertThat(text(b)).isEqualTo("id:b@2-0\nevent:pin-created\ndata:{}\n\n");
+        assertThat(a.stream().skip(1).findFirst().orElseThrow().getData())
+                .isSameAs(b.stream().skip(1).findFirst().orElseThrow().getData());
+    }
+
+    @Test
+    void 줄바꿈이_있는_data는_여러_data_라인으로_나눈다() {
+        SseFrame frame = SseFrame.of("ping", "a\nb\r\nc");
+
+        assertThat(text(frame.withId(null))).isEqualTo("event:ping\ndata:a\ndata:b\ndata:c\n\n");
+    }
+
+    @Test
+    void UTF8_바이트_payload도_같은_프레임으로_인코딩한다() {
+        SseFrame fromBytes = SseFrame.of("message-created", "{\"content\":\"안녕\"}".getBytes(StandardCharsets.UTF_8));
+        SseFrame fromString = SseFrame.of("message-created", "{\"content\":\"안녕\"}");
+
+        assertThat(text(fromBytes.withId("m1"))).isEqualTo(text(fromString.withId("m1")));
+    }
+
+    private static String text(Set<DataWithMediaType> frame) {
+        StringBuilder sb = new StringBuilder();
+        for (DataWithMediaType part : frame) {
+            sb.append(new String((byte[]) part.getData(), StandardCharsets.UTF_8));
+        }
+        return sb.toString();
+    }
+}